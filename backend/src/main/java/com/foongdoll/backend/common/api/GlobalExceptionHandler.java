@@ -75,6 +75,7 @@ public class GlobalExceptionHandler {
             case CONFLICT -> ErrorCode.CONFLICT;
             case PAYLOAD_TOO_LARGE -> ErrorCode.PAYLOAD_TOO_LARGE;
             case UNSUPPORTED_MEDIA_TYPE -> ErrorCode.UNSUPPORTED_MEDIA_TYPE;
+            case TOO_MANY_REQUESTS -> ErrorCode.TOO_MANY_REQUESTS;
             default -> ErrorCode.INTERNAL_ERROR;
         };
     }
@@ -0,0 +1,110 @@
+package com.foongdoll.backend.common.persistence;
+
+import com.foongdoll.backend.common.util.CompressionUtils;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 큰 텍스트 컬럼을 투명하게 압축한다.
+ * 임계값 미만은 평문 그대로 두고, 이상이면 {@value #MARKER} + Base64(MySQL COMPRESS 포맷) 로 저장한다.
+ * MySQL COMPRESS 포맷(4바이트 LE 원본 길이 + zlib)이므로 SQL 에서도
+ * {@code CONVERT(UNCOMPRESS(FROM_BASE64(SUBSTRING(col, 6))) USING utf8mb4)} 로 복원할 수 있다.
+ */
+@Slf4j
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    public static final String MARKER = "~dz1~";
+    public static final int THRESHOLD = 4096;
+
+    private static final LongAdder encoded = new LongAdder();
+    private static final LongAdder rawBytes = new LongAdder();
+    private static final LongAdder storedBytes = new LongAdder();
+    private static final LongAdder decoded = new LongAdder();
+    private static final LongAdder decodeNanos = new LongAdder();
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        boolean ambiguous = attribute.startsWith(MARKER);
+        if (attribute.length() < THRESHOLD && !ambiguous) {
+            return attribute;
+        }
+        String compressed = compress(attribute);
+        if (compressed.length() >= attribute.length() && !ambiguous) {
+            return attribute;
+        }
+        encoded.increment();
+        rawBytes.add(attribute.getBytes(StandardCharsets.UTF_8).length);
+        storedBytes.add(compressed.length());
+        return compressed;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        if (!isCompressed(dbData)) {
+            return dbData;
+        }
+        long started = System.nanoTime();
+        try {
+            byte[] packed = Base64.getDecoder().decode(dbData.substring(MARKER.length()));
+            byte[] zlib = new byte[packed.length - 4];
+            System.arraycopy(packed, 4, zlib, 0, zlib.length);
+            return CompressionUtils.inflateToString(zlib);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to decode compressed column, returning raw value: {}", ex.getMessage());
+            return dbData;
+        } finally {
+            decoded.increment();
+            decodeNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    public static boolean isCompressed(String dbData) {
+        return dbData != null && dbData.startsWith(MARKER);
+    }
+
+    public static String compress(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        byte[] zlib = CompressionUtils.deflate(raw);
+        byte[] packed = new byte[zlib.length + 4];
+        int length = raw.length & 0x3FFFFFFF;
+        packed[0] = (byte) length;
+        packed[1] = (byte) (length >>> 8);
+        packed[2] = (byte) (length >>> 16);
+        packed[3] = (byte) (length >>> 24);
+        System.arraycopy(zlib, 0, packed, 4, zlib.length);
+        return MARKER + Base64.getEncoder().encodeToString(packed);
+    }
+
+    public static Stats stats() {
+        long raw = rawBytes.sum();
+        long stored = storedBytes.sum();
+        long decodes = decoded.sum();
+        return new Stats(
+                encoded.sum(),
+                raw,
+                stored,
+                raw == 0 ? 1d : (double) stored / raw,
+                decodes,
+                decodes == 0 ? 0d : decodeNanos.sum() / 1_000d / decodes
+        );
+    }
+
+    public record Stats(
+            long encodedValues,
+            long rawBytes,
+            long storedBytes,
+            double compressionRatio,
+            long decodedValues,
+            double averageDecodeMicros
+    ) {
+    }
+}
@@ -1,7 +1,10 @@
 package com.foongdoll.backend.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collections;
@@ -12,35 +15,42 @@ import java.util.Map;
 public final class JsonUtils {
 
     private static final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private static final ObjectReader mapReader = mapper.readerFor(new TypeReference<LinkedHashMap<String, Object>>() {
+    });
+    private static final ObjectWriter mapWriter = mapper.writerFor(new TypeReference<Map<String, Object>>() {
+    });
 
     private JsonUtils() {
     }
 
     public static String toJson(Map<String, Object> data) {
-        if (data == null) {
+        if (data == null || data.isEmpty()) {
             return "{}";
         }
         try {
-            return mapper.writeValueAsString(data);
+            return mapWriter.writeValueAsString(data);
         } catch (JsonProcessingException e) {
             log.warn("Failed to serialize map to json: {}", e.getMessage());
             return "{}";
         }
     }
 
-    @SuppressWarnings("unchecked")
     public static Map<String, Object> toMap(String json) {
         if (json == null || json.isBlank()) {
             return new LinkedHashMap<>();
         }
         try {
-            return mapper.readValue(json, LinkedHashMap.class);
+            return mapReader.readValue(json);
         } catch (JsonProcessingException e) {
             log.warn("Failed to deserialize json to map: {}", e.getMessage());
             return new LinkedHashMap<>();
         }
     }
 
+    public static boolean isEmptyObject(String json) {
+        return json == null || json.isBlank() || "{}".equals(json.strip());
+    }
+
     public static Map<String, Object> immutableCopy(Map<String, Object> data) {
         if (data == null || data.isEmpty()) {
             return Collections.emptyMap();
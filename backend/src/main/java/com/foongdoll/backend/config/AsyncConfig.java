@@ -25,6 +25,30 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // 마크다운 렌더링 전용. 큰 문서가 몰려도 요청 스레드나 asyncExecutor 를 잠식하지 않도록 따로 제한한다.
+    @Bean(name = "markdownRenderExecutor")
+    public ThreadPoolTaskExecutor markdownRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("dailyon-markdown-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 썸네일 생성 전용. 이미지 디코딩은 CPU/메모리를 많이 쓰므로 asyncExecutor 와 분리하고 큐 길이를 제한한다.
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("dailyon-thumbnail-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
@@ -0,0 +1,161 @@
+package com.foongdoll.backend.modules.file.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.file.domain.Attachment;
+import com.foongdoll.backend.modules.file.domain.AttachmentRepository;
+import com.foongdoll.backend.modules.file.domain.FileBlobRepository;
+import com.foongdoll.backend.modules.file.domain.Thumbnail;
+import com.foongdoll.backend.modules.file.presentation.dto.AttachmentDtos;
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttachmentService {
+
+    public static final long MAX_FILE_SIZE = 20L * 1024 * 1024;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final AttachmentRepository attachmentRepository;
+    private final FileBlobRepository blobRepository;
+    private final NoteRepository noteRepository;
+    private final FileStorage storage;
+    private final ThumbnailPipeline thumbnailPipeline;
+    private final FileBlobReaper reaper;
+
+    public List<AttachmentDtos.AttachmentResponse> list(Long userId, Long noteId) {
+        requireNote(userId, noteId);
+        return attachmentRepository.findByNoteIdOrderByIdAsc(noteId).stream()
+                .map(AttachmentDtos.AttachmentResponse::from)
+                .toList();
+    }
+
+    /**
+     * 파일은 임시 위치로 스트리밍하면서 해시를 계산하고, file_blobs 행을 잡은 뒤에 해시 위치로 옮긴다.
+     * 같은 해시를 지우는 요청과는 그 행 잠금으로 순서가 정해진다. 트랜잭션이 롤백되면 옮긴 파일은 FileBlobReaper 가 치운다.
+     */
+    @Transactional
+    public AttachmentDtos.AttachmentResponse upload(Long userId, Long noteId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "첨부할 파일을 선택해주세요.");
+        }
+        Note note = requireNote(userId, noteId);
+
+        FileStorage.StagedFile staged;
+        try (InputStream in = file.getInputStream()) {
+            staged = storage.stage(in, MAX_FILE_SIZE);
+        } catch (FileStorage.TooLargeException ex) {
+            throw new DailyonException(ErrorCode.PAYLOAD_TOO_LARGE, "첨부 파일은 20MB 이하만 업로드할 수 있습니다.");
+        } catch (IOException ex) {
+            throw new DailyonException(ErrorCode.INTERNAL_ERROR, "파일을 저장하지 못했습니다.");
+        }
+
+        try {
+            blobRepository.acquire(staged.hash(), staged.size());
+            storage.commit(staged);
+            reaper.deleteOnRollback(staged.hash());
+        } catch (IOException ex) {
+            throw new DailyonException(ErrorCode.INTERNAL_ERROR, "파일을 저장하지 못했습니다.");
+        } finally {
+            storage.discard(staged);
+        }
+
+        Attachment attachment = Attachment.builder()
+                .note(note)
+                .owner(note.getAuthor())
+                .originalName(originalName(file))
+                .contentType(contentType(file))
+                .contentHash(staged.hash())
+                .size(staged.size())
+                .build();
+        Attachment saved = attachmentRepository.save(attachment);
+        if (saved.isImage()) {
+            thumbnailPipeline.request(saved.getContentHash());
+        }
+        return AttachmentDtos.AttachmentResponse.from(saved);
+    }
+
+    public Attachment getForDownload(Long userId, Long noteId, Long attachmentId) {
+        return attachmentRepository.findByIdAndOwnerId(attachmentId, userId)
+                .filter(attachment -> attachment.getNote().getId().equals(noteId))
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "첨부 파일을 찾을 수 없습니다."));
+    }
+
+    @Transactional
+    public ThumbnailPipeline.Lookup thumbnail(Long userId, Long noteId, Long attachmentId, int width) {
+        Attachment attachment = getForDownload(userId, noteId, attachmentId);
+        if (!attachment.isImage()) {
+            throw new DailyonException(ErrorCode.NOT_FOUND, "썸네일을 만들 수 없는 파일입니다.");
+        }
+        return thumbnailPipeline.lookup(attachment.getContentHash(), width);
+    }
+
+    @Transactional
+    public void delete(Long userId, Long noteId, Long attachmentId) {
+        Attachment attachment = getForDownload(userId, noteId, attachmentId);
+        attachmentRepository.delete(attachment);
+        release(attachment.getContentHash());
+    }
+
+    @Transactional
+    public void deleteAllForNote(Long noteId) {
+        List<Attachment> attachments = attachmentRepository.findByNoteIdOrderByIdAsc(noteId);
+        if (attachments.isEmpty()) {
+            return;
+        }
+        attachmentRepository.deleteAll(attachments);
+        attachments.forEach(attachment -> release(attachment.getContentHash()));
+    }
+
+    /**
+     * 참조를 줄이고, 마지막 참조였으면 행을 지운다. 파일은 커밋 뒤에 지워 롤백 시 행만 돌아오는 일이 없게 한다.
+     */
+    private void release(String hash) {
+        blobRepository.release(hash);
+        if (blobRepository.deleteIfUnreferenced(hash) == 0) {
+            return;
+        }
+        reaper.deleteAfterCommit(hash);
+        for (Thumbnail thumbnail : thumbnailPipeline.findBySource(hash)) {
+            if (thumbnail.getThumbHash() != null) {
+                release(thumbnail.getThumbHash());
+            }
+        }
+        thumbnailPipeline.deleteBySource(hash);
+    }
+
+    private Note requireNote(Long userId, Long noteId) {
+        return noteRepository.findById(noteId)
+                .filter(note -> note.getAuthor().getId().equals(userId))
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "노트를 찾을 수 없습니다."));
+    }
+
+    private String originalName(MultipartFile file) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(file.getOriginalFilename())));
+        if (name == null || name.isBlank() || "null".equals(name)) {
+            return "file";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private String contentType(MultipartFile file) {
+        String type = file.getContentType();
+        if (type == null || type.isBlank() || type.length() > 120) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        return type.toLowerCase();
+    }
+}
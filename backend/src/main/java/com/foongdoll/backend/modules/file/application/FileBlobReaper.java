@@ -0,0 +1,81 @@
+package com.foongdoll.backend.modules.file.application;
+
+import com.foongdoll.backend.modules.file.domain.FileBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+
+/**
+ * 디스크의 파일은 트랜잭션으로 되돌릴 수 없으므로, 파일 삭제는 트랜잭션 결과가 정해진 뒤에만 한다.
+ * 참조를 지운 쪽은 커밋 후에, 파일을 새로 쓴 쪽은 롤백 후에 지운다. 지우기 전에는 새 트랜잭션에서
+ * file_blobs 행(없으면 gap)을 잠가 다시 확인하므로, 그 사이 같은 내용을 다시 올린 업로드의 파일은 지우지 않는다.
+ */
+@Slf4j
+@Component
+public class FileBlobReaper {
+
+    private final FileBlobRepository blobRepository;
+    private final FileStorage storage;
+    private final TransactionTemplate requiresNew;
+
+    public FileBlobReaper(FileBlobRepository blobRepository, FileStorage storage,
+                          PlatformTransactionManager transactionManager) {
+        this.blobRepository = blobRepository;
+        this.storage = storage;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 참조가 없는 파일을 지운다.
+     */
+    public void deleteAfterCommit(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteIfUnreferenced(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteIfUnreferenced(hash);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 이번에 쓴 파일 중 참조가 남지 않은 것을 지운다. 트랜잭션 안에서 호출해야 한다.
+     */
+    public void deleteOnRollback(String hash) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteIfUnreferenced(hash);
+                }
+            }
+        });
+    }
+
+    private void deleteIfUnreferenced(String hash) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (blobRepository.lockCount(hash) > 0) {
+                    return;
+                }
+                try {
+                    storage.delete(hash);
+                } catch (IOException ex) {
+                    log.warn("Failed to delete stored file {}: {}", hash, ex.getMessage());
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to reap stored file {}: {}", hash, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.foongdoll.backend.modules.file.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 내용 해시(SHA-256 hex)를 키로 파일을 보관하는 저장소. 현재는 로컬 디스크 구현만 있고 S3 구현으로 교체할 수 있다.
+ * 업로드는 stage(임시 저장 + 해시 계산) → commit(키 위치로 이동) 두 단계로 나뉜다.
+ */
+public interface FileStorage {
+
+    /**
+     * 스트림을 임시 위치에 복사하면서 해시와 크기를 계산한다. maxBytes 를 넘으면 중단하고 임시 파일을 지운다.
+     */
+    StagedFile stage(InputStream in, long maxBytes) throws IOException;
+
+    /**
+     * 임시 파일을 해시 위치로 옮긴다. 같은 내용이 이미 있으면 임시 파일만 지운다.
+     */
+    void commit(StagedFile staged) throws IOException;
+
+    void discard(StagedFile staged);
+
+    boolean exists(String hash);
+
+    /**
+     * 로컬 파일로 접근할 수 있는 경우 경로를 돌려준다. 서블릿 컨테이너의 sendfile 에 쓰인다.
+     */
+    Optional<Path> localPath(String hash);
+
+    /**
+     * [position, position + count) 구간을 target 으로 보낸다.
+     */
+    void transferTo(String hash, long position, long count, WritableByteChannel target) throws IOException;
+
+    InputStream open(String hash) throws IOException;
+
+    void delete(String hash) throws IOException;
+
+    record StagedFile(String hash, long size, Path tempPath) {
+    }
+
+    class TooLargeException extends IOException {
+        public TooLargeException(long maxBytes) {
+            super("File exceeds " + maxBytes + " bytes");
+        }
+    }
+}
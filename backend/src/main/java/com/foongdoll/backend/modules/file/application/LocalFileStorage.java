@@ -0,0 +1,136 @@
+package com.foongdoll.backend.modules.file.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * root/ab/cd/abcd... 형태로 해시를 두 단계 디렉터리에 나눠 저장한다.
+ */
+@Component
+public class LocalFileStorage implements FileStorage {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalFileStorage(@Value("${app.files.root:./data/files}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve("tmp");
+        Files.createDirectories(tempDir);
+    }
+
+    @Override
+    public StagedFile stage(InputStream in, long maxBytes) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        MessageDigest digest = sha256();
+        long total = 0;
+        try (in; OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new TooLargeException(maxBytes);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+        return new StagedFile(HexFormat.of().formatHex(digest.digest()), total, temp);
+    }
+
+    @Override
+    public void commit(StagedFile staged) throws IOException {
+        Path target = resolve(staged.hash());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.tempPath());
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(staged.tempPath(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.tempPath());
+        } catch (IOException ignored) {
+            // 임시 디렉터리에 남은 파일은 다음 정리 때 지워진다.
+        }
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(resolve(hash));
+    }
+
+    @Override
+    public Optional<Path> localPath(String hash) {
+        Path path = resolve(hash);
+        return Files.exists(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public void transferTo(String hash, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(hash), StandardOpenOption.READ)) {
+            long sent = 0;
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0) {
+                    break;
+                }
+                sent += n;
+            }
+        }
+    }
+
+    @Override
+    public InputStream open(String hash) throws IOException {
+        return Files.newInputStream(resolve(hash));
+    }
+
+    @Override
+    public void delete(String hash) throws IOException {
+        try {
+            Files.delete(resolve(hash));
+        } catch (NoSuchFileException ignored) {
+            // 이미 지워진 경우
+        }
+    }
+
+    private Path resolve(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.foongdoll.backend.modules.file.application;
+
+import com.foongdoll.backend.modules.file.domain.FileBlobRepository;
+import com.foongdoll.backend.modules.file.domain.Thumbnail;
+import com.foongdoll.backend.modules.file.domain.ThumbnailRepository;
+import com.foongdoll.backend.modules.file.domain.ThumbnailStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 첨부의 썸네일을 thumbnailExecutor 에서 만든다.
+ * 작업 단위는 원본 내용 해시이며, 같은 해시는 동시에 한 번만 처리한다.
+ * 큐가 가득 차 버려지거나 재시작으로 잃어버린 작업은 PENDING 으로 남아 있다가 재시도 스케줄러가 다시 넣는다.
+ */
+@Slf4j
+@Component
+public class ThumbnailPipeline {
+
+    static final int[] WIDTHS = {160, 480};
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final int STALE_MINUTES = 5;
+    private static final int RETRY_BATCH = 100;
+
+    private final ThumbnailRepository thumbnailRepository;
+    private final FileBlobRepository blobRepository;
+    private final FileStorage storage;
+    private final TransactionTemplate transactionTemplate;
+    private final FileBlobReaper reaper;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final byte[] placeholder;
+
+    public ThumbnailPipeline(ThumbnailRepository thumbnailRepository,
+                             FileBlobRepository blobRepository,
+                             FileStorage storage,
+                             TransactionTemplate transactionTemplate,
+                             FileBlobReaper reaper,
+                             @Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor executor) {
+        this.thumbnailRepository = thumbnailRepository;
+        this.blobRepository = blobRepository;
+        this.storage = storage;
+        this.transactionTemplate = transactionTemplate;
+        this.reaper = reaper;
+        this.executor = executor;
+        this.placeholder = createPlaceholder();
+    }
+
+    /**
+     * PENDING 행을 만들고 커밋 후에 작업을 넣는다. 트랜잭션 안에서 호출해야 한다.
+     */
+    public void request(String sourceHash) {
+        for (int width : WIDTHS) {
+            thumbnailRepository.insertPending(sourceHash, width);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(sourceHash);
+                }
+            });
+        } else {
+            submit(sourceHash);
+        }
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 썸네일을 찾는다. 아직 요청된 적 없는 원본이면 이때 생성을 요청한다.
+     */
+    public Lookup lookup(String sourceHash, int requestedWidth) {
+        int width = pickWidth(requestedWidth);
+        Optional<Thumbnail> found = thumbnailRepository.findBySourceHashAndWidth(sourceHash, width);
+        if (found.isEmpty()) {
+            request(sourceHash);
+            return Lookup.pending();
+        }
+        Thumbnail thumbnail = found.get();
+        if (thumbnail.getStatus() != ThumbnailStatus.READY) {
+            return new Lookup(thumbnail.getStatus(), null, null, 0);
+        }
+        return new Lookup(ThumbnailStatus.READY, thumbnail.getThumbHash(), thumbnail.getContentType(), thumbnail.getSize());
+    }
+
+    public List<Thumbnail> findBySource(String sourceHash) {
+        return thumbnailRepository.findBySourceHash(sourceHash);
+    }
+
+    public void deleteBySource(String sourceHash) {
+        thumbnailRepository.deleteBySourceHash(sourceHash);
+    }
+
+    public byte[] placeholder() {
+        return placeholder.clone();
+    }
+
+    public Stats stats() {
+        return new Stats(
+                executor.getQueueSize(),
+                executor.getActiveCount(),
+                inFlight.size(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${app.files.thumbnail-retry-delay-ms:60000}")
+    public void retryStalePending() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(STALE_MINUTES);
+        for (String sourceHash : thumbnailRepository.findStalePendingSources(before, RETRY_BATCH)) {
+            submit(sourceHash);
+        }
+    }
+
+    private void submit(String sourceHash) {
+        if (!inFlight.add(sourceHash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(sourceHash));
+        } catch (TaskRejectedException ex) {
+            inFlight.remove(sourceHash);
+            rejected.increment();
+        }
+    }
+
+    private void generate(String sourceHash) {
+        try {
+            BufferedImage source = read(sourceHash);
+            if (source == null) {
+                markFailed(sourceHash);
+                return;
+            }
+            for (int width : WIDTHS) {
+                BufferedImage scaled = scale(source, width);
+                boolean alpha = scaled.getColorModel().hasAlpha();
+                store(sourceHash, width, encode(scaled, alpha ? "png" : "jpg"), alpha ? "image/png" : "image/jpeg");
+            }
+            completed.increment();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to create thumbnails for {}: {}", sourceHash, ex.getMessage());
+            markFailed(sourceHash);
+        } finally {
+            inFlight.remove(sourceHash);
+        }
+    }
+
+    // markReady 가 행을 잠그므로, 그 사이 원본이 지워졌다면(행 없음) 썸네일 파일도 남기지 않는다.
+    // 옮긴 뒤 커밋이 실패하면 파일은 FileBlobReaper 가 치운다.
+    private void store(String sourceHash, int width, byte[] bytes, String contentType) throws IOException {
+        FileStorage.StagedFile staged = storage.stage(new ByteArrayInputStream(bytes), bytes.length);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (thumbnailRepository.markReady(sourceHash, width, staged.hash(), contentType, staged.size()) == 0) {
+                    return;
+                }
+                blobRepository.acquire(staged.hash(), staged.size());
+                try {
+                    storage.commit(staged);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                reaper.deleteOnRollback(staged.hash());
+            });
+        } finally {
+            storage.discard(staged);
+        }
+    }
+
+    private void markFailed(String sourceHash) {
+        failed.increment();
+        transactionTemplate.executeWithoutResult(status -> thumbnailRepository.markFailed(sourceHash));
+    }
+
+    /**
+     * 큰 원본은 디코딩 단계에서 서브샘플링해 가장 큰 썸네일의 두 배 정도만 메모리에 올린다.
+     */
+    private BufferedImage read(String sourceHash) throws IOException {
+        try (InputStream in = storage.open(sourceHash);
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                int largest = WIDTHS[WIDTHS.length - 1];
+                int factor = Math.max(1, Math.max(width, height) / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 box 이하가 되도록 절반씩 줄여 가며 축소한다(한 번에 줄일 때의 계단 현상 방지). 확대는 하지 않는다.
+    static BufferedImage scale(BufferedImage source, int box) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) box / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IOException("No image writer for " + format);
+        }
+        return out.toByteArray();
+    }
+
+    private static int pickWidth(int requested) {
+        for (int width : WIDTHS) {
+            if (width >= requested) {
+                return width;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    private static byte[] createPlaceholder() {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(new java.awt.Color(0xE5, 0xE7, 0xEB));
+            g.fillRect(0, 0, 16, 16);
+        } finally {
+            g.dispose();
+        }
+        try {
+            return encode(image, "png");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public record Lookup(ThumbnailStatus status, String hash, String contentType, long size) {
+        static Lookup pending() {
+            return new Lookup(ThumbnailStatus.PENDING, null, null, 0);
+        }
+    }
+
+    public record Stats(int queued, int active, int inFlight, long completed, long failed, long rejected) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import com.foongdoll.backend.common.audit.Auditable;
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "note_attachments",
+        indexes = {
+                @Index(name = "idx_note_attachments_note", columnList = "note_id"),
+                @Index(name = "idx_note_attachments_hash", columnList = "content_hash")
+        }
+)
+@Entity
+public class Attachment extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attachment_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "note_id", nullable = false, foreignKey = @ForeignKey(name = "fk_note_attachment_note"))
+    private Note note;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_note_attachment_owner"))
+    private User owner;
+
+    @Column(name = "original_name", nullable = false, length = 255)
+    private String originalName;
+
+    @Column(name = "content_type", nullable = false, length = 120)
+    private String contentType;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Builder
+    private Attachment(Note note, User owner, String originalName, String contentType, String contentHash, long size) {
+        this.note = Objects.requireNonNull(note, "note must not be null");
+        this.owner = Objects.requireNonNull(owner, "owner must not be null");
+        this.originalName = Objects.requireNonNull(originalName, "originalName must not be null");
+        this.contentType = Objects.requireNonNull(contentType, "contentType must not be null");
+        this.contentHash = Objects.requireNonNull(contentHash, "contentHash must not be null");
+        this.size = size;
+    }
+
+    // SVG 는 스크립트를 담을 수 있어 이미지로 취급하지 않는다(인라인 표시/썸네일 제외).
+    public boolean isImage() {
+        return contentType.startsWith("image/") && !contentType.contains("svg");
+    }
+}
@@ -0,0 +1,13 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByNoteIdOrderByIdAsc(Long noteId);
+
+    Optional<Attachment> findByIdAndOwnerId(Long id, Long ownerId);
+}
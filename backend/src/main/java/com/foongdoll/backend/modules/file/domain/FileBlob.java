@@ -0,0 +1,35 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 올라간 실제 파일(내용 해시 단위). 같은 내용을 여러 번 올려도 한 벌만 저장하고 ref_count 로 참조 수를 센다.
+ * 행 잠금으로 업로드/삭제 순서를 맞추기 위해 갱신은 FileBlobRepository 의 네이티브 쿼리로만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blobs")
+@Entity
+public class FileBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String hash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
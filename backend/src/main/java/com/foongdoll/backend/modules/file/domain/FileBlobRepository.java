@@ -0,0 +1,43 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO file_blobs (content_hash, size_bytes, ref_count, created_at)
+                    VALUES (:hash, :size, 1, NOW())
+                    ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+                    """,
+            nativeQuery = true
+    )
+    int acquire(@Param("hash") String hash, @Param("size") long size);
+
+    @Modifying
+    @Query(
+            value = "UPDATE file_blobs SET ref_count = ref_count - 1 WHERE content_hash = :hash AND ref_count > 0",
+            nativeQuery = true
+    )
+    int release(@Param("hash") String hash);
+
+    @Modifying
+    @Query(
+            value = "DELETE FROM file_blobs WHERE content_hash = :hash AND ref_count = 0",
+            nativeQuery = true
+    )
+    int deleteIfUnreferenced(@Param("hash") String hash);
+
+    /**
+     * 행(없으면 그 자리의 gap)을 잠그고 있는지 본다. 같은 해시의 acquire 는 이 트랜잭션이 끝날 때까지 기다린다.
+     */
+    @Query(
+            value = "SELECT COUNT(*) FROM file_blobs WHERE content_hash = :hash FOR UPDATE",
+            nativeQuery = true
+    )
+    int lockCount(@Param("hash") String hash);
+}
@@ -0,0 +1,50 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 내용 해시 + 너비 단위의 썸네일. 같은 이미지를 여러 노트에 올려도 한 번만 만든다.
+ * 상태 전환은 ThumbnailRepository 의 조건부 UPDATE 로만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "file_thumbnails",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_thumbnail_source_width", columnNames = {"source_hash", "width"}),
+        indexes = @Index(name = "idx_file_thumbnails_status", columnList = "status, updated_at")
+)
+@Entity
+public class Thumbnail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "thumbnail_id")
+    private Long id;
+
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ThumbnailStatus status;
+
+    @Column(name = "thumb_hash", length = 64)
+    private String thumbHash;
+
+    @Column(name = "content_type", length = 40)
+    private String contentType;
+
+    @Column(name = "size_bytes")
+    private Long size;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+package com.foongdoll.backend.modules.file.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ThumbnailRepository extends JpaRepository<Thumbnail, Long> {
+
+    Optional<Thumbnail> findBySourceHashAndWidth(String sourceHash, int width);
+
+    List<Thumbnail> findBySourceHash(String sourceHash);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT IGNORE INTO file_thumbnails (source_hash, width, status, updated_at)
+                    VALUES (:sourceHash, :width, 'PENDING', NOW())
+                    """,
+            nativeQuery = true
+    )
+    int insertPending(@Param("sourceHash") String sourceHash, @Param("width") int width);
+
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE file_thumbnails
+                    SET status = 'READY', thumb_hash = :thumbHash, content_type = :contentType,
+                        size_bytes = :size, updated_at = NOW()
+                    WHERE source_hash = :sourceHash AND width = :width AND status <> 'READY'
+                    """,
+            nativeQuery = true
+    )
+    int markReady(@Param("sourceHash") String sourceHash,
+                  @Param("width") int width,
+                  @Param("thumbHash") String thumbHash,
+                  @Param("contentType") String contentType,
+                  @Param("size") long size);
+
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE file_thumbnails SET status = 'FAILED', updated_at = NOW()
+                    WHERE source_hash = :sourceHash AND status = 'PENDING'
+                    """,
+            nativeQuery = true
+    )
+    int markFailed(@Param("sourceHash") String sourceHash);
+
+    @Query(
+            value = """
+                    SELECT DISTINCT source_hash FROM file_thumbnails
+                    WHERE status = 'PENDING' AND updated_at < :before
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<String> findStalePendingSources(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from Thumbnail t where t.sourceHash = :sourceHash")
+    int deleteBySourceHash(@Param("sourceHash") String sourceHash);
+}
@@ -0,0 +1,7 @@
+package com.foongdoll.backend.modules.file.domain;
+
+public enum ThumbnailStatus {
+    PENDING,
+    READY,
+    FAILED
+}
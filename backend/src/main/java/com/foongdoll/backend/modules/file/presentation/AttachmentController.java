@@ -0,0 +1,101 @@
+package com.foongdoll.backend.modules.file.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.file.application.AttachmentService;
+import com.foongdoll.backend.modules.file.application.ThumbnailPipeline;
+import com.foongdoll.backend.modules.file.domain.Attachment;
+import com.foongdoll.backend.modules.file.domain.ThumbnailStatus;
+import com.foongdoll.backend.modules.file.presentation.dto.AttachmentDtos;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/notes/{noteId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final ThumbnailPipeline thumbnailPipeline;
+    private final FileRangeWriter rangeWriter;
+
+    @GetMapping
+    public ApiResponse<List<AttachmentDtos.AttachmentResponse>> list(@PathVariable Long noteId) {
+        return ApiResponse.ok(attachmentService.list(requireUserId(), noteId), SecurityUtils.traceId());
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<AttachmentDtos.AttachmentResponse> upload(
+            @PathVariable Long noteId,
+            @RequestParam("file") MultipartFile file
+    ) {
+        return ApiResponse.ok(attachmentService.upload(requireUserId(), noteId, file), SecurityUtils.traceId());
+    }
+
+    @GetMapping("/{attachmentId}/content")
+    public void content(
+            @PathVariable Long noteId,
+            @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Attachment attachment = attachmentService.getForDownload(requireUserId(), noteId, attachmentId);
+        rangeWriter.write(
+                request,
+                response,
+                attachment.getContentHash(),
+                attachment.getSize(),
+                attachment.getContentType(),
+                attachment.getOriginalName(),
+                attachment.isImage()
+        );
+    }
+
+    /**
+     * 썸네일이 아직 없으면 자리표시 이미지를 돌려주고 X-Thumbnail-Status 헤더로 상태를 알린다.
+     */
+    @GetMapping("/{attachmentId}/thumbnail")
+    public void thumbnail(
+            @PathVariable Long noteId,
+            @PathVariable Long attachmentId,
+            @RequestParam(defaultValue = "160") int width,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ThumbnailPipeline.Lookup lookup = attachmentService.thumbnail(requireUserId(), noteId, attachmentId, width);
+        response.setHeader("X-Thumbnail-Status", lookup.status().name());
+        if (lookup.status() == ThumbnailStatus.READY) {
+            rangeWriter.write(request, response, lookup.hash(), lookup.size(), lookup.contentType(), "thumbnail", true);
+            return;
+        }
+        byte[] placeholder = thumbnailPipeline.placeholder();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        response.setContentLength(placeholder.length);
+        response.getOutputStream().write(placeholder);
+    }
+
+    @DeleteMapping("/{attachmentId}")
+    public ApiResponse<Void> delete(@PathVariable Long noteId, @PathVariable Long attachmentId) {
+        attachmentService.delete(requireUserId(), noteId, attachmentId);
+        return ApiResponse.ok(SecurityUtils.traceId());
+    }
+
+    private Long requireUserId() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            throw new DailyonException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.foongdoll.backend.modules.file.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.modules.file.application.ThumbnailPipeline;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/files")
+@RequiredArgsConstructor
+public class FileAdminController {
+
+    private final ThumbnailPipeline thumbnailPipeline;
+
+    @GetMapping("/thumbnails")
+    public ApiResponse<ThumbnailPipeline.Stats> thumbnailStats() {
+        return ApiResponse.ok(thumbnailPipeline.stats(), MDC.get("traceId"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.foongdoll.backend.modules.file.presentation.dto;
+
+import com.foongdoll.backend.modules.file.domain.Attachment;
+
+import java.time.LocalDateTime;
+
+public final class AttachmentDtos {
+
+    private AttachmentDtos() {
+    }
+
+    public record AttachmentResponse(
+            Long id,
+            Long noteId,
+            String originalName,
+            String contentType,
+            long size,
+            String contentHash,
+            LocalDateTime createdAt
+    ) {
+        public static AttachmentResponse from(Attachment attachment) {
+            return new AttachmentResponse(
+                    attachment.getId(),
+                    attachment.getNote().getId(),
+                    attachment.getOriginalName(),
+                    attachment.getContentType(),
+                    attachment.getSize(),
+                    attachment.getContentHash(),
+                    attachment.getCreatedAt()
+            );
+        }
+    }
+}
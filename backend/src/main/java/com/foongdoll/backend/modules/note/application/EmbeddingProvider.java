@@ -0,0 +1,17 @@
+package com.foongdoll.backend.modules.note.application;
+
+/**
+ * 텍스트를 고정 길이 벡터로 바꾼다. 결과는 L2 정규화되어 있어야 한다(내적 = 코사인 유사도).
+ * 외부 임베딩 API 구현으로 교체할 수 있도록 노트 검색은 이 인터페이스에만 의존한다.
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * 저장된 벡터와 호환되는지 판단하는 식별자. 모델이나 차원이 바뀌면 값도 바뀌어야 한다.
+     */
+    String id();
+
+    int dimension();
+
+    float[] embed(String text);
+}
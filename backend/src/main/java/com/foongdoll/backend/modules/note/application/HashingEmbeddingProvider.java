@@ -0,0 +1,75 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 외부 모델 없이 동작하는 결정적 임베딩. 단어와 글자 3-gram 을 해시해 벡터에 더한다(feature hashing).
+ * 표기가 겹치는 문서끼리만 가까워지므로 다국어 의미 검색은 실제 모델 구현으로 바꿔야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notes.embedding.provider", havingValue = "hashing", matchIfMissing = true)
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final int DIMENSION = 384;
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float GRAM_WEIGHT = 0.5f;
+
+    @Override
+    public String id() {
+        return "hashing-v1-" + DIMENSION;
+    }
+
+    @Override
+    public int dimension() {
+        return DIMENSION;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[DIMENSION];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) continue;
+            add(vector, token, WORD_WEIGHT);
+            String padded = "#" + token + "#";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                add(vector, padded.substring(i, i + 3), GRAM_WEIGHT);
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    private static void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int index = Math.floorMod(hash, DIMENSION);
+        vector[index] += (hash & 0x4000_0000) == 0 ? weight : -weight;
+    }
+
+    // String.hashCode 의 하위 비트 편향을 줄인다(murmur3 fmix32).
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    static void normalize(float[] vector) {
+        double sum = 0;
+        for (float v : vector) {
+            sum += v * v;
+        }
+        if (sum == 0) return;
+        float norm = (float) Math.sqrt(sum);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= norm;
+        }
+    }
+}
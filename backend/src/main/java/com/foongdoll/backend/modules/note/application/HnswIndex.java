@@ -0,0 +1,272 @@
+package com.foongdoll.backend.modules.note.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정규화된 벡터용 HNSW(Hierarchical Navigable Small World) 그래프. 유사도는 내적이다.
+ * 삭제/갱신은 노드를 삭제 표시만 하고 탐색 경로로는 계속 쓴다. 삭제 비율이 높아지면 {@link #needsCompaction()} 이 참이 된다.
+ */
+final class HnswIndex {
+
+    private static final int M = 16;
+    private static final int M_MAX0 = M * 2;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(M);
+
+    private final int dimension;
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> byNoteId = new HashMap<>();
+    private final Random random = new Random(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deleted;
+
+    HnswIndex(int dimension) {
+        this.dimension = dimension;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return byNoteId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return deleted > 1_000 && deleted > byNoteId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Map<Long, float[]> liveVectors() {
+        lock.readLock().lock();
+        try {
+            Map<Long, float[]> live = new HashMap<>(byNoteId.size() * 2);
+            byNoteId.forEach((noteId, id) -> live.put(noteId, nodes.get(id).vector));
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(long noteId, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Vector dimension mismatch");
+        }
+        lock.writeLock().lock();
+        try {
+            markDeleted(noteId);
+            int level = randomLevel();
+            int id = nodes.size();
+            Node node = new Node(noteId, vector, level);
+            nodes.add(node);
+            byNoteId.put(noteId, id);
+
+            if (entryPoint < 0) {
+                entryPoint = id;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedy(vector, current, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(vector, current, EF_CONSTRUCTION, l);
+                int[] selected = closest(candidates, M);
+                node.neighbors[l] = selected;
+                int maxConnections = l == 0 ? M_MAX0 : M;
+                for (int neighbor : selected) {
+                    connect(neighbor, id, l, maxConnections);
+                }
+                current = candidates.get(0).id;
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = id;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long noteId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(noteId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Hit> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || byNoteId.isEmpty()) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedy(query, current, l);
+            }
+            List<Candidate> candidates = searchLayer(query, current, Math.max(ef, k), 0);
+            List<Hit> hits = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                Node node = nodes.get(candidate.id);
+                if (node.deleted) continue;
+                hits.add(new Hit(node.noteId, candidate.similarity));
+                if (hits.size() == k) break;
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(long noteId) {
+        Integer previous = byNoteId.remove(noteId);
+        if (previous != null) {
+            nodes.get(previous).deleted = true;
+            deleted++;
+        }
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1.0 - random.nextDouble()) * LEVEL_MULTIPLIER);
+    }
+
+    private int greedy(float[] query, int start, int level) {
+        int current = start;
+        float best = dot(query, nodes.get(current).vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : nodes.get(current).neighborsAt(level)) {
+                float similarity = dot(query, nodes.get(neighbor).vector);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef 개의 근접 후보를 찾는다. 결과는 유사도 내림차순.
+     */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(Comparator.comparingDouble(Candidate::negated));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+
+        Candidate first = new Candidate(start, dot(query, nodes.get(start).vector));
+        visited.set(start);
+        frontier.add(first);
+        results.add(first);
+
+        while (!frontier.isEmpty()) {
+            Candidate candidate = frontier.poll();
+            if (results.size() >= ef && candidate.similarity < results.peek().similarity) {
+                break;
+            }
+            for (int neighbor : nodes.get(candidate.id).neighborsAt(level)) {
+                if (visited.get(neighbor)) continue;
+                visited.set(neighbor);
+                float similarity = dot(query, nodes.get(neighbor).vector);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Candidate next = new Candidate(neighbor, similarity);
+                    frontier.add(next);
+                    results.add(next);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        List<Candidate> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingDouble(Candidate::negated));
+        return ordered;
+    }
+
+    private void connect(int from, int to, int level, int maxConnections) {
+        Node node = nodes.get(from);
+        int[] current = node.neighborsAt(level);
+        if (current.length < maxConnections) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = to;
+            node.neighbors[level] = grown;
+            return;
+        }
+        List<Candidate> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbor : current) {
+            candidates.add(new Candidate(neighbor, dot(node.vector, nodes.get(neighbor).vector)));
+        }
+        candidates.add(new Candidate(to, dot(node.vector, nodes.get(to).vector)));
+        candidates.sort(Comparator.comparingDouble(Candidate::negated));
+        node.neighbors[level] = closest(candidates, maxConnections);
+    }
+
+    private static int[] closest(List<Candidate> ordered, int limit) {
+        int size = Math.min(limit, ordered.size());
+        int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = ordered.get(i).id;
+        }
+        return ids;
+    }
+
+    static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static final class Node {
+        private static final int[] EMPTY = new int[0];
+
+        final long noteId;
+        final float[] vector;
+        final int[][] neighbors;
+        boolean deleted;
+
+        Node(long noteId, float[] vector, int level) {
+            this.noteId = noteId;
+            this.vector = vector;
+            this.neighbors = new int[level + 1][];
+            Arrays.fill(neighbors, EMPTY);
+        }
+
+        int[] neighborsAt(int level) {
+            return level < neighbors.length ? neighbors[level] : EMPTY;
+        }
+    }
+
+    private record Candidate(int id, float similarity) {
+        double negated() {
+            return -similarity;
+        }
+    }
+
+    record Hit(long noteId, float similarity) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.foongdoll.backend.modules.note.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 줄 단위 Myers diff 와 리비전 저장용 패치 포맷.
+ * 패치는 {@code =n}(유지), {@code -n}(삭제), {@code +n}(뒤따르는 n줄 삽입) 명령의 나열이다.
+ */
+final class LineDiff {
+
+    private static final int MAX_EDIT_DISTANCE = 500;
+
+    enum Op {
+        EQUAL, DELETE, INSERT
+    }
+
+    record Edit(Op op, List<String> lines) {
+    }
+
+    private LineDiff() {
+    }
+
+    static List<String> lines(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        return List.of(text.split("\n", -1));
+    }
+
+    static List<Edit> diff(List<String> base, List<String> target) {
+        int prefix = 0;
+        while (prefix < base.size() && prefix < target.size() && base.get(prefix).equals(target.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < base.size() - prefix && suffix < target.size() - prefix
+                && base.get(base.size() - 1 - suffix).equals(target.get(target.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        append(edits, Op.EQUAL, base.subList(0, prefix));
+        diffMiddle(base.subList(prefix, base.size() - suffix), target.subList(prefix, target.size() - suffix), edits);
+        append(edits, Op.EQUAL, base.subList(base.size() - suffix, base.size()));
+        return edits;
+    }
+
+    static String encodePatch(List<Edit> edits) {
+        StringBuilder patch = new StringBuilder();
+        for (Edit edit : edits) {
+            if (patch.length() > 0) {
+                patch.append('\n');
+            }
+            switch (edit.op()) {
+                case EQUAL -> patch.append('=').append(edit.lines().size());
+                case DELETE -> patch.append('-').append(edit.lines().size());
+                case INSERT -> {
+                    patch.append('+').append(edit.lines().size());
+                    for (String line : edit.lines()) {
+                        patch.append('\n').append(line);
+                    }
+                }
+            }
+        }
+        return patch.toString();
+    }
+
+    static List<String> applyPatch(List<String> base, String patch) {
+        List<String> result = new ArrayList<>(base.size());
+        if (patch.isEmpty()) {
+            return result;
+        }
+        String[] commands = patch.split("\n", -1);
+        int cursor = 0;
+        int i = 0;
+        while (i < commands.length) {
+            String command = commands[i++];
+            int count = Integer.parseInt(command.substring(1));
+            switch (command.charAt(0)) {
+                case '=' -> {
+                    result.addAll(base.subList(cursor, cursor + count));
+                    cursor += count;
+                }
+                case '-' -> cursor += count;
+                case '+' -> {
+                    for (int n = 0; n < count; n++) {
+                        result.add(commands[i++]);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown patch command: " + command);
+            }
+        }
+        return result;
+    }
+
+    private static void diffMiddle(List<String> a, List<String> b, List<Edit> edits) {
+        int n = a.size();
+        int m = b.size();
+        if (n == 0 || m == 0) {
+            append(edits, Op.DELETE, a);
+            append(edits, Op.INSERT, b);
+            return;
+        }
+
+        int limit = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = limit + 1;
+        int[] v = new int[2 * limit + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= limit; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(a, b, trace, offset, edits);
+                    return;
+                }
+            }
+        }
+
+        // 편집 거리가 너무 크면 정밀한 diff 대신 전체 교체로 기록한다.
+        append(edits, Op.DELETE, a);
+        append(edits, Op.INSERT, b);
+    }
+
+    private static void backtrack(List<String> a, List<String> b, List<int[]> trace, int offset, List<Edit> edits) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = a.size();
+        int y = b.size();
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? k + 1 : k - 1;
+            int prevX = v[offset + prevK];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                reversed.add(new Edit(Op.EQUAL, List.of(a.get(x - 1))));
+                x--;
+                y--;
+            }
+            if (d > 0) {
+                if (x == prevX) {
+                    reversed.add(new Edit(Op.INSERT, List.of(b.get(y - 1))));
+                } else {
+                    reversed.add(new Edit(Op.DELETE, List.of(a.get(x - 1))));
+                }
+            }
+            x = prevX;
+            y = prevY;
+        }
+        Collections.reverse(reversed);
+        for (Edit edit : reversed) {
+            append(edits, edit.op(), edit.lines());
+        }
+    }
+
+    private static void append(List<Edit> edits, Op op, List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        if (!edits.isEmpty() && edits.get(edits.size() - 1).op() == op) {
+            edits.get(edits.size() - 1).lines().addAll(lines);
+            return;
+        }
+        edits.add(new Edit(op, new ArrayList<>(lines)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foongdoll.backend.common.util.JsonUtils;
+import com.foongdoll.backend.modules.note.domain.NoteLayout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내보내기 zip 안의 마크다운 한 파일 형식.
+ * <pre>
+ * ---
+ * title: "제목"
+ * category: "카테고리"
+ * tags: ["a","b"]
+ * fields: {...}
+ * ---
+ * 본문
+ * </pre>
+ * front-matter 값은 모두 JSON 으로 쓴다(YAML flow 문법과도 호환된다).
+ */
+final class NoteArchiveFormat {
+
+    static final String DELIMITER = "---";
+    static final String MANIFEST = "dailyon-export.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private NoteArchiveFormat() {
+    }
+
+    static String entryName(long noteId, String title) {
+        String slug = title == null ? "" : title.replaceAll("[^\\p{L}\\p{N}]+", "-").replaceAll("(^-+|-+$)", "");
+        if (slug.length() > 40) {
+            slug = slug.substring(0, 40);
+        }
+        return String.format("notes/%010d%s.md", noteId, slug.isEmpty() ? "" : "-" + slug);
+    }
+
+    static String render(ExportedNote note) {
+        StringBuilder out = new StringBuilder(256 + (note.content() == null ? 0 : note.content().length()));
+        out.append(DELIMITER).append('\n');
+        line(out, "id", note.id());
+        line(out, "title", note.title());
+        line(out, "category", note.category());
+        line(out, "tags", note.tags());
+        line(out, "color", note.color());
+        line(out, "pinned", note.pinned());
+        line(out, "position", note.position());
+        line(out, "layout", note.layout() == null ? null : Map.of(
+                "x", note.layout().getX(),
+                "y", note.layout().getY(),
+                "width", note.layout().getWidth(),
+                "height", note.layout().getHeight()));
+        out.append("fields: ").append(JsonUtils.isEmptyObject(note.dataJson()) ? "{}" : note.dataJson()).append('\n');
+        line(out, "created_at", note.createdAt());
+        line(out, "updated_at", note.updatedAt());
+        out.append(DELIMITER).append('\n');
+        if (note.content() != null) {
+            out.append(note.content());
+        }
+        return out.toString();
+    }
+
+    static ParsedNote parse(String entryName, String text) {
+        Map<String, JsonNode> meta = new LinkedHashMap<>();
+        String body = text;
+        if (text.startsWith(DELIMITER + "\n") || text.startsWith(DELIMITER + "\r\n")) {
+            int cursor = text.indexOf('\n') + 1;
+            while (cursor < text.length()) {
+                int end = text.indexOf('\n', cursor);
+                String line = (end < 0 ? text.substring(cursor) : text.substring(cursor, end)).stripTrailing();
+                cursor = end < 0 ? text.length() : end + 1;
+                if (line.equals(DELIMITER)) {
+                    break;
+                }
+                int colon = line.indexOf(':');
+                if (colon <= 0) continue;
+                meta.put(line.substring(0, colon).trim(), readValue(line.substring(colon + 1).trim()));
+            }
+            body = text.substring(cursor);
+        }
+
+        String title = text(meta.get("title"));
+        if (title == null || title.isBlank()) {
+            String file = entryName.substring(entryName.lastIndexOf('/') + 1);
+            title = file.endsWith(".md") ? file.substring(0, file.length() - 3) : file;
+        }
+        List<String> tags = new ArrayList<>();
+        JsonNode tagNode = meta.get("tags");
+        if (tagNode != null && tagNode.isArray()) {
+            tagNode.forEach(tag -> tags.add(tag.asText()));
+        }
+        NoteLayout layout = null;
+        JsonNode layoutNode = meta.get("layout");
+        if (layoutNode != null && layoutNode.isObject()) {
+            layout = NoteLayout.builder()
+                    .x(layoutNode.path("x").asInt(0))
+                    .y(layoutNode.path("y").asInt(0))
+                    .width(layoutNode.path("width").asInt(4))
+                    .height(layoutNode.path("height").asInt(3))
+                    .build();
+        }
+        JsonNode fieldsNode = meta.get("fields");
+        Map<String, Object> fields = fieldsNode != null && fieldsNode.isObject()
+                ? JsonUtils.toMap(fieldsNode.toString())
+                : Map.of();
+        JsonNode pinned = meta.get("pinned");
+        return new ParsedNote(
+                title,
+                text(meta.get("category")),
+                tags,
+                text(meta.get("color")),
+                pinned != null && pinned.asBoolean(false),
+                layout,
+                fields,
+                body
+        );
+    }
+
+    private static void line(StringBuilder out, String key, Object value) {
+        if (value == null) return;
+        try {
+            out.append(key).append(": ").append(MAPPER.writeValueAsString(value)).append('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write front-matter " + key, e);
+        }
+    }
+
+    // JSON 이 아닌 값(직접 작성한 YAML 스칼라)은 문자열로 취급한다.
+    private static JsonNode readValue(String raw) {
+        try {
+            return MAPPER.readTree(raw);
+        } catch (JsonProcessingException e) {
+            return MAPPER.getNodeFactory().textNode(raw);
+        }
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    record ExportedNote(
+            long id,
+            String title,
+            String category,
+            List<String> tags,
+            String color,
+            boolean pinned,
+            double position,
+            NoteLayout layout,
+            String dataJson,
+            String createdAt,
+            String updatedAt,
+            String content
+    ) {
+    }
+
+    record ParsedNote(
+            String title,
+            String category,
+            List<String> tags,
+            String color,
+            boolean pinned,
+            NoteLayout layout,
+            Map<String, Object> fields,
+            String content
+    ) {
+    }
+}
@@ -0,0 +1,366 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.common.persistence.CompressedTextConverter;
+import com.foongdoll.backend.common.util.JsonUtils;
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteCategory;
+import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
+import com.foongdoll.backend.modules.note.domain.NoteImportJdbcRepository;
+import com.foongdoll.backend.modules.note.domain.NoteImportRow;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import com.foongdoll.backend.modules.note.domain.NoteTag;
+import com.foongdoll.backend.modules.note.domain.NoteTagRepository;
+import com.foongdoll.backend.modules.note.domain.NoteTagView;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 노트 전체를 마크다운 zip 으로 내보내고 다시 가져온다.
+ * 양방향 모두 스트리밍으로 처리해 메모리 사용량이 노트 수와 무관하게 배치 크기로 제한된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteArchiveService {
+
+    private static final int EXPORT_BATCH = 100;
+    private static final int IMPORT_BATCH = 100;
+    private static final long IMPORT_BATCH_CHARS = 8L * 1024 * 1024;
+    private static final int MAX_ENTRY_BYTES = 5 * 1024 * 1024;
+    private static final long MAX_TOTAL_BYTES = 512L * 1024 * 1024;
+    private static final int MAX_ENTRIES = 20_000;
+    private static final int MAX_REPORTED_SKIPS = 100;
+    private static final String DEFAULT_CATEGORY = "가져온 노트";
+    private static final String FORMAT = "dailyon-notes/1";
+
+    private static final CompressedTextConverter STORED = new CompressedTextConverter();
+
+    private final NoteRepository noteRepository;
+    private final NoteCategoryRepository categoryRepository;
+    private final NoteTagRepository tagRepository;
+    private final NoteImportJdbcRepository importJdbcRepository;
+    private final NoteCategorySchemaCache schemaCache;
+    private final NoteTagService tagService;
+    private final NotePositionAllocator positionAllocator;
+    private final NoteSpatialIndex spatialIndex;
+    private final NoteEmbeddingIndex embeddingIndex;
+    private final UserRepository userRepository;
+    private final AuditorAware<String> auditorAware;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * afterId 보다 큰 id 의 노트를 id 순으로 내보낸다. 중간에 끊기면 마지막으로 받은 항목의 id 로 이어받을 수 있다.
+     */
+    public void export(Long userId, Long afterId, OutputStream out) throws IOException {
+        Map<Long, String> categoryNames = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.findByOwnerIdOrderByNameAsc(userId)
+                .forEach(category -> categoryNames.put(category.getId(), category.getName())));
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        long cursor = afterId == null ? 0L : afterId;
+        int count = 0;
+        while (true) {
+            long from = cursor;
+            List<NoteArchiveFormat.ExportedNote> batch = transactionTemplate.execute(status ->
+                    loadExportBatch(userId, from, categoryNames));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            // 트랜잭션 밖에서 쓴다. 느린 클라이언트가 커넥션을 붙잡지 않도록.
+            for (NoteArchiveFormat.ExportedNote note : batch) {
+                zip.putNextEntry(new ZipEntry(NoteArchiveFormat.entryName(note.id(), note.title())));
+                zip.write(NoteArchiveFormat.render(note).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+                cursor = note.id();
+                count++;
+            }
+            zip.flush();
+            if (batch.size() < EXPORT_BATCH) {
+                break;
+            }
+        }
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("format", FORMAT);
+        manifest.put("count", count);
+        manifest.put("afterId", afterId);
+        manifest.put("lastNoteId", cursor);
+        zip.putNextEntry(new ZipEntry(NoteArchiveFormat.MANIFEST));
+        zip.write(objectMapper.writeValueAsBytes(manifest));
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * zip 안의 .md 파일을 순서대로 가져온다. 배치마다 별도 트랜잭션으로 커밋하므로 실패 시
+     * 응답의 lastCommittedEntry 를 resumeAfter 로 넘기면 그 다음 항목부터 이어서 가져온다.
+     */
+    public NoteDtos.ImportReport importArchive(Long userId, InputStream input, String resumeAfter) {
+        ImportRun run = new ImportRun(userId, auditorAware.getCurrentAuditor().orElse("system"));
+        boolean skipping = resumeAfter != null && !resumeAfter.isBlank();
+        String lastSeen = null;
+
+        try (ZipInputStream zip = new ZipInputStream(input, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            int entries = 0;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (++entries > MAX_ENTRIES) {
+                    throw new DailyonException(ErrorCode.PAYLOAD_TOO_LARGE,
+                            "한 번에 가져올 수 있는 파일은 " + MAX_ENTRIES + "개까지입니다.",
+                            Map.of("lastCommittedEntry", String.valueOf(run.lastCommittedEntry)));
+                }
+                String name = entry.getName();
+                if (skipping) {
+                    skipping = !name.equals(resumeAfter);
+                    continue;
+                }
+                if (entry.isDirectory() || !name.toLowerCase().endsWith(".md")) {
+                    continue;
+                }
+                lastSeen = name;
+                String text = readEntry(zip, name, run);
+                if (text == null) {
+                    continue;
+                }
+                run.add(name, text);
+                if (run.pending.size() >= IMPORT_BATCH || run.pendingChars >= IMPORT_BATCH_CHARS) {
+                    flush(run);
+                }
+            }
+            flush(run);
+        } catch (IOException ex) {
+            log.warn("Note import aborted for user {} after {}: {}", userId, run.lastCommittedEntry, ex.getMessage());
+            throw new DailyonException(ErrorCode.BAD_REQUEST, "압축 파일을 읽을 수 없습니다.",
+                    Map.of("lastCommittedEntry", String.valueOf(run.lastCommittedEntry)));
+        } finally {
+            if (run.imported > 0) {
+                spatialIndex.evict(userId);
+                embeddingIndex.rebuild(userId);
+            }
+        }
+        if (skipping) {
+            throw new DailyonException(ErrorCode.BAD_REQUEST, "이어받을 항목을 찾을 수 없습니다: " + resumeAfter);
+        }
+        return new NoteDtos.ImportReport(run.imported, run.skippedCount, run.skipped,
+                run.lastCommittedEntry == null ? lastSeen : run.lastCommittedEntry);
+    }
+
+    private List<NoteArchiveFormat.ExportedNote> loadExportBatch(Long userId, long afterId, Map<Long, String> categoryNames) {
+        List<Note> notes = noteRepository.findByAuthorIdAndIdGreaterThanOrderByIdAsc(
+                userId, afterId, PageRequest.of(0, EXPORT_BATCH));
+        if (notes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (NoteTagView view : noteRepository.findTagsByNoteIds(notes.stream().map(Note::getId).toList())) {
+            tags.computeIfAbsent(view.getNoteId(), key -> new ArrayList<>()).add(view.getTag());
+        }
+        List<NoteArchiveFormat.ExportedNote> batch = new ArrayList<>(notes.size());
+        for (Note note : notes) {
+            batch.add(new NoteArchiveFormat.ExportedNote(
+                    note.getId(),
+                    note.getTitle(),
+                    categoryNames.get(note.getCategory().getId()),
+                    tags.getOrDefault(note.getId(), List.of()),
+                    note.getColor(),
+                    note.isPinned(),
+                    note.getPositionIndex(),
+                    note.getLayout(),
+                    note.getDataJson(),
+                    note.getCreatedAt() == null ? null : note.getCreatedAt().toString(),
+                    note.getUpdatedAt() == null ? null : note.getUpdatedAt().toString(),
+                    note.getContent()
+            ));
+        }
+        return batch;
+    }
+
+    private String readEntry(ZipInputStream zip, String name, ImportRun run) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = zip.read(chunk)) != -1) {
+            run.totalBytes += read;
+            if (run.totalBytes > MAX_TOTAL_BYTES) {
+                throw new DailyonException(ErrorCode.PAYLOAD_TOO_LARGE, "압축 해제 크기가 허용 범위를 넘었습니다.",
+                        Map.of("lastCommittedEntry", String.valueOf(run.lastCommittedEntry)));
+            }
+            if (buffer.size() + read > MAX_ENTRY_BYTES) {
+                run.skip(name, "파일이 너무 큽니다.");
+                return null;
+            }
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<PendingNote> batch = new ArrayList<>();
+        List<NoteImportRow> rows = new ArrayList<>();
+        for (PendingNote pending : run.pending) {
+            try {
+                rows.add(toRow(run, pending));
+                batch.add(pending);
+            } catch (DailyonException ex) {
+                run.skip(pending.entryName(), ex.getMessage());
+            }
+        }
+        String lastEntry = run.pending.get(run.pending.size() - 1).entryName();
+
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> insert(run, batch, rows));
+        }
+        run.imported += rows.size();
+        run.lastCommittedEntry = lastEntry;
+        run.pending.clear();
+        run.pendingChars = 0;
+    }
+
+    private void insert(ImportRun run, List<PendingNote> batch, List<NoteImportRow> rows) {
+        double firstPosition = positionAllocator.reserve(run.userId, rows.size());
+        List<Long> ids = importJdbcRepository.insertNotes(run.userId, run.auditor, rows, firstPosition);
+
+        // 배치 전체 태그를 한 번에 사전 항목으로 바꾼다. 임베딩은 가져오기가 끝난 뒤 사용자 인덱스를 한 번 다시 만든다.
+        List<String> tagNames = new ArrayList<>();
+        batch.forEach(pending -> tagNames.addAll(pending.note().tags()));
+        Map<String, NoteTag> tags = tagService.resolveByName(run.userId, tagNames);
+
+        List<long[]> links = new ArrayList<>();
+        Map<Long, Long> tagUsage = new HashMap<>();
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            long noteId = ids.get(i);
+            Set<Long> linked = new HashSet<>();
+            for (String name : batch.get(i).note().tags()) {
+                NoteTag tag = name == null ? null : tags.get(name.trim());
+                if (tag != null && linked.add(tag.getId())) {
+                    links.add(new long[]{noteId, tag.getId()});
+                    tagUsage.merge(tag.getId(), 1L, Long::sum);
+                }
+            }
+            categoryCounts.merge(rows.get(i).categoryId(), 1L, Long::sum);
+        }
+        importJdbcRepository.insertTagLinks(links);
+
+        // 같은 증가량끼리 묶어 UPDATE 횟수를 줄인다.
+        Map<Long, List<Long>> tagsByDelta = new TreeMap<>();
+        tagUsage.forEach((tagId, delta) -> tagsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(tagId));
+        tagsByDelta.forEach((delta, tagIds) -> tagRepository.adjustUsage(tagIds, delta));
+        categoryCounts.forEach(categoryRepository::adjustNoteCount);
+    }
+
+    private NoteImportRow toRow(ImportRun run, PendingNote pending) {
+        NoteArchiveFormat.ParsedNote note = pending.note();
+        Long categoryId = run.categoryId(note.category());
+        Map<String, Object> fields = schemaCache.get(run.userId, categoryId).normalize(note.fields());
+        String content = note.content();
+        String title = truncate(note.title().strip(), 160);
+        String dataJson = JsonUtils.toJson(fields);
+        return new NoteImportRow(
+                categoryId,
+                title,
+                STORED.convertToDatabaseColumn(content),
+                Note.snippetOf(content),
+                truncate(note.color(), 30),
+                note.pinned(),
+                STORED.convertToDatabaseColumn(dataJson),
+                Note.searchTextOf(title, content, dataJson),
+                note.layout()
+        );
+    }
+
+    private Long resolveCategory(Long userId, String name, Map<String, Long> known) {
+        String key = name == null || name.isBlank() ? DEFAULT_CATEGORY : truncate(name.strip(), 120);
+        Long id = known.get(key);
+        if (id != null) {
+            return id;
+        }
+        NoteCategory created = transactionTemplate.execute(status -> categoryRepository.save(NoteCategory.builder()
+                .owner(userRepository.getReferenceById(userId))
+                .name(key)
+                .build()));
+        known.put(key, created.getId());
+        return created.getId();
+    }
+
+    private static String truncate(String value, int max) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private record PendingNote(String entryName, NoteArchiveFormat.ParsedNote note) {
+    }
+
+    private final class ImportRun {
+        private final Long userId;
+        private final String auditor;
+        private final List<PendingNote> pending = new ArrayList<>();
+        private final List<NoteDtos.ImportSkip> skipped = new ArrayList<>();
+        private Map<String, Long> categories;
+        private long pendingChars;
+        private long totalBytes;
+        private int imported;
+        private int skippedCount;
+        private String lastCommittedEntry;
+
+        private ImportRun(Long userId, String auditor) {
+            this.userId = userId;
+            this.auditor = auditor;
+        }
+
+        private void add(String entryName, String text) {
+            NoteArchiveFormat.ParsedNote note = NoteArchiveFormat.parse(entryName, text);
+            pending.add(new PendingNote(entryName, note));
+            pendingChars += note.content().length();
+        }
+
+        private void skip(String entryName, String reason) {
+            skippedCount++;
+            if (skipped.size() < MAX_REPORTED_SKIPS) {
+                skipped.add(new NoteDtos.ImportSkip(entryName, reason));
+            }
+        }
+
+        private Long categoryId(String name) {
+            if (categories == null) {
+                categories = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                transactionTemplate.executeWithoutResult(status -> categoryRepository.findByOwnerIdOrderByNameAsc(userId)
+                        .forEach(category -> categories.put(category.getName(), category.getId())));
+            }
+            return resolveCategory(userId, name, categories);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.note.domain.NoteCategory;
+import com.foongdoll.backend.modules.note.domain.NoteCategoryField;
+import com.foongdoll.backend.modules.note.domain.NoteFieldType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 필드 스키마를 한 번 정렬/컴파일해 둔 불변 검증기.
+ * 노트 저장 시 카테고리를 다시 조회하거나 필드를 다시 정렬하지 않도록 {@link NoteCategorySchemaCache} 에 보관된다.
+ */
+public final class NoteCategorySchema {
+
+    private static final Map<NoteFieldType, FieldParser> PARSERS = new EnumMap<>(NoteFieldType.class);
+
+    static {
+        PARSERS.put(NoteFieldType.TEXT, (field, value) -> value.toString());
+        PARSERS.put(NoteFieldType.NUMBER, NoteCategorySchema::parseNumber);
+        PARSERS.put(NoteFieldType.BOOLEAN, (field, value) -> parseBoolean(value));
+        PARSERS.put(NoteFieldType.DATE, (field, value) -> parseDate(value));
+        PARSERS.put(NoteFieldType.TAGS, (field, value) -> parseTags(value));
+    }
+
+    private final Long categoryId;
+    private final String categoryName;
+    private final Field[] fields;
+
+    private NoteCategorySchema(Long categoryId, String categoryName, Field[] fields) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.fields = fields;
+    }
+
+    public static NoteCategorySchema compile(NoteCategory category) {
+        Field[] fields = category.getFieldsSorted().stream()
+                .map(field -> new Field(field.getKey(), field.getLabel(), field.isRequired(), PARSERS.get(field.getType())))
+                .toArray(Field[]::new);
+        return new NoteCategorySchema(category.getId(), category.getName(), fields);
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Map<String, Object> normalize(Map<String, Object> input) {
+        Map<String, Object> source = input == null ? Map.of() : input;
+        Map<String, Object> normalized = new LinkedHashMap<>(fields.length * 2);
+
+        for (Field field : fields) {
+            Object value = source.get(field.key());
+            if (value == null || (value instanceof String str && str.isBlank())) {
+                if (field.required()) {
+                    throw new DailyonException(ErrorCode.VALIDATION_ERROR, field.label() + " 값을 입력해주세요.");
+                }
+                continue;
+            }
+            normalized.put(field.key(), field.parser().parse(field, value));
+        }
+        return normalized;
+    }
+
+    private record Field(String key, String label, boolean required, FieldParser parser) {
+    }
+
+    @FunctionalInterface
+    private interface FieldParser {
+        Object parse(Field field, Object value);
+    }
+
+    private static Double parseNumber(Field field, Object value) {
+        try {
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException ex) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, field.label() + "은(는) 숫자 형식이어야 합니다.");
+        }
+    }
+
+    private static Boolean parseBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        String str = value.toString().trim().toLowerCase();
+        return str.equals("1") || str.equals("true") || str.equals("yes") || str.equals("y");
+    }
+
+    private static String parseDate(Object value) {
+        String str = value.toString().trim();
+        try {
+            LocalDate.parse(str);
+            return str;
+        } catch (DateTimeParseException ex) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "날짜 형식(yyyy-MM-dd)이 올바르지 않습니다.");
+        }
+    }
+
+    private static List<String> parseTags(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(Object::toString).map(String::trim).filter(it -> !it.isEmpty()).toList();
+        }
+        return Arrays.stream(value.toString().split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
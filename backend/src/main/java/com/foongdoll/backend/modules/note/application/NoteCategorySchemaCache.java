@@ -0,0 +1,84 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, categoryId) 단위로 컴파일된 카테고리 스키마를 LRU 로 보관한다.
+ * 카테고리 수정/삭제 시 {@link #evict(Long, Long)} 로 무효화해야 한다.
+ * 무효화마다 세대 번호를 올리고, 적재 도중 세대가 바뀌었으면 읽은 스키마를 캐시에 넣지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoteCategorySchemaCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final NoteCategoryRepository categoryRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Key, NoteCategorySchema> schemas = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, NoteCategorySchema> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    public NoteCategorySchema get(Long userId, Long categoryId) {
+        if (categoryId == null) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "카테고리를 선택해주세요.");
+        }
+        Key key = new Key(userId, categoryId);
+        NoteCategorySchema cached = schemas.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        NoteCategorySchema compiled = categoryRepository.findByIdAndOwnerId(categoryId, userId)
+                .map(NoteCategorySchema::compile)
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "카테고리를 찾을 수 없습니다."));
+        // 적재하는 사이 커밋된 수정이 있으면 옛 스키마일 수 있으므로 이번 요청에만 쓴다.
+        synchronized (schemas) {
+            if (generation.get() == loadedAt) {
+                schemas.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 안이라면 커밋 이후에도 한 번 더 제거한다.
+     * (커밋 전 다른 요청이 옛 스키마를 다시 적재하는 경우 방지)
+     */
+    public void evict(Long userId, Long categoryId) {
+        Key key = new Key(userId, categoryId);
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    private void remove(Key key) {
+        synchronized (schemas) {
+            generation.incrementAndGet();
+            schemas.remove(key);
+        }
+    }
+
+    private record Key(Long userId, Long categoryId) {
+    }
+}
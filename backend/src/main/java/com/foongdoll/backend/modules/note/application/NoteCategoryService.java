@@ -21,6 +21,7 @@ public class NoteCategoryService {
 
     private final NoteCategoryRepository categoryRepository;
     private final NoteRepository noteRepository;
+    private final NoteCategorySchemaCache schemaCache;
     private final UserRepository userRepository;
 
     public List<NoteCategory> list(Long userId) {
@@ -53,6 +54,7 @@ public class NoteCategoryService {
         }
 
         category.update(request.name(), request.description(), CategoryDtos.toFields(request.fields()));
+        schemaCache.evict(userId, categoryId);
         return category;
     }
 
@@ -64,6 +66,7 @@ public class NoteCategoryService {
             throw new DailyonException(ErrorCode.CONFLICT, "해당 카테고리에 작성된 노트가 있어 삭제할 수 없습니다.");
         }
         categoryRepository.delete(category);
+        schemaCache.evict(userId, categoryId);
     }
 
     private void validateCategoryName(Long userId, String name) {
@@ -0,0 +1,101 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.persistence.CompressedTextConverter;
+import com.foongdoll.backend.modules.note.domain.Note;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 압축 도입 이전에 저장된 노트 본문/필드 JSON 을 압축 포맷으로 다시 쓰고 snippet 을 채운다.
+ * 처리 대상만 골라 PK 순으로 진행하므로 중간에 멈춰도 다시 실행하면 남은 행부터 이어진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteCompressionBackfill {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Async("asyncExecutor")
+    public void runAsync() {
+        run();
+    }
+
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Note compression backfill is already running");
+            return;
+        }
+        try {
+            long lastId = 0L;
+            int rewritten = 0;
+            while (true) {
+                List<Row> rows = jdbcTemplate.query("""
+                                SELECT note_id, content, data_json, updated_at
+                                FROM notes
+                                WHERE note_id > ?
+                                  AND (
+                                       (CHAR_LENGTH(content) >= ? AND content NOT LIKE '~dz1~%')
+                                    OR (CHAR_LENGTH(data_json) >= ? AND data_json NOT LIKE '~dz1~%')
+                                    OR (snippet IS NULL AND content IS NOT NULL)
+                                  )
+                                ORDER BY note_id
+                                LIMIT ?
+                                """,
+                        (rs, rowNum) -> new Row(
+                                rs.getLong("note_id"),
+                                rs.getString("content"),
+                                rs.getString("data_json"),
+                                rs.getObject("updated_at", LocalDateTime.class)
+                        ),
+                        lastId, CompressedTextConverter.THRESHOLD, CompressedTextConverter.THRESHOLD, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> updates = rows.stream()
+                        .map(row -> {
+                            String content = converter.convertToEntityAttribute(row.content());
+                            String dataJson = converter.convertToEntityAttribute(row.dataJson());
+                            return new Object[]{
+                                    converter.convertToDatabaseColumn(content),
+                                    converter.convertToDatabaseColumn(dataJson),
+                                    Note.snippetOf(content),
+                                    row.id(),
+                                    row.updatedAt()
+                            };
+                        })
+                        .toList();
+                // updated_at 이 바뀐 행(동시 수정)은 건너뛰고 다음 실행에서 다시 처리한다.
+                int[] counts = jdbcTemplate.batchUpdate(
+                        "UPDATE notes SET content = ?, data_json = ?, snippet = ? WHERE note_id = ? AND updated_at = ?",
+                        updates);
+                for (int count : counts) {
+                    rewritten += Math.max(count, 0);
+                }
+                lastId = rows.get(rows.size() - 1).id();
+            }
+            log.info("Note compression backfill finished: rewritten={}, stats={}", rewritten, CompressedTextConverter.stats());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private record Row(long id, String content, String dataJson, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 노트 보드 keyset 커서. (position_index, updated_at, note_id) 정렬 순서의 마지막 행을 가리킨다.
+ */
+public record NoteCursor(double position, LocalDateTime updatedAt, long id) {
+
+    public String encode() {
+        String raw = position + "|" + updatedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NoteCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("malformed cursor");
+            }
+            return new NoteCursor(Double.parseDouble(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteFingerprintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 지문이 없는 노트를 채운 뒤 사용자별 중복 묶음을 다시 계산한다.
+ * 기동 시에는 밴드 구성이 바뀌었는지만 보고 이전 밴드 행을 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteDuplicateClusterer implements ApplicationRunner {
+
+    private static final int BACKFILL_BATCH = 500;
+
+    private final NoteFingerprintService fingerprintService;
+    private final NoteFingerprintRepository fingerprintRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (fingerprintService.rebuildBandsIfStale()) {
+            log.info("Rebuilt note fingerprint bands for the current band layout");
+        }
+    }
+
+    @Scheduled(cron = "${app.notes.duplicate-cluster-cron:0 15 5 * * *}")
+    public void run() {
+        int filled;
+        do {
+            filled = fingerprintService.backfill(BACKFILL_BATCH);
+        } while (filled == BACKFILL_BATCH);
+
+        List<Long> authorIds = fingerprintRepository.findAuthorIds();
+        int clusters = 0;
+        for (Long authorId : authorIds) {
+            try {
+                clusters += fingerprintService.cluster(authorId);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to cluster duplicate notes for user {}: {}", authorId, ex.getMessage());
+            }
+        }
+        log.info("Clustered duplicate notes for {} users ({} clusters)", authorIds.size(), clusters);
+    }
+}
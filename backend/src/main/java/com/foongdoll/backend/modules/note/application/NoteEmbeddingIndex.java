@@ -0,0 +1,337 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자별 노트 임베딩 HNSW 인덱스.
+ * 노트 저장/삭제는 커밋 후 asyncExecutor 에서 반영하며, 같은 노트의 연속 수정은 마지막 내용 한 번만 임베딩한다.
+ * 벡터는 NoteVectorStore 파일에 남겨 재시작 시 다시 임베딩하지 않는다. 파일이 없으면 DB 의 노트로 처음 한 번 채운다.
+ * 메모리에는 최근에 쓴 사용자 인덱스만 max-loaded-users 개까지 두고, 밀려난 인덱스는 파일을 닫는다.
+ * 인덱스 적재(파일 읽기/처음 채우기)는 asyncExecutor 에서 하며, 적재 중 검색은 503 으로 응답한다.
+ */
+@Slf4j
+@Component
+public class NoteEmbeddingIndex {
+
+    private static final int EF_SEARCH = 64;
+    private static final int BOOTSTRAP_BATCH = 200;
+
+    private final EmbeddingProvider provider;
+    private final NoteRepository noteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final Path root;
+    private final int maxLoadedUsers;
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, UserIndex> retiring = new ConcurrentHashMap<>();
+    private final Map<PendingKey, Pending> pending = new ConcurrentHashMap<>();
+
+    public NoteEmbeddingIndex(EmbeddingProvider provider,
+                              NoteRepository noteRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("asyncExecutor") Executor executor,
+                              @Value("${app.notes.embedding.root:./data/embeddings}") String root,
+                              @Value("${app.notes.embedding.max-loaded-users:200}") int maxLoadedUsers) {
+        this.provider = provider;
+        this.noteRepository = noteRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.maxLoadedUsers = Math.max(1, maxLoadedUsers);
+    }
+
+    public static String text(Note note) {
+        String content = note.getContent();
+        return note.getTitle() + "\n" + (content == null ? "" : content);
+    }
+
+    public void scheduleUpsert(Long userId, Long noteId, String text) {
+        afterCommit(new Pending(userId, noteId, text));
+    }
+
+    public void scheduleRemove(Long userId, Long noteId) {
+        afterCommit(new Pending(userId, noteId, null));
+    }
+
+    /**
+     * 사용자 인덱스를 DB 의 노트로 다시 채운다. 가져오기처럼 노트가 한꺼번에 늘어난 뒤 노트마다 임베딩을 예약하는 대신 쓴다.
+     */
+    public void rebuild(Long userId) {
+        UserIndex rebuilt;
+        synchronized (indexes) {
+            UserIndex current = indexes.remove(userId);
+            UserIndex predecessor = current != null ? current : retiring.remove(userId);
+            rebuilt = new UserIndex(userId,
+                    new NoteVectorStore(root.resolve(userId + ".vec"), provider.dimension(), provider.id()),
+                    predecessor);
+            rebuilt.reset = true;
+            indexes.put(userId, rebuilt);
+        }
+        rebuilt.loadAsync();
+    }
+
+    public List<HnswIndex.Hit> search(Long userId, String query, int k) {
+        UserIndex index = index(userId);
+        HnswIndex graph = index.graph();
+        if (graph == null) {
+            index.loadAsync();
+            throw new DailyonException(ErrorCode.SERVICE_UNAVAILABLE, "노트 검색 인덱스를 준비하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return graph.search(provider.embed(query), k, Math.max(EF_SEARCH, k));
+    }
+
+    @PreDestroy
+    public void close() {
+        List<UserIndex> loaded;
+        synchronized (indexes) {
+            loaded = new ArrayList<>(indexes.values());
+            indexes.clear();
+        }
+        loaded.forEach(UserIndex::retire);
+    }
+
+    private void afterCommit(Pending change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(change);
+                }
+            });
+        } else {
+            enqueue(change);
+        }
+    }
+
+    private void enqueue(Pending change) {
+        PendingKey key = new PendingKey(change.userId(), change.noteId());
+        if (pending.put(key, change) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(key));
+        } catch (TaskRejectedException ex) {
+            pending.remove(key, change);
+            log.warn("Embedding queue is full, note {} was not re-indexed", change.noteId());
+        }
+    }
+
+    // 사용자 인덱스 단위로 직렬화해 같은 노트의 변경이 순서대로 반영되게 한다.
+    private void drain(PendingKey key) {
+        while (true) {
+            UserIndex index = index(key.userId());
+            synchronized (index) {
+                if (index.isRetired()) {
+                    // 잠금을 기다리는 사이 밀려났다. 새 인덱스에 반영한다.
+                    continue;
+                }
+                Pending change = pending.remove(key);
+                if (change == null) {
+                    return;
+                }
+                try {
+                    index.ensureLoaded();
+                    if (change.text() == null) {
+                        index.remove(change.noteId());
+                    } else {
+                        index.put(change.noteId(), provider.embed(change.text()));
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    log.warn("Failed to index embedding for note {}: {}", change.noteId(), ex.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    private UserIndex index(Long userId) {
+        UserIndex index;
+        List<UserIndex> evicted = new ArrayList<>();
+        synchronized (indexes) {
+            index = indexes.get(userId);
+            if (index == null) {
+                index = new UserIndex(userId,
+                        new NoteVectorStore(root.resolve(userId + ".vec"), provider.dimension(), provider.id()),
+                        retiring.remove(userId));
+                indexes.put(userId, index);
+            }
+            Iterator<UserIndex> eldest = indexes.values().iterator();
+            while (indexes.size() > maxLoadedUsers && eldest.hasNext()) {
+                UserIndex candidate = eldest.next();
+                if (candidate != index) {
+                    eldest.remove();
+                    retiring.put(candidate.userId, candidate);
+                    evicted.add(candidate);
+                }
+            }
+        }
+        // 진행 중인 반영이 끝나길 기다려야 하므로 목록 잠금 밖에서 닫는다.
+        evicted.forEach(UserIndex::retire);
+        return index;
+    }
+
+    private Map<Long, float[]> bootstrap(Long userId) {
+        Map<Long, float[]> vectors = new LinkedHashMap<>();
+        long lastId = 0L;
+        while (true) {
+            long after = lastId;
+            List<Note> batch = transactionTemplate.execute(status ->
+                    noteRepository.findByAuthorIdAndIdGreaterThanOrderByIdAsc(userId, after, PageRequest.of(0, BOOTSTRAP_BATCH)));
+            if (batch == null || batch.isEmpty()) {
+                return vectors;
+            }
+            for (Note note : batch) {
+                vectors.put(note.getId(), provider.embed(text(note)));
+                lastId = note.getId();
+            }
+        }
+    }
+
+    private final class UserIndex {
+
+        private final Long userId;
+        private final NoteVectorStore store;
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private UserIndex predecessor;
+        private boolean reset;
+        private volatile HnswIndex graph;
+        private volatile boolean retired;
+
+        /**
+         * @param predecessor 같은 사용자의 밀려난 인덱스. 그쪽 파일 쓰기가 끝난 뒤에 읽도록 적재 전에 닫는다.
+         */
+        UserIndex(Long userId, NoteVectorStore store, UserIndex predecessor) {
+            this.userId = userId;
+            this.store = store;
+            this.predecessor = predecessor;
+        }
+
+        HnswIndex graph() {
+            return graph;
+        }
+
+        boolean isRetired() {
+            return retired;
+        }
+
+        void loadAsync() {
+            if (!loading.compareAndSet(false, true)) return;
+            try {
+                executor.execute(() -> {
+                    try {
+                        synchronized (this) {
+                            if (!retired) {
+                                ensureLoaded();
+                            }
+                        }
+                    } catch (RuntimeException ex) {
+                        log.warn("Failed to load embedding index for user {}: {}", userId, ex.getMessage());
+                    } finally {
+                        loading.set(false);
+                    }
+                });
+            } catch (TaskRejectedException ex) {
+                loading.set(false);
+            }
+        }
+
+        void ensureLoaded() {
+            if (graph != null) return;
+            synchronized (this) {
+                if (graph != null) return;
+                if (predecessor != null) {
+                    predecessor.retire();
+                    predecessor = null;
+                }
+                try {
+                    Map<Long, float[]> vectors = store.load();
+                    if (store.isFresh() || reset) {
+                        vectors = bootstrap(userId);
+                        store.rewrite(vectors);
+                        reset = false;
+                    }
+                    graph = build(vectors);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+
+        void put(long noteId, float[] vector) throws IOException {
+            store.append(noteId, vector);
+            graph.put(noteId, vector);
+            compactIfNeeded();
+        }
+
+        void remove(long noteId) throws IOException {
+            store.appendDelete(noteId);
+            graph.remove(noteId);
+            compactIfNeeded();
+        }
+
+        synchronized void retire() {
+            if (retired) return;
+            retired = true;
+            if (predecessor != null) {
+                predecessor.retire();
+                predecessor = null;
+            }
+            try {
+                store.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            } finally {
+                retiring.remove(userId, this);
+            }
+        }
+
+        private void compactIfNeeded() throws IOException {
+            int live = graph.size();
+            boolean graphBloated = graph.needsCompaction();
+            boolean fileBloated = store.records() > 1_000 && store.records() > live * 2L;
+            if (!graphBloated && !fileBloated) return;
+            Map<Long, float[]> vectors = graph.liveVectors();
+            store.rewrite(vectors);
+            if (graphBloated) {
+                graph = build(vectors);
+            }
+        }
+
+        private HnswIndex build(Map<Long, float[]> vectors) {
+            HnswIndex index = new HnswIndex(provider.dimension());
+            vectors.forEach(index::put);
+            return index;
+        }
+    }
+
+    private record PendingKey(Long userId, Long noteId) {
+    }
+
+    private record Pending(Long userId, Long noteId, String text) {
+    }
+}
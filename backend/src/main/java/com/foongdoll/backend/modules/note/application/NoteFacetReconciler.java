@@ -0,0 +1,35 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
+import com.foongdoll.backend.modules.note.domain.NoteTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 패싯 카운터(카테고리 note_count, 태그 usage_count)를 실제 노트/링크 수와 비교해 어긋난 행만 바로잡는다.
+ * 기동 시에도 한 번 실행해 새로 추가된 카운터 컬럼을 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteFacetReconciler {
+
+    private final NoteCategoryRepository categoryRepository;
+    private final NoteTagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.notes.facet-reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        Integer categories = transactionTemplate.execute(status -> categoryRepository.reconcileNoteCounts());
+        Integer tags = transactionTemplate.execute(status -> tagRepository.reconcileUsageCounts());
+        if ((categories != null && categories > 0) || (tags != null && tags > 0)) {
+            log.info("Reconciled note facet counters: {} categories, {} tags", categories, tags);
+        }
+    }
+}
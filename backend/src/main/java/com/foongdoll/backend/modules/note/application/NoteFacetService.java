@@ -0,0 +1,30 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
+import com.foongdoll.backend.modules.note.domain.NoteTagRepository;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카테고리/태그별 노트 수. 노트 테이블을 집계하지 않고 미리 유지한 카운터만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoteFacetService {
+
+    private final NoteCategoryRepository categoryRepository;
+    private final NoteTagRepository tagRepository;
+
+    public NoteDtos.NoteFacetResponse facets(Long userId) {
+        var categories = categoryRepository.findFacetsByOwnerId(userId).stream()
+                .map(NoteDtos.FacetCount::from)
+                .toList();
+        var tags = tagRepository.findFacetsByOwnerId(userId).stream()
+                .map(NoteDtos.FacetCount::from)
+                .toList();
+        return new NoteDtos.NoteFacetResponse(categories, tags);
+    }
+}
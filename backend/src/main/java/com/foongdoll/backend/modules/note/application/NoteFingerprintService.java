@@ -0,0 +1,210 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteFingerprint;
+import com.foongdoll.backend.modules.note.domain.NoteFingerprintJdbcRepository;
+import com.foongdoll.backend.modules.note.domain.NoteFingerprintRepository;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노트 지문(SimHash)을 저장하고 밴드 버킷으로 유사 노트를 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoteFingerprintService {
+
+    /**
+     * 밴드 버킷으로 빠짐없이 찾을 수 있는 최대 거리(비둘기집 원리).
+     */
+    static final int MAX_DISTANCE = SimHash.BANDS - 1;
+
+    private final NoteFingerprintRepository fingerprintRepository;
+    private final NoteFingerprintJdbcRepository fingerprintJdbcRepository;
+    private final NoteRepository noteRepository;
+
+    @Transactional
+    public void record(Note note) {
+        long simhash = SimHash.of(note.getTitle() + "\n" + nullToEmpty(note.getContent()) + "\n" + note.getDataJson());
+        boolean unchanged = fingerprintRepository.findById(note.getId())
+                .map(existing -> existing.getSimhash() == simhash)
+                .orElse(false);
+        if (unchanged) {
+            return;
+        }
+        Long authorId = note.getAuthor().getId();
+        fingerprintRepository.upsert(note.getId(), authorId, simhash);
+        fingerprintJdbcRepository.replaceBands(note.getId(), authorId, bands(simhash));
+    }
+
+    @Transactional
+    public void remove(Long noteId) {
+        fingerprintJdbcRepository.deleteBands(noteId);
+        fingerprintRepository.deleteById(noteId);
+    }
+
+    public List<Match> findNear(Long authorId, Long noteId) {
+        NoteFingerprint fingerprint = fingerprintRepository.findById(noteId)
+                .filter(found -> found.getAuthorId().equals(authorId))
+                .orElse(null);
+        if (fingerprint == null) {
+            return List.of();
+        }
+        List<Long> mates = fingerprintJdbcRepository.findBucketMates(authorId, noteId, bands(fingerprint.getSimhash()));
+        if (mates.isEmpty()) {
+            return List.of();
+        }
+        return fingerprintRepository.findAllById(mates).stream()
+                .map(candidate -> new Match(candidate.getNoteId(), SimHash.distance(fingerprint.getSimhash(), candidate.getSimhash())))
+                .filter(match -> match.distance() <= MAX_DISTANCE)
+                .sorted(Comparator.comparingInt(Match::distance).thenComparing(Match::noteId))
+                .toList();
+    }
+
+    /**
+     * 저장된 중복 묶음. key 는 묶음 번호(대표 note_id), value 는 묶음에 속한 note_id 목록.
+     */
+    public Map<Long, List<Long>> clusters(Long authorId) {
+        Map<Long, List<Long>> clusters = new LinkedHashMap<>();
+        for (NoteFingerprint fingerprint : fingerprintRepository.findByAuthorIdAndClusterIdIsNotNullOrderByClusterIdAscNoteIdAsc(authorId)) {
+            clusters.computeIfAbsent(fingerprint.getClusterId(), key -> new ArrayList<>()).add(fingerprint.getNoteId());
+        }
+        return clusters;
+    }
+
+    /**
+     * 사용자 노트를 중복 묶음으로 나눈다. 같은 밴드 버킷에 들어간 지문끼리만 비교하고 union-find 로 묶으므로
+     * 전체 쌍을 비교하지 않는다. 지문이 완전히 같은 노트는 버킷 비교 전에 먼저 합친다.
+     */
+    @Transactional
+    public int cluster(Long authorId) {
+        List<NoteFingerprint> fingerprints = fingerprintRepository.findByAuthorId(authorId);
+        long[] simhashes = new long[fingerprints.size()];
+        for (int i = 0; i < simhashes.length; i++) {
+            simhashes[i] = fingerprints.get(i).getSimhash();
+        }
+        List<List<Integer>> groups = group(simhashes);
+        fingerprintRepository.clearClusters(authorId);
+        for (List<Integer> group : groups) {
+            List<Long> noteIds = group.stream().map(index -> fingerprints.get(index).getNoteId()).toList();
+            Long clusterId = noteIds.stream().min(Long::compare).orElseThrow();
+            fingerprintRepository.assignCluster(noteIds, clusterId);
+        }
+        return groups.size();
+    }
+
+    /**
+     * 지문 배열을 중복 묶음(2개 이상)의 인덱스 목록으로 나눈다. 묶음과 묶음 안의 인덱스는 오름차순.
+     */
+    static List<List<Integer>> group(long[] simhashes) {
+        int size = simhashes.length;
+        int[] parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+
+        Map<Long, Integer> bySimhash = new HashMap<>();
+        List<Integer> distinct = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Integer first = bySimhash.putIfAbsent(simhashes[i], i);
+            if (first == null) {
+                distinct.add(i);
+            } else {
+                union(parent, first, i);
+            }
+        }
+
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            Map<Integer, List<Integer>> buckets = new HashMap<>();
+            for (int index : distinct) {
+                buckets.computeIfAbsent(SimHash.band(simhashes[index], band), key -> new ArrayList<>()).add(index);
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                for (int a = 0; a < bucket.size(); a++) {
+                    for (int b = a + 1; b < bucket.size(); b++) {
+                        int left = bucket.get(a);
+                        int right = bucket.get(b);
+                        if (SimHash.distance(simhashes[left], simhashes[right]) <= MAX_DISTANCE) {
+                            union(parent, left, right);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            groups.computeIfAbsent(find(parent, i), key -> new ArrayList<>()).add(i);
+        }
+        List<List<Integer>> clusters = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            if (group.size() >= 2) {
+                clusters.add(group);
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * 지문이 없는 노트(기능 도입 이전 노트)를 limit 개까지 채운다.
+     */
+    @Transactional
+    public int backfill(int limit) {
+        List<Long> noteIds = fingerprintRepository.findNoteIdsWithoutFingerprint(limit);
+        noteRepository.findAllById(noteIds).forEach(this::record);
+        return noteIds.size();
+    }
+
+    /**
+     * 밴드 구성이 바뀐 뒤 남아 있는 이전 밴드 행을 저장된 지문에서 다시 만든다.
+     */
+    @Transactional
+    public boolean rebuildBandsIfStale() {
+        if (!fingerprintJdbcRepository.hasBandsBeyond(SimHash.BANDS)) {
+            return false;
+        }
+        fingerprintJdbcRepository.rebuildBands(SimHash.BANDS, SimHash.BAND_BITS);
+        return true;
+    }
+
+    private static int[] bands(long simhash) {
+        int[] bands = new int[SimHash.BANDS];
+        for (int i = 0; i < bands.length; i++) {
+            bands[i] = SimHash.band(simhash, i);
+        }
+        return bands;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public record Match(Long noteId, int distance) {
+    }
+}
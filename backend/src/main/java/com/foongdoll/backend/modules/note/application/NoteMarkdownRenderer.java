@@ -0,0 +1,45 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 노트 마크다운을 HTML 로 변환한다.
+ * 원문 HTML 은 이스케이프하고 javascript: 같은 위험한 URL 은 제거하므로 결과를 그대로 삽입해도 된다.
+ * Parser/HtmlRenderer 는 불변이라 스레드 간에 공유한다.
+ */
+@Component
+public class NoteMarkdownRenderer {
+
+    // 렌더링 규칙이 바뀌면 올려서 기존 캐시 항목을 무효화한다.
+    static final String VERSION = "v1";
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+
+    public NoteMarkdownRenderer() {
+        List<Extension> extensions = List.of(TablesExtension.create(), StrikethroughExtension.create());
+        this.parser = Parser.builder()
+                .extensions(extensions)
+                .build();
+        this.renderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .softbreak("<br />\n")
+                .build();
+    }
+
+    public String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+        return renderer.render(parser.parse(markdown));
+    }
+}
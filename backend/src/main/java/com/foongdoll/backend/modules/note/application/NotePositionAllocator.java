@@ -0,0 +1,61 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 새 노트의 position_index 를 할당한다. 작성자 행을 잠근 뒤 MAX(position_index)(작성자 보드 인덱스의 끝 한 칸)에서 이어
+ * 붙이므로 여러 인스턴스가 동시에 할당해도 값이 겹치지 않는다. 잠금은 트랜잭션 끝까지 유지되므로
+ * 같은 트랜잭션 안의 다음 할당은 다시 조회하지 않고 이어서 준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotePositionAllocator {
+
+    private final NoteRepository noteRepository;
+
+    public double next(Long userId) {
+        return reserve(userId, 1);
+    }
+
+    /**
+     * count 개의 연속된 위치를 예약한다. 트랜잭션 안에서 불러야 한다.
+     *
+     * @return 예약한 첫 위치
+     */
+    public double reserve(Long userId, int count) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Note positions must be allocated inside a transaction");
+        }
+        Map<Long, Double> reserved = reservedInTransaction();
+        Double last = reserved.get(userId);
+        if (last == null) {
+            noteRepository.lockAuthor(userId);
+            last = noteRepository.findMaxPositionIndex(userId);
+        }
+        reserved.put(userId, last + count);
+        return last + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Double> reservedInTransaction() {
+        Map<Long, Double> reserved = (Map<Long, Double>) TransactionSynchronizationManager.getResource(this);
+        if (reserved == null) {
+            reserved = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, reserved);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(NotePositionAllocator.this);
+                }
+            });
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,48 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 드래그 재정렬이 반복되면 인접 position_index 간격이 double 정밀도 한계에 가까워진다.
+ * 간격이 임계값보다 좁아진 사용자의 보드를 순서를 유지한 채 1, 2, 3... 으로 다시 매긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotePositionRebalancer {
+
+    private static final double MIN_GAP = 1e-6;
+
+    private final NoteRepository noteRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${app.notes.rebalance-cron:0 30 4 * * *}")
+    public void rebalanceCrowdedBoards() {
+        List<Long> authorIds = noteRepository.findAuthorsWithPositionGapBelow(MIN_GAP);
+        for (Long authorId : authorIds) {
+            try {
+                rebalance(authorId);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to rebalance note positions for user {}: {}", authorId, ex.getMessage());
+            }
+        }
+        if (!authorIds.isEmpty()) {
+            log.info("Rebalanced note positions for {} users", authorIds.size());
+        }
+    }
+
+    public void rebalance(Long authorId) {
+        // 할당과 같은 작성자 행 잠금을 잡아 번호를 다시 매기는 동안 새 위치가 끼어들지 않게 한다.
+        transactionTemplate.executeWithoutResult(status -> {
+            noteRepository.lockAuthor(authorId);
+            noteRepository.renumberPositions(authorId);
+        });
+    }
+}
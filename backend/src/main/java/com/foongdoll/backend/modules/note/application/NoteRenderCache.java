@@ -0,0 +1,110 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.common.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 렌더링된 노트 HTML 을 본문 해시로 캐시한다.
+ * 1차는 프로세스 내 LRU, 2차는 Redis(cacheManager) 이며 둘 다 없을 때만 markdownRenderExecutor 에서 렌더링한다.
+ * 같은 본문을 동시에 요청하면 진행 중인 렌더링 하나를 공유한다.
+ */
+@Slf4j
+@Component
+public class NoteRenderCache {
+
+    static final String CACHE_NAME = "noteHtml";
+    private static final int LOCAL_MAX_ENTRIES = 512;
+
+    private final NoteMarkdownRenderer renderer;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache remote;
+    private final Map<String, String> local = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > LOCAL_MAX_ENTRIES;
+        }
+    });
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public NoteRenderCache(NoteMarkdownRenderer renderer,
+                           @Qualifier("markdownRenderExecutor") ThreadPoolTaskExecutor executor,
+                           CacheManager cacheManager) {
+        this.renderer = renderer;
+        this.executor = executor;
+        this.remote = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public static String hash(String markdown) {
+        return HashUtils.sha256Hex(NoteMarkdownRenderer.VERSION + ":" + (markdown == null ? "" : markdown));
+    }
+
+    public CompletableFuture<String> render(String hash, String markdown) {
+        String cached = local.get(hash);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        cached = readRemote(hash);
+        if (cached != null) {
+            local.put(hash, cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(hash, pending);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            CompletableFuture.supplyAsync(() -> renderer.render(markdown), executor)
+                    .whenComplete((html, error) -> {
+                        if (html != null) {
+                            local.put(hash, html);
+                            writeRemote(hash, html);
+                        }
+                        inFlight.remove(hash, pending);
+                        if (error != null) {
+                            pending.completeExceptionally(error);
+                        } else {
+                            pending.complete(html);
+                        }
+                    });
+        } catch (TaskRejectedException ex) {
+            inFlight.remove(hash, pending);
+            pending.completeExceptionally(
+                    new DailyonException(ErrorCode.TOO_MANY_REQUESTS, "미리보기 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return pending;
+    }
+
+    private String readRemote(String hash) {
+        if (remote == null) return null;
+        try {
+            return remote.get(hash, String.class);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to read rendered note from cache: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String hash, String html) {
+        if (remote == null) return;
+        try {
+            remote.put(hash, html);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to write rendered note to cache: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.common.util.CompressionUtils;
+import com.foongdoll.backend.common.util.JsonUtils;
+import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import com.foongdoll.backend.modules.note.domain.NoteRevision;
+import com.foongdoll.backend.modules.note.domain.NoteRevisionRepository;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노트 리비전 기록/복원.
+ * 리비전 문서는 첫 줄에 제목과 필드 JSON 을 담은 헤더, 이후 줄에 본문을 둔다.
+ * {@value #SNAPSHOT_INTERVAL} 리비전마다 전체 스냅샷을 남겨 복원 시 읽는 행 수를 제한한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoteRevisionService {
+
+    static final int SNAPSHOT_INTERVAL = 20;
+
+    private final NoteRevisionRepository revisionRepository;
+    private final NoteRepository noteRepository;
+
+    public static String document(Note note) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("title", note.getTitle());
+        header.put("data", note.getDataJson());
+        String content = note.getContent() == null ? "" : note.getContent();
+        return JsonUtils.toJson(header) + "\n" + content;
+    }
+
+    @Transactional
+    public void recordCreated(Note note) {
+        String current = document(note);
+        revisionRepository.save(NoteRevision.snapshot(note, 1, CompressionUtils.deflate(current), byteSize(current)));
+    }
+
+    /**
+     * 다음 번호를 최신 리비전 + 1 로 정하므로 호출 측이 노트 행을 잠근 상태여야 한다
+     * ({@code NoteRepository.findByIdForUpdate}).
+     *
+     * @param before 수정 직전의 {@link #document(Note)} 값. 최신 리비전과 같은 내용이어야 한다.
+     */
+    @Transactional
+    public void recordUpdated(Note note, String before) {
+        String after = document(note);
+        if (after.equals(before)) {
+            return;
+        }
+        Integer latest = revisionRepository.findLatestRevisionNo(note.getId());
+        if (latest == null) {
+            revisionRepository.save(NoteRevision.snapshot(note, 1, CompressionUtils.deflate(before), byteSize(before)));
+            latest = 1;
+        }
+
+        int next = latest + 1;
+        if ((next - 1) % SNAPSHOT_INTERVAL == 0) {
+            revisionRepository.save(NoteRevision.snapshot(note, next, CompressionUtils.deflate(after), byteSize(after)));
+            return;
+        }
+        String patch = LineDiff.encodePatch(LineDiff.diff(LineDiff.lines(before), LineDiff.lines(after)));
+        revisionRepository.save(NoteRevision.delta(note, next, CompressionUtils.deflate(patch), byteSize(after)));
+    }
+
+    @Transactional
+    public void deleteAll(Long noteId) {
+        revisionRepository.deleteByNoteId(noteId);
+    }
+
+    public List<NoteDtos.RevisionSummaryResponse> list(Long userId, Long noteId) {
+        requireOwned(userId, noteId);
+        return revisionRepository.findByNoteIdOrderByRevisionNoDesc(noteId).stream()
+                .map(NoteDtos.RevisionSummaryResponse::from)
+                .toList();
+    }
+
+    public NoteDtos.RevisionResponse get(Long userId, Long noteId, int revisionNo) {
+        requireOwned(userId, noteId);
+        return toResponse(revisionNo, reconstruct(noteId, revisionNo));
+    }
+
+    public NoteDtos.RevisionDiffResponse diff(Long userId, Long noteId, int from, int to) {
+        requireOwned(userId, noteId);
+        NoteDtos.RevisionResponse base = toResponse(from, reconstruct(noteId, from));
+        NoteDtos.RevisionResponse target = toResponse(to, reconstruct(noteId, to));
+
+        List<NoteDtos.DiffLine> lines = new ArrayList<>();
+        for (LineDiff.Edit edit : LineDiff.diff(LineDiff.lines(base.content()), LineDiff.lines(target.content()))) {
+            for (String line : edit.lines()) {
+                lines.add(new NoteDtos.DiffLine(edit.op().name(), line));
+            }
+        }
+        return new NoteDtos.RevisionDiffResponse(base, target, lines);
+    }
+
+    private List<String> reconstruct(Long noteId, int revisionNo) {
+        Integer snapshotNo = revisionRepository.findSnapshotAtOrBefore(noteId, revisionNo);
+        if (snapshotNo == null) {
+            throw new DailyonException(ErrorCode.NOT_FOUND, "리비전을 찾을 수 없습니다.");
+        }
+        List<NoteRevision> chain = revisionRepository
+                .findByNoteIdAndRevisionNoBetweenOrderByRevisionNoAsc(noteId, snapshotNo, revisionNo);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevisionNo() != revisionNo) {
+            throw new DailyonException(ErrorCode.NOT_FOUND, "리비전을 찾을 수 없습니다.");
+        }
+
+        List<String> lines = LineDiff.lines(CompressionUtils.inflateToString(chain.get(0).getPayload()));
+        for (NoteRevision revision : chain.subList(1, chain.size())) {
+            lines = LineDiff.applyPatch(lines, CompressionUtils.inflateToString(revision.getPayload()));
+        }
+        return lines;
+    }
+
+    private NoteDtos.RevisionResponse toResponse(int revisionNo, List<String> lines) {
+        Map<String, Object> header = lines.isEmpty() ? Map.of() : JsonUtils.toMap(lines.get(0));
+        Object data = header.get("data");
+        String content = lines.size() <= 1 ? "" : String.join("\n", lines.subList(1, lines.size()));
+        return new NoteDtos.RevisionResponse(
+                revisionNo,
+                header.get("title") == null ? null : header.get("title").toString(),
+                content,
+                data == null ? Map.of() : JsonUtils.toMap(data.toString())
+        );
+    }
+
+    private void requireOwned(Long userId, Long noteId) {
+        if (!noteRepository.existsByIdAndAuthorId(noteId, userId)) {
+            throw new DailyonException(ErrorCode.NOT_FOUND, "노트를 찾을 수 없습니다.");
+        }
+    }
+
+    private static int byteSize(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
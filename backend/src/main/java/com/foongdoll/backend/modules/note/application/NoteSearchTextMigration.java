@@ -0,0 +1,133 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.persistence.CompressedTextConverter;
+import com.foongdoll.backend.modules.note.domain.Note;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * notes.search_text 의 FULLTEXT(ngram) 인덱스를 만들고, 컬럼 도입 이전 행의 search_text 를 채운다.
+ * ddl-auto 로는 FULLTEXT 인덱스를 만들 수 없어 기동 시 information_schema 를 보고 한 번만 만든다.
+ * 채우기는 asyncExecutor 에서 PK 순으로 돌며, 비어 있는 행만 고르므로 중간에 멈춰도 다음 기동에서 이어진다.
+ */
+@Slf4j
+@Component
+public class NoteSearchTextMigration implements ApplicationRunner {
+
+    private static final String INDEX_NAME = "ft_notes_search_text";
+    private static final int BATCH_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor executor;
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    public NoteSearchTextMigration(JdbcTemplate jdbcTemplate, @Qualifier("asyncExecutor") Executor executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        createIndexIfMissing();
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM notes WHERE search_text IS NULL)", Boolean.class);
+        if (Boolean.TRUE.equals(pending)) {
+            executor.execute(this::backfill);
+        }
+    }
+
+    private void createIndexIfMissing() {
+        if (indexExists()) {
+            return;
+        }
+        // 기본 불용어 목록은 2자 ngram("in", "to" 등)까지 걸러 내므로 인덱스를 만드는 세션에서만 끈다.
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                    try {
+                        statement.execute("ALTER TABLE notes ADD FULLTEXT INDEX " + INDEX_NAME
+                                + " (search_text) WITH PARSER ngram");
+                    } finally {
+                        statement.execute("SET SESSION innodb_ft_enable_stopword = ON");
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            // 다른 인스턴스가 먼저 만들었으면 그대로 쓴다.
+            if (!indexExists()) {
+                throw ex;
+            }
+            return;
+        }
+        log.info("Created FULLTEXT index {} on notes.search_text", INDEX_NAME);
+    }
+
+    private boolean indexExists() {
+        Integer indexes = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'notes' AND index_name = ?
+                """, Integer.class, INDEX_NAME);
+        return indexes != null && indexes > 0;
+    }
+
+    private void backfill() {
+        long lastId = 0L;
+        int filled = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query("""
+                            SELECT note_id, title, content, data_json, updated_at
+                            FROM notes
+                            WHERE note_id > ? AND search_text IS NULL
+                            ORDER BY note_id
+                            LIMIT ?
+                            """,
+                    (rs, rowNum) -> new Row(
+                            rs.getLong("note_id"),
+                            rs.getString("title"),
+                            rs.getString("content"),
+                            rs.getString("data_json"),
+                            rs.getObject("updated_at", LocalDateTime.class)
+                    ),
+                    lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = rows.stream()
+                    .map(row -> new Object[]{
+                            Note.searchTextOf(
+                                    row.title(),
+                                    converter.convertToEntityAttribute(row.content()),
+                                    converter.convertToEntityAttribute(row.dataJson())),
+                            row.id(),
+                            row.updatedAt()
+                    })
+                    .toList();
+            // 그 사이 수정된 행은 엔티티가 이미 search_text 를 채웠으므로 건너뛴다.
+            int[] counts = jdbcTemplate.batchUpdate(
+                    "UPDATE notes SET search_text = ? WHERE note_id = ? AND updated_at = ? AND search_text IS NULL",
+                    updates);
+            for (int count : counts) {
+                filled += Math.max(count, 0);
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        }
+        log.info("Note search text backfill finished: filled={}", filled);
+    }
+
+    private record Row(long id, String title, String content, String dataJson, LocalDateTime updatedAt) {
+    }
+}
@@ -2,13 +2,17 @@ package com.foongdoll.backend.modules.note.application;
 
 import com.foongdoll.backend.common.error.DailyonException;
 import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.file.application.AttachmentService;
 import com.foongdoll.backend.modules.note.domain.Note;
-import com.foongdoll.backend.modules.note.domain.NoteCategory;
-import com.foongdoll.backend.modules.note.domain.NoteCategoryField;
 import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
-import com.foongdoll.backend.modules.note.domain.NoteFieldType;
 import com.foongdoll.backend.modules.note.domain.NoteLayout;
+import com.foongdoll.backend.modules.note.domain.NoteLayoutChange;
+import com.foongdoll.backend.modules.note.domain.NoteLayoutJdbcRepository;
 import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import com.foongdoll.backend.modules.note.domain.NoteSummaryView;
+import com.foongdoll.backend.modules.note.domain.NoteTag;
+import com.foongdoll.backend.modules.note.domain.NoteTagChange;
+import com.foongdoll.backend.modules.note.domain.NoteTagView;
 import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
 import com.foongdoll.backend.modules.user.domain.User;
 import com.foongdoll.backend.modules.user.domain.UserRepository;
@@ -18,180 +22,306 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NoteService {
 
+    private static final int BOARD_MAX_SIZE = 100;
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int FULLTEXT_MIN_TOKEN = 2;
+    private static final int SEMANTIC_MAX_RESULTS = 50;
+
     private final NoteRepository noteRepository;
     private final NoteCategoryRepository categoryRepository;
+    private final NoteCategorySchemaCache schemaCache;
+    private final NoteLayoutJdbcRepository layoutJdbcRepository;
+    private final NotePositionAllocator positionAllocator;
+    private final NoteSpatialIndex spatialIndex;
+    private final NoteRevisionService revisionService;
+    private final NoteTagService tagService;
+    private final NoteRenderCache renderCache;
+    private final AttachmentService attachmentService;
+    private final NoteEmbeddingIndex embeddingIndex;
+    private final NoteFingerprintService fingerprintService;
     private final UserRepository userRepository;
 
     public Page<Note> search(Long userId, Long categoryId, String keyword, Pageable pageable) {
-        return noteRepository.search(userId, categoryId, normalizeKeyword(keyword), pageable);
+        String normalized = normalizeKeyword(keyword);
+        return noteRepository.search(userId, categoryId, normalized, fullTextPhrase(normalized), pageable);
+    }
+
+    public NoteDtos.NoteBoardResponse board(Long userId, Long categoryId, String keyword, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, BOARD_MAX_SIZE));
+        NoteCursor after = NoteCursor.decode(cursor);
+        String normalized = normalizeKeyword(keyword);
+
+        List<NoteSummaryView> rows = noteRepository.findBoardSlice(
+                userId,
+                categoryId,
+                normalized,
+                fullTextPhrase(normalized),
+                after == null ? null : after.position(),
+                after == null ? null : after.updatedAt(),
+                after == null ? null : after.id(),
+                SNIPPET_LENGTH,
+                limit + 1
+        );
+
+        boolean hasNext = rows.size() > limit;
+        List<NoteSummaryView> page = hasNext ? rows.subList(0, limit) : rows;
+        Map<Long, List<String>> tags = loadTags(page);
+
+        List<NoteDtos.NoteSummaryResponse> notes = page.stream()
+                .map(row -> NoteDtos.NoteSummaryResponse.from(row, tags.getOrDefault(row.getId(), List.of())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            NoteSummaryView last = page.get(page.size() - 1);
+            nextCursor = new NoteCursor(last.getPositionIndex(), last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new NoteDtos.NoteBoardResponse(notes, nextCursor, hasNext);
     }
 
     @Transactional
-    public Note create(Long userId, NoteDtos.NoteUpsertRequest request) {
+    public NoteDtos.NoteResponse create(Long userId, NoteDtos.NoteUpsertRequest request) {
         User author = userRepository.findById(userId)
                 .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        NoteCategory category = loadCategory(userId, request.categoryId());
+        NoteCategorySchema schema = schemaCache.get(userId, request.categoryId());
 
-        Map<String, Object> prepared = prepareFieldValues(category, request.fields());
-        double nextPosition = noteRepository.findMaxPositionIndex(userId) + 1d;
-        NoteLayout layout = request.layout() == null ? NoteLayout.defaultLayout() : request.layout().toLayout();
+        Map<String, Object> prepared = schema.normalize(request.fields());
+        double nextPosition = positionAllocator.next(userId);
+        NoteLayout layout = request.layout() == null ? NoteLayout.defaultLayout() : requireOnBoard(request.layout().toLayout());
+        List<NoteTag> tags = tagService.resolve(userId, request.tags());
 
         Note note = Note.builder()
                 .author(author)
-                .category(category)
+                .category(categoryRepository.getReferenceById(schema.getCategoryId()))
                 .title(request.title())
                 .content(request.content())
                 .color(request.color())
                 .pinned(request.pinned())
-                .tags(request.tags())
+                .tags(tags)
                 .data(prepared)
                 .layout(layout)
                 .positionIndex(nextPosition)
                 .build();
 
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        categoryRepository.adjustNoteCount(schema.getCategoryId(), 1);
+        tagService.applyUsage(new NoteTagChange(Set.copyOf(tags), Set.of()));
+        revisionService.recordCreated(saved);
+        spatialIndex.put(userId, saved.getId(), saved.getLayout());
+        embeddingIndex.scheduleUpsert(userId, saved.getId(), NoteEmbeddingIndex.text(saved));
+        fingerprintService.record(saved);
+        return NoteDtos.NoteResponse.from(saved, schema.getCategoryName());
     }
 
     @Transactional
-    public Note update(Long userId, Long noteId, NoteDtos.NoteUpsertRequest request) {
-        Note note = getNoteOwnedBy(userId, noteId);
-        if (!note.getCategory().getId().equals(request.categoryId())) {
-            NoteCategory newCategory = loadCategory(userId, request.categoryId());
-            note.changeCategory(newCategory);
+    public NoteDtos.NoteResponse update(Long userId, Long noteId, NoteDtos.NoteUpsertRequest request) {
+        Note note = getNoteOwnedForUpdate(userId, noteId);
+        NoteCategorySchema schema = schemaCache.get(userId, request.categoryId());
+        Long previousCategoryId = note.getCategory().getId();
+        if (!previousCategoryId.equals(schema.getCategoryId())) {
+            note.changeCategory(categoryRepository.getReferenceById(schema.getCategoryId()));
+            categoryRepository.adjustNoteCount(previousCategoryId, -1);
+            categoryRepository.adjustNoteCount(schema.getCategoryId(), 1);
         }
 
-        Map<String, Object> prepared = prepareFieldValues(note.getCategory(), request.fields());
-        note.update(request.title(), request.content(), request.color(), request.pinned(), request.tags(), prepared);
+        Map<String, Object> prepared = schema.normalize(request.fields());
+        String before = NoteRevisionService.document(note);
+        note.update(request.title(), request.content(), request.color(), request.pinned(), prepared);
+        NoteTagChange tagChange = note.replaceTags(tagService.resolve(userId, request.tags()));
+        if (!tagChange.isEmpty()) {
+            tagService.applyUsage(tagChange);
+        }
+        revisionService.recordUpdated(note, before);
+        embeddingIndex.scheduleUpsert(userId, noteId, NoteEmbeddingIndex.text(note));
+        fingerprintService.record(note);
 
         if (request.layout() != null) {
-            note.applyLayout(request.layout().toLayout(), note.getPositionIndex());
+            note.applyLayout(requireOnBoard(request.layout().toLayout()), note.getPositionIndex());
+            spatialIndex.put(userId, note.getId(), note.getLayout());
         }
-        return note;
+        return NoteDtos.NoteResponse.from(note, schema.getCategoryName());
     }
 
     @Transactional
     public void delete(Long userId, Long noteId) {
         Note note = getNoteOwnedBy(userId, noteId);
+        revisionService.deleteAll(noteId);
+        attachmentService.deleteAllForNote(noteId);
+        fingerprintService.remove(noteId);
+        tagService.applyUsage(new NoteTagChange(Set.of(), note.getTagEntries()));
+        categoryRepository.adjustNoteCount(note.getCategory().getId(), -1);
         noteRepository.delete(note);
+        spatialIndex.remove(userId, noteId);
+        embeddingIndex.scheduleRemove(userId, noteId);
     }
 
     @Transactional
     public void updateLayouts(Long userId, List<NoteDtos.LayoutUpdateRequest> requests) {
-        Set<Long> ids = requests.stream()
-                .map(NoteDtos.LayoutUpdateRequest::noteId)
-                .collect(Collectors.toSet());
-        if (ids.isEmpty()) return;
-
-        List<Note> notes = noteRepository.findAllById(ids);
-        Map<Long, Note> noteMap = notes.stream().collect(Collectors.toMap(Note::getId, it -> it));
-
+        Map<Long, NoteLayoutChange> changes = new LinkedHashMap<>();
         for (NoteDtos.LayoutUpdateRequest payload : requests) {
-            Note note = noteMap.get(payload.noteId());
-            if (note == null || !note.getAuthor().getId().equals(userId)) {
+            if (payload.noteId() == null) {
                 throw new DailyonException(ErrorCode.FORBIDDEN, "배치 권한이 없습니다.");
             }
-            NoteLayout layout = payload.layout() == null ? note.getLayout() : payload.layout().toLayout();
-            note.applyLayout(layout, payload.position());
+            NoteLayout layout = payload.layout() == null ? null : requireOnBoard(payload.layout().toLayout());
+            changes.put(payload.noteId(), new NoteLayoutChange(payload.noteId(), payload.position(), layout));
+        }
+        if (changes.isEmpty()) return;
+
+        int updated = layoutJdbcRepository.updateLayouts(userId, List.copyOf(changes.values()));
+        if (updated != changes.size()) {
+            throw new DailyonException(ErrorCode.FORBIDDEN, "배치 권한이 없습니다.");
         }
+        changes.values().stream()
+                .filter(change -> change.layout() != null)
+                .forEach(change -> spatialIndex.put(userId, change.noteId(), change.layout()));
     }
 
-    public Note get(Long userId, Long noteId) {
-        return getNoteOwnedBy(userId, noteId);
+    public List<NoteDtos.NoteSummaryResponse> viewport(Long userId, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "보드 영역이 올바르지 않습니다.");
+        }
+        List<Long> ids = spatialIndex.findInViewport(userId, x, y, width, height);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<NoteSummaryView> rows = noteRepository.findSummariesByIds(userId, ids, SNIPPET_LENGTH);
+        Map<Long, List<String>> tags = loadTags(rows);
+        return rows.stream()
+                .map(row -> NoteDtos.NoteSummaryResponse.from(row, tags.getOrDefault(row.getId(), List.of())))
+                .toList();
     }
 
-    private NoteCategory loadCategory(Long userId, Long categoryId) {
-        if (categoryId == null) {
-            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "카테고리를 선택해주세요.");
+    public List<NoteDtos.SemanticSearchHit> semantic(Long userId, String query, int k) {
+        if (query == null || query.isBlank()) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "검색어를 입력해주세요.");
         }
-        return categoryRepository.findByIdAndOwnerId(categoryId, userId)
-                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "카테고리를 찾을 수 없습니다."));
+        int limit = Math.max(1, Math.min(k, SEMANTIC_MAX_RESULTS));
+        List<HnswIndex.Hit> hits = embeddingIndex.search(userId, query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NoteDtos.NoteSummaryResponse> summaries = summarize(userId,
+                hits.stream().map(HnswIndex.Hit::noteId).toList());
+        List<NoteDtos.SemanticSearchHit> results = new ArrayList<>(hits.size());
+        for (HnswIndex.Hit hit : hits) {
+            NoteDtos.NoteSummaryResponse summary = summaries.get(hit.noteId());
+            if (summary != null) {
+                results.add(new NoteDtos.SemanticSearchHit(summary, hit.similarity()));
+            }
+        }
+        return results;
     }
 
-    private Note getNoteOwnedBy(Long userId, Long noteId) {
-        return noteRepository.findById(noteId)
-                .filter(note -> note.getAuthor().getId().equals(userId))
-                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "노트를 찾을 수 없습니다."));
+    public List<NoteDtos.DuplicateCandidate> duplicates(Long userId, Long noteId) {
+        getNoteOwnedBy(userId, noteId);
+        List<NoteFingerprintService.Match> matches = fingerprintService.findNear(userId, noteId);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NoteDtos.NoteSummaryResponse> summaries = summarize(userId,
+                matches.stream().map(NoteFingerprintService.Match::noteId).toList());
+        return matches.stream()
+                .filter(match -> summaries.containsKey(match.noteId()))
+                .map(match -> new NoteDtos.DuplicateCandidate(summaries.get(match.noteId()), match.distance()))
+                .toList();
     }
 
-    private Map<String, Object> prepareFieldValues(NoteCategory category, Map<String, Object> fields) {
-        Map<String, Object> input = fields == null ? Map.of() : fields;
-        Map<String, Object> normalized = new LinkedHashMap<>();
+    public List<NoteDtos.DuplicateCluster> duplicateClusters(Long userId) {
+        Map<Long, List<Long>> clusters = fingerprintService.clusters(userId);
+        if (clusters.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NoteDtos.NoteSummaryResponse> summaries = summarize(userId,
+                clusters.values().stream().flatMap(List::stream).toList());
+        return clusters.entrySet().stream()
+                .map(entry -> new NoteDtos.DuplicateCluster(entry.getKey(), entry.getValue().stream()
+                        .map(summaries::get)
+                        .filter(Objects::nonNull)
+                        .toList()))
+                .filter(cluster -> cluster.notes().size() > 1)
+                .toList();
+    }
 
-        for (NoteCategoryField schema : category.getFieldsSorted()) {
-            Object value = input.get(schema.getKey());
-            if (value == null || (value instanceof String str && str.isBlank())) {
-                if (schema.isRequired()) {
-                    throw new DailyonException(ErrorCode.VALIDATION_ERROR, schema.getLabel() + " 값을 입력해주세요.");
-                }
-                continue;
-            }
-            normalized.put(schema.getKey(), normalizeValue(schema, value));
+    @Transactional
+    public NoteDtos.NoteLayoutPayload drop(Long userId, Long noteId, NoteDtos.NoteLayoutPayload payload) {
+        if (payload == null) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "보드 영역이 올바르지 않습니다.");
+        }
+        NoteLayout desired = payload.toLayout();
+        if ((long) desired.getX() + desired.getWidth() > Integer.MAX_VALUE
+                || (long) desired.getY() + desired.getHeight() > Integer.MAX_VALUE) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "보드 영역이 올바르지 않습니다.");
         }
+        Note note = getNoteOwnedBy(userId, noteId);
+        NoteLayout resolved = spatialIndex.resolveDrop(userId, noteId, desired);
+        note.applyLayout(resolved, note.getPositionIndex());
+        spatialIndex.put(userId, noteId, resolved);
+        return NoteDtos.NoteLayoutPayload.from(resolved);
+    }
 
-        return normalized;
+    private NoteLayout requireOnBoard(NoteLayout layout) {
+        if (!spatialIndex.fitsBoard(layout)) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "보드 영역이 올바르지 않습니다.");
+        }
+        return layout;
     }
 
-    private Object normalizeValue(NoteCategoryField field, Object value) {
-        return switch (field.getType()) {
-            case NUMBER -> parseNumber(field, value);
-            case BOOLEAN -> parseBoolean(value);
-            case DATE -> parseDate(value);
-            case TAGS -> parseTags(value);
-            case TEXT -> value.toString();
-        };
+    public CompletableFuture<NoteDtos.RenderedNoteResponse> renderHtml(Long userId, Long noteId) {
+        Note note = getNoteOwnedBy(userId, noteId);
+        String content = note.getContent();
+        String hash = NoteRenderCache.hash(content);
+        return renderCache.render(hash, content)
+                .thenApply(html -> new NoteDtos.RenderedNoteResponse(noteId, hash, html));
     }
 
-    private Double parseNumber(NoteCategoryField field, Object value) {
-        try {
-            if (value instanceof Number number) {
-                return number.doubleValue();
-            }
-            return Double.parseDouble(value.toString().trim());
-        } catch (NumberFormatException ex) {
-            throw new DailyonException(ErrorCode.VALIDATION_ERROR, field.getLabel() + "은(는) 숫자 형식이어야 합니다.");
-        }
+    public Note get(Long userId, Long noteId) {
+        return getNoteOwnedBy(userId, noteId);
     }
 
-    private Boolean parseBoolean(Object value) {
-        if (value instanceof Boolean bool) {
-            return bool;
-        }
-        String str = value.toString().trim().toLowerCase();
-        return str.equals("1") || str.equals("true") || str.equals("yes") || str.equals("y");
+    private Map<Long, NoteDtos.NoteSummaryResponse> summarize(Long userId, List<Long> ids) {
+        List<NoteSummaryView> rows = noteRepository.findSummariesByIds(userId, ids, SNIPPET_LENGTH);
+        Map<Long, List<String>> tags = loadTags(rows);
+        Map<Long, NoteDtos.NoteSummaryResponse> summaries = new LinkedHashMap<>();
+        rows.forEach(row -> summaries.put(row.getId(),
+                NoteDtos.NoteSummaryResponse.from(row, tags.getOrDefault(row.getId(), List.of()))));
+        return summaries;
     }
 
-    private String parseDate(Object value) {
-        String str = value.toString().trim();
-        try {
-            LocalDate.parse(str);
-            return str;
-        } catch (DateTimeParseException ex) {
-            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "날짜 형식(yyyy-MM-dd)이 올바르지 않습니다.");
+    private Map<Long, List<String>> loadTags(List<NoteSummaryView> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = rows.stream().map(NoteSummaryView::getId).toList();
+        Map<Long, List<String>> tags = new LinkedHashMap<>();
+        for (NoteTagView view : noteRepository.findTagsByNoteIds(ids)) {
+            tags.computeIfAbsent(view.getNoteId(), key -> new ArrayList<>()).add(view.getTag());
         }
+        return tags;
     }
 
-    private List<String> parseTags(Object value) {
-        if (value instanceof List<?> list) {
-            return list.stream().map(Object::toString).map(String::trim).filter(it -> !it.isEmpty()).toList();
-        }
-        String[] tokens = value.toString().split(",");
-        return java.util.Arrays.stream(tokens)
-                .map(String::trim)
-                .filter(token -> !token.isEmpty())
-                .toList();
+    private Note getNoteOwnedBy(Long userId, Long noteId) {
+        return noteRepository.findById(noteId)
+                .filter(note -> note.getAuthor().getId().equals(userId))
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "노트를 찾을 수 없습니다."));
+    }
+
+    private Note getNoteOwnedForUpdate(Long userId, Long noteId) {
+        return noteRepository.findByIdForUpdate(noteId)
+                .filter(note -> note.getAuthor().getId().equals(userId))
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "노트를 찾을 수 없습니다."));
     }
 
     private String normalizeKeyword(String keyword) {
@@ -200,4 +330,19 @@ public class NoteService {
         }
         return keyword;
     }
+
+    /**
+     * 키워드를 FULLTEXT 불리언 모드의 구문 검색어로 감싼다. ngram 토큰(2자)보다 짧으면 null 을 돌려
+     * search_text LIKE 로 검색하게 한다.
+     */
+    private String fullTextPhrase(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String phrase = keyword.replace('"', ' ').strip();
+        if (phrase.codePointCount(0, phrase.length()) < FULLTEXT_MIN_TOKEN) {
+            return null;
+        }
+        return '"' + phrase + '"';
+    }
 }
@@ -0,0 +1,305 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.modules.note.domain.NoteLayout;
+import com.foongdoll.backend.modules.note.domain.NoteLayoutView;
+import com.foongdoll.backend.modules.note.domain.NoteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자별 노트 보드 배치(layout_*)를 균일 격자로 색인한다.
+ * 최초 조회 시 DB 에서 한 번 적재하고 이후에는 커밋된 변경만 증분 반영한다.
+ * 커밋 반영은 사용자별 버전을 올리고, 적재 중에 버전이 바뀌었으면 그 격자는 설치하지 않고 다시 적재한다.
+ */
+@Component
+public class NoteSpatialIndex {
+
+    private static final int CELL_SIZE = 8;
+    private static final int MAX_USERS = 2_000;
+    private static final int MAX_SEARCH_ROWS = 200;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    public static final int MAX_NOTE_HEIGHT = 64;
+    public static final int MAX_BOARD_ROWS = 100_000;
+
+    private final NoteRepository noteRepository;
+    private final int columns;
+    private final Map<Long, Grid> grids = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public NoteSpatialIndex(NoteRepository noteRepository,
+                            @Value("${app.notes.board-columns:12}") int columns) {
+        this.noteRepository = noteRepository;
+        this.columns = columns;
+    }
+
+    /**
+     * 보드 폭 안에 있고 높이/위치가 한도를 넘지 않는 배치인지.
+     */
+    public boolean fitsBoard(NoteLayout layout) {
+        long right = (long) layout.getX() + layout.getWidth();
+        long bottom = (long) layout.getY() + layout.getHeight();
+        return layout.getX() >= 0 && layout.getY() >= 0
+                && layout.getWidth() >= 1 && right <= columns
+                && layout.getHeight() >= 1 && layout.getHeight() <= MAX_NOTE_HEIGHT
+                && bottom <= MAX_BOARD_ROWS;
+    }
+
+    public List<Long> findInViewport(Long userId, int x, int y, int width, int height) {
+        // fitsBoard 와 같이 long 으로 계산해 보드 안으로 자른다. int 로 더하면 큰 폭에서 넘쳐 빈 결과가 된다.
+        long left = Math.max(0, x);
+        long top = Math.max(0, y);
+        long right = Math.min((long) x + Math.max(1, width), columns);
+        long bottom = Math.min((long) y + Math.max(1, height), MAX_BOARD_ROWS);
+        if (right <= left || bottom <= top) {
+            return List.of();
+        }
+        Rect area = Rect.of((int) left, (int) top, (int) (right - left), (int) (bottom - top));
+        Grid grid = grid(userId);
+        synchronized (grid) {
+            return grid.query(area, null);
+        }
+    }
+
+    /**
+     * 원하는 위치가 다른 노트와 겹치면 가장 가까운 빈 자리를 찾는다. 크기와 위치는 보드 안으로 잘라 낸다.
+     */
+    public NoteLayout resolveDrop(Long userId, Long noteId, NoteLayout desired) {
+        int width = Math.max(1, Math.min(desired.getWidth(), columns));
+        int height = Math.max(1, Math.min(desired.getHeight(), MAX_NOTE_HEIGHT));
+        int maxX = columns - width;
+        int startX = Math.max(0, Math.min(desired.getX(), maxX));
+
+        Grid grid = grid(userId);
+        synchronized (grid) {
+            int maxY = Math.min(grid.maxBottom + MAX_SEARCH_ROWS, MAX_BOARD_ROWS - height);
+            int startY = Math.max(0, Math.min(desired.getY(), maxY));
+            for (int distance = 0; distance <= MAX_SEARCH_ROWS; distance++) {
+                int below = startY + distance;
+                int above = startY - distance;
+                // startX 에서 좌우로 번갈아 넓혀 가며 가까운 열부터 본다.
+                for (int offset = 0; offset <= maxX; offset++) {
+                    int left = startX - offset;
+                    int right = startX + offset;
+                    if (left < 0 && right > maxX) break;
+                    if (left >= 0) {
+                        NoteLayout found = probe(grid, noteId, left, below, above, width, height);
+                        if (found != null) return found;
+                    }
+                    if (offset > 0 && right <= maxX) {
+                        NoteLayout found = probe(grid, noteId, right, below, above, width, height);
+                        if (found != null) return found;
+                    }
+                }
+            }
+            return layout(startX, Math.max(startY, grid.maxBottom), width, height);
+        }
+    }
+
+    private static NoteLayout probe(Grid grid, Long noteId, int x, int below, int above, int width, int height) {
+        if (grid.isFree(Rect.of(x, below, width, height), noteId)) {
+            return layout(x, below, width, height);
+        }
+        if (above != below && above >= 0 && grid.isFree(Rect.of(x, above, width, height), noteId)) {
+            return layout(x, above, width, height);
+        }
+        return null;
+    }
+
+    public void put(Long userId, Long noteId, NoteLayout layout) {
+        afterCommit(() -> {
+            bumpVersion(userId);
+            Grid grid = grids.get(userId);
+            if (grid == null || layout == null) return;
+            synchronized (grid) {
+                grid.put(noteId, Rect.of(layout));
+            }
+        });
+    }
+
+    public void remove(Long userId, Long noteId) {
+        afterCommit(() -> {
+            bumpVersion(userId);
+            Grid grid = grids.get(userId);
+            if (grid == null) return;
+            synchronized (grid) {
+                grid.remove(noteId);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        bumpVersion(userId);
+        grids.remove(userId);
+    }
+
+    private Grid grid(Long userId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            Grid grid = grids.get(userId);
+            if (grid != null) {
+                return grid;
+            }
+            long version = version(userId).get();
+            Grid loaded = load(userId);
+            if (grids.size() >= MAX_USERS) {
+                grids.clear();
+            }
+            // 버전 비교와 설치를 한 번에 해야 그 사이 커밋 반영이 격자 없이 지나가 버리지 않는다.
+            Grid installed = grids.compute(userId, (key, current) -> {
+                if (current != null) return current;
+                return version(userId).get() == version ? loaded : null;
+            });
+            if (installed != null) {
+                return installed;
+            }
+        }
+        // 변경이 계속 들어오면 캐시하지 않은 격자로 이번 요청만 처리한다.
+        return load(userId);
+    }
+
+    private Grid load(Long userId) {
+        Grid loaded = new Grid();
+        for (NoteLayoutView view : noteRepository.findLayoutsByAuthorId(userId)) {
+            // 가져오기 등으로 한도 밖 값이 저장돼 있어도 격자 칸 수가 폭주하지 않게 보드 안으로 자른다.
+            int x = Math.max(0, Math.min(orZero(view.getLayoutX()), columns - 1));
+            int y = Math.max(0, Math.min(orZero(view.getLayoutY()), MAX_BOARD_ROWS));
+            loaded.put(view.getId(), Rect.of(x, y,
+                    Math.min(orZero(view.getLayoutWidth()), columns - x),
+                    Math.min(orZero(view.getLayoutHeight()), MAX_NOTE_HEIGHT)));
+        }
+        return loaded;
+    }
+
+    private AtomicLong version(Long userId) {
+        return versions.computeIfAbsent(userId, key -> new AtomicLong());
+    }
+
+    private void bumpVersion(Long userId) {
+        version(userId).incrementAndGet();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static NoteLayout layout(int x, int y, int width, int height) {
+        return NoteLayout.builder().x(x).y(y).width(width).height(height).build();
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private record Rect(int x, int y, int width, int height) {
+
+        static Rect of(int x, int y, int width, int height) {
+            return new Rect(x, y, Math.max(1, width), Math.max(1, height));
+        }
+
+        static Rect of(NoteLayout layout) {
+            return of(layout.getX(), layout.getY(), layout.getWidth(), layout.getHeight());
+        }
+
+        int right() {
+            return x + width;
+        }
+
+        int bottom() {
+            return y + height;
+        }
+
+        boolean intersects(Rect other) {
+            return x < other.right() && other.x < right() && y < other.bottom() && other.y < bottom();
+        }
+    }
+
+    private static final class Grid {
+
+        private final Map<Long, Rect> rects = new HashMap<>();
+        private final Map<Long, Set<Long>> cells = new HashMap<>();
+        private int maxBottom;
+
+        void put(Long noteId, Rect rect) {
+            remove(noteId);
+            rects.put(noteId, rect);
+            forEachCell(rect, key -> cells.computeIfAbsent(key, it -> new HashSet<>()).add(noteId));
+            maxBottom = Math.max(maxBottom, rect.bottom());
+        }
+
+        void remove(Long noteId) {
+            Rect rect = rects.remove(noteId);
+            if (rect == null) return;
+            forEachCell(rect, key -> {
+                Set<Long> ids = cells.get(key);
+                if (ids != null && ids.remove(noteId) && ids.isEmpty()) {
+                    cells.remove(key);
+                }
+            });
+        }
+
+        List<Long> query(Rect area, Long excludeId) {
+            List<Long> result = new ArrayList<>();
+            if (cellSpan(area) > rects.size()) {
+                rects.forEach((id, rect) -> {
+                    if (!id.equals(excludeId) && rect.intersects(area)) {
+                        result.add(id);
+                    }
+                });
+                return result;
+            }
+            Set<Long> seen = new HashSet<>();
+            forEachCell(area, key -> {
+                Set<Long> ids = cells.get(key);
+                if (ids == null) return;
+                for (Long id : ids) {
+                    if (!id.equals(excludeId) && seen.add(id) && rects.get(id).intersects(area)) {
+                        result.add(id);
+                    }
+                }
+            });
+            return result;
+        }
+
+        boolean isFree(Rect area, Long excludeId) {
+            return query(area, excludeId).isEmpty();
+        }
+
+        private static long cellSpan(Rect rect) {
+            long columns = Math.floorDiv(rect.right() - 1, CELL_SIZE) - Math.floorDiv(rect.x(), CELL_SIZE) + 1L;
+            long rows = Math.floorDiv(rect.bottom() - 1, CELL_SIZE) - Math.floorDiv(rect.y(), CELL_SIZE) + 1L;
+            return columns * rows;
+        }
+
+        private static void forEachCell(Rect rect, LongConsumer consumer) {
+            int fromX = Math.floorDiv(rect.x(), CELL_SIZE);
+            int toX = Math.floorDiv(rect.right() - 1, CELL_SIZE);
+            int fromY = Math.floorDiv(rect.y(), CELL_SIZE);
+            int toY = Math.floorDiv(rect.bottom() - 1, CELL_SIZE);
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (int cy = fromY; cy <= toY; cy++) {
+                    consumer.accept(((long) cx << 32) | (cy & 0xffffffffL));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.foongdoll.backend.modules.note.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 note_tags(노트별 문자열 태그) 행을 태그 사전 + note_tag_links 로 옮긴다.
+ * 옮긴 행은 지우므로 이후 기동에서는 레거시 테이블이 비어 있는지만 보고 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteTagMigration implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer legacyTables = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'note_tags'
+                """, Integer.class);
+        if (legacyTables == null || legacyTables == 0) {
+            return;
+        }
+        // 옮길 행이 없으면(이미 옮긴 뒤) 사전 카운트 재계산까지 건너뛴다.
+        Boolean pending = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM note_tags)", Boolean.class);
+        if (!Boolean.TRUE.equals(pending)) {
+            return;
+        }
+
+        Integer migrated = transactionTemplate.execute(status -> {
+            // 여러 인스턴스가 동시에 기동해도 한 곳만 옮기도록 레거시 행을 잠그고 다시 확인한다.
+            List<Long> owners = jdbcTemplate.queryForList("""
+                    SELECT DISTINCT n.author_id
+                    FROM note_tags t
+                    JOIN notes n ON n.note_id = t.note_id
+                    FOR UPDATE
+                    """, Long.class);
+            if (owners.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM note_tags");
+                return 0;
+            }
+            jdbcTemplate.update("""
+                    INSERT IGNORE INTO note_tag_dictionary (owner_id, name, usage_count)
+                    SELECT DISTINCT n.author_id, TRIM(t.tag_value), 0
+                    FROM note_tags t
+                    JOIN notes n ON n.note_id = t.note_id
+                    WHERE TRIM(t.tag_value) <> ''
+                    """);
+            int links = jdbcTemplate.update("""
+                    INSERT IGNORE INTO note_tag_links (note_id, tag_id)
+                    SELECT t.note_id, d.tag_id
+                    FROM note_tags t
+                    JOIN notes n ON n.note_id = t.note_id
+                    JOIN note_tag_dictionary d ON d.owner_id = n.author_id AND d.name = TRIM(t.tag_value)
+                    """);
+            jdbcTemplate.update("DELETE FROM note_tags");
+            // 옮긴 사용자의 태그만 다시 센다.
+            namedJdbcTemplate.update("""
+                    UPDATE note_tag_dictionary d
+                    SET d.usage_count = (SELECT COUNT(*) FROM note_tag_links l WHERE l.tag_id = d.tag_id)
+                    WHERE d.owner_id IN (:owners)
+                    """, Map.of("owners", owners));
+            return links;
+        });
+        if (migrated != null && migrated > 0) {
+            log.info("Migrated {} legacy note tag rows into note_tag_links", migrated);
+        }
+    }
+}
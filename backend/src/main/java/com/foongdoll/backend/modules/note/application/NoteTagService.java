@@ -0,0 +1,93 @@
+package com.foongdoll.backend.modules.note.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.note.domain.NoteTag;
+import com.foongdoll.backend.modules.note.domain.NoteTagChange;
+import com.foongdoll.backend.modules.note.domain.NoteTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoteTagService {
+
+    private final NoteTagRepository tagRepository;
+
+    /**
+     * 태그 이름을 사전 항목으로 바꾼다. 없는 이름은 INSERT IGNORE 로 추가하므로 동시 생성에도 안전하다.
+     */
+    @Transactional
+    public List<NoteTag> resolve(Long ownerId, Collection<String> rawNames) {
+        Set<String> names = normalize(rawNames);
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, NoteTag> byName = index(tagRepository.findByOwnerIdAndNameIn(ownerId, names));
+        List<String> missing = names.stream().filter(name -> !byName.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(name -> tagRepository.insertIgnore(ownerId, name));
+            byName.putAll(index(tagRepository.findByOwnerIdAndNameIn(ownerId, missing)));
+        }
+        return names.stream()
+                .map(byName::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 여러 노트의 태그 이름을 한 번에 사전 항목으로 바꾼다. 결과는 대소문자를 구분하지 않고 이름으로 찾는다.
+     */
+    @Transactional
+    public Map<String, NoteTag> resolveByName(Long ownerId, Collection<String> rawNames) {
+        return index(resolve(ownerId, rawNames));
+    }
+
+    @Transactional
+    public void applyUsage(NoteTagChange change) {
+        if (!change.added().isEmpty()) {
+            tagRepository.adjustUsage(ids(change.added()), 1);
+        }
+        if (!change.removed().isEmpty()) {
+            tagRepository.adjustUsage(ids(change.removed()), -1);
+        }
+    }
+
+    private Set<String> normalize(Collection<String> rawNames) {
+        Set<String> names = new LinkedHashSet<>();
+        if (rawNames == null) {
+            return names;
+        }
+        for (String raw : rawNames) {
+            if (raw == null || raw.isBlank()) continue;
+            String name = raw.trim();
+            if (name.length() > NoteTag.MAX_LENGTH) {
+                throw new DailyonException(ErrorCode.VALIDATION_ERROR, "태그는 " + NoteTag.MAX_LENGTH + "자 이하로 입력해주세요.");
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    // DB 정렬 규칙(대소문자 무시)과 맞추기 위해 대소문자를 구분하지 않고 매칭한다.
+    private Map<String, NoteTag> index(List<NoteTag> tags) {
+        Map<String, NoteTag> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tags.forEach(tag -> byName.put(tag.getName(), tag));
+        return byName;
+    }
+
+    private List<Long> ids(Collection<NoteTag> tags) {
+        return tags.stream().map(NoteTag::getId).toList();
+    }
+}
@@ -0,0 +1,163 @@
+package com.foongdoll.backend.modules.note.application;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 노트 임베딩 파일. 고정 길이 레코드(noteId, 삭제 여부, 벡터)를 뒤에 덧붙이기만 하고,
+ * 재시작 시 파일 전체를 메모리 매핑해 마지막 레코드 기준으로 읽어 들인다.
+ * 헤더의 차원/공급자 해시가 다르면 파일을 비우고 새로 만든다.
+ */
+final class NoteVectorStore implements Closeable {
+
+    private static final int MAGIC = 0x4E564543;
+    private static final int HEADER_BYTES = 12;
+    private static final int FLAG_DELETED = 1;
+
+    private final Path path;
+    private final int dimension;
+    private final int providerHash;
+    private final int recordBytes;
+    private FileChannel channel;
+    private long records;
+    private boolean fresh;
+
+    NoteVectorStore(Path path, int dimension, String providerId) {
+        this.path = path;
+        this.dimension = dimension;
+        this.providerHash = providerId.hashCode();
+        this.recordBytes = Long.BYTES + Integer.BYTES + dimension * Float.BYTES;
+    }
+
+    /**
+     * 파일을 열고 살아 있는 벡터를 돌려준다. 새로 만든 파일이면 {@link #isFresh()} 가 참이다.
+     */
+    Map<Long, float[]> load() throws IOException {
+        Files.createDirectories(path.getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Map<Long, float[]> vectors = new LinkedHashMap<>();
+        long size = channel.size();
+        if (size < HEADER_BYTES || !headerMatches()) {
+            reset();
+            return vectors;
+        }
+
+        long complete = (size - HEADER_BYTES) / recordBytes;
+        if (complete > 0) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, complete * recordBytes);
+            for (long i = 0; i < complete; i++) {
+                long noteId = buffer.getLong();
+                int flags = buffer.getInt();
+                if ((flags & FLAG_DELETED) != 0) {
+                    buffer.position(buffer.position() + dimension * Float.BYTES);
+                    vectors.remove(noteId);
+                    continue;
+                }
+                float[] vector = new float[dimension];
+                buffer.asFloatBuffer().get(vector);
+                buffer.position(buffer.position() + dimension * Float.BYTES);
+                vectors.put(noteId, vector);
+            }
+        }
+        // 쓰다 만 마지막 레코드는 잘라낸다.
+        channel.truncate(HEADER_BYTES + complete * recordBytes);
+        records = complete;
+        fresh = false;
+        return vectors;
+    }
+
+    boolean isFresh() {
+        return fresh;
+    }
+
+    long records() {
+        return records;
+    }
+
+    void append(long noteId, float[] vector) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(recordBytes);
+        buffer.putLong(noteId).putInt(0);
+        buffer.asFloatBuffer().put(vector);
+        write(buffer);
+    }
+
+    void appendDelete(long noteId) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(recordBytes);
+        buffer.putLong(noteId).putInt(FLAG_DELETED);
+        write(buffer);
+    }
+
+    /**
+     * 살아 있는 벡터만 임시 파일에 다시 쓰고 원자적으로 교체한다.
+     */
+    void rewrite(Map<Long, float[]> vectors) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(header());
+            ByteBuffer buffer = ByteBuffer.allocate(recordBytes);
+            for (Map.Entry<Long, float[]> entry : vectors.entrySet()) {
+                buffer.clear();
+                buffer.putLong(entry.getKey()).putInt(0);
+                buffer.asFloatBuffer().put(entry.getValue());
+                buffer.position(0).limit(recordBytes);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            out.force(false);
+        }
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        records = vectors.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        buffer.position(0).limit(recordBytes);
+        long position = HEADER_BYTES + records * recordBytes;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        records++;
+    }
+
+    private boolean headerMatches() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        channel.read(header, 0);
+        header.flip();
+        return header.getInt() == MAGIC && header.getInt() == dimension && header.getInt() == providerHash;
+    }
+
+    private void reset() throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = header();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        records = 0;
+        fresh = true;
+    }
+
+    private ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(dimension).putInt(providerHash);
+        header.flip();
+        return header;
+    }
+}
@@ -0,0 +1,73 @@
+package com.foongdoll.backend.modules.note.application;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 64bit SimHash. 단어와 인접 단어쌍을 특징으로 쓰고 등장 횟수를 가중치로 준다.
+ * 후보 검색은 16bit 밴드 4개로 한다. 해밍 거리가 BANDS - 1 이하인 두 지문은 적어도 한 밴드가 같다.
+ */
+final class SimHash {
+
+    static final int BANDS = 4;
+    static final int BAND_BITS = 64 / BANDS;
+
+    private SimHash() {
+    }
+
+    static long of(String text) {
+        if (text == null || text.isBlank()) {
+            return 0L;
+        }
+        Map<String, Integer> features = new HashMap<>();
+        String previous = null;
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) continue;
+            features.merge(token, 1, Integer::sum);
+            if (previous != null) {
+                features.merge(previous + " " + token, 1, Integer::sum);
+            }
+            previous = token;
+        }
+
+        int[] weights = new int[64];
+        for (Map.Entry<String, Integer> feature : features.entrySet()) {
+            long hash = hash64(feature.getKey());
+            int weight = feature.getValue();
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? weight : -weight;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    static int band(long fingerprint, int index) {
+        return (int) ((fingerprint >>> (index * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // FNV-1a 64bit + murmur3 fmix64
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,6 +1,7 @@
 package com.foongdoll.backend.modules.note.domain;
 
 import com.foongdoll.backend.common.audit.Auditable;
+import com.foongdoll.backend.common.persistence.CompressedTextConverter;
 import com.foongdoll.backend.common.util.JsonUtils;
 import com.foongdoll.backend.modules.user.domain.User;
 import jakarta.persistence.*;
@@ -17,12 +18,18 @@ import java.util.*;
         name = "notes",
         indexes = {
                 @Index(name = "idx_notes_author", columnList = "author_id"),
-                @Index(name = "idx_notes_category", columnList = "category_id")
+                @Index(name = "idx_notes_category", columnList = "category_id"),
+                @Index(name = "idx_notes_author_board", columnList = "author_id, position_index, updated_at, note_id")
         }
 )
 @Entity
 public class Note extends Auditable {
 
+    /**
+     * search_text 최대 길이. 이보다 긴 노트는 앞부분만 검색된다.
+     */
+    public static final int SEARCH_TEXT_LIMIT = 1_000_000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "note_id")
@@ -40,19 +47,33 @@ public class Note extends Auditable {
     private String title;
 
     @Lob
+    @Convert(converter = CompressedTextConverter.class)
     @Column(columnDefinition = "LONGTEXT")
     private String content;
 
+    @Column(length = 200)
+    private String snippet;
+
+    /**
+     * 키워드 검색용 평문(제목 + 본문 + 필드 JSON). 압축된 본문을 SQL 에서 풀지 않도록 따로 둔다.
+     * FULLTEXT(ngram) 인덱스는 {@code NoteSearchTextMigration} 이 만든다.
+     */
+    @Column(name = "search_text", columnDefinition = "MEDIUMTEXT")
+    private String searchText;
+
     @Column(length = 30)
     private String color;
 
     @Column(name = "is_pinned", nullable = false)
     private boolean pinned;
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "note_tags", joinColumns = @JoinColumn(name = "note_id"))
-    @Column(name = "tag_value", length = 40, nullable = false)
-    private List<String> tags = new ArrayList<>();
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "note_tag_links",
+            joinColumns = @JoinColumn(name = "note_id", foreignKey = @ForeignKey(name = "fk_note_tag_link_note")),
+            inverseJoinColumns = @JoinColumn(name = "tag_id", foreignKey = @ForeignKey(name = "fk_note_tag_link_tag"))
+    )
+    private Set<NoteTag> tags = new LinkedHashSet<>();
 
     @Embedded
     private NoteLayout layout = NoteLayout.defaultLayout();
@@ -60,11 +81,15 @@ public class Note extends Auditable {
     @Column(name = "position_index", nullable = false)
     private double positionIndex;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "data_json", columnDefinition = "LONGTEXT", nullable = false)
     private String dataJson = "{}";
 
+    /**
+     * dataJson 의 파싱 결과. 목록/삭제 경로에서는 쓰이지 않으므로 최초 접근 시에만 만든다.
+     */
     @Transient
-    private Map<String, Object> data = new LinkedHashMap<>();
+    private Map<String, Object> data;
 
     @Builder
     private Note(User author,
@@ -73,7 +98,7 @@ public class Note extends Auditable {
                  String content,
                  String color,
                  boolean pinned,
-                 List<String> tags,
+                 Collection<NoteTag> tags,
                  Map<String, Object> data,
                  NoteLayout layout,
                  double positionIndex) {
@@ -81,12 +106,14 @@ public class Note extends Auditable {
         this.category = Objects.requireNonNull(category, "category must not be null");
         this.title = Objects.requireNonNull(title, "title must not be null");
         this.content = content;
+        this.snippet = snippetOf(content);
         this.color = color;
         this.pinned = pinned;
         if (tags != null) {
-            this.tags.addAll(tags.stream().map(String::trim).filter(s -> !s.isEmpty()).toList());
+            this.tags.addAll(tags);
         }
         setData(data);
+        this.searchText = searchTextOf(this.title, content, dataJson);
         this.layout = layout == null ? NoteLayout.defaultLayout() : layout;
         this.positionIndex = positionIndex;
     }
@@ -95,19 +122,43 @@ public class Note extends Auditable {
                        String content,
                        String color,
                        boolean pinned,
-                       List<String> tags,
                        Map<String, Object> data) {
         if (title != null && !title.isBlank()) {
             this.title = title;
         }
         this.content = content;
+        this.snippet = snippetOf(content);
         this.color = color;
         this.pinned = pinned;
-        this.tags.clear();
-        if (tags != null) {
-            this.tags.addAll(tags.stream().map(String::trim).filter(s -> !s.isEmpty()).toList());
-        }
         setData(data);
+        this.searchText = searchTextOf(this.title, content, dataJson);
+    }
+
+    /**
+     * 현재 태그 집합과의 차이만 반영한다. 바뀌지 않은 링크 행은 건드리지 않는다.
+     */
+    public NoteTagChange replaceTags(Collection<NoteTag> next) {
+        Set<NoteTag> target = next == null ? Set.of() : new LinkedHashSet<>(next);
+        Set<NoteTag> removed = new LinkedHashSet<>(tags);
+        removed.removeAll(target);
+        Set<NoteTag> added = new LinkedHashSet<>(target);
+        added.removeAll(tags);
+
+        if (!removed.isEmpty()) {
+            tags.removeAll(removed);
+        }
+        if (!added.isEmpty()) {
+            tags.addAll(added);
+        }
+        return new NoteTagChange(added, removed);
+    }
+
+    public List<String> getTags() {
+        return tags.stream().map(NoteTag::getName).toList();
+    }
+
+    public Set<NoteTag> getTagEntries() {
+        return Collections.unmodifiableSet(tags);
     }
 
     public void applyLayout(NoteLayout layout, double positionIndex) {
@@ -122,29 +173,51 @@ public class Note extends Auditable {
     }
 
     public Map<String, Object> getData() {
-        return JsonUtils.immutableCopy(data);
+        if (data == null) {
+            data = JsonUtils.isEmptyObject(dataJson)
+                    ? Collections.emptyMap()
+                    : Collections.unmodifiableMap(JsonUtils.toMap(dataJson));
+        }
+        return data;
     }
 
     public void setData(Map<String, Object> data) {
-        this.data = new LinkedHashMap<>();
+        Map<String, Object> sanitized = new LinkedHashMap<>();
         if (data != null) {
             data.forEach((key, value) -> {
                 if (key != null && !key.isBlank()) {
-                    this.data.put(key, value);
+                    sanitized.put(key, value);
                 }
             });
         }
-        this.dataJson = JsonUtils.toJson(this.data);
+        this.data = Collections.unmodifiableMap(sanitized);
+        this.dataJson = JsonUtils.toJson(sanitized);
     }
 
-    @PostLoad
-    private void loadDataFromJson() {
-        this.data = new LinkedHashMap<>(JsonUtils.toMap(this.dataJson));
+    public static String snippetOf(String content) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+        if (content.length() <= 200) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(199)) ? 199 : 200;
+        return content.substring(0, end);
     }
 
-    @PrePersist
-    @PreUpdate
-    private void syncJson() {
-        this.dataJson = JsonUtils.toJson(this.data);
+    public static String searchTextOf(String title, String content, String dataJson) {
+        StringBuilder text = new StringBuilder();
+        text.append(title == null ? "" : title).append('\n');
+        if (content != null) {
+            text.append(content).append('\n');
+        }
+        if (!JsonUtils.isEmptyObject(dataJson)) {
+            text.append(dataJson);
+        }
+        if (text.length() <= SEARCH_TEXT_LIMIT) {
+            return text.toString();
+        }
+        int end = Character.isHighSurrogate(text.charAt(SEARCH_TEXT_LIMIT - 1)) ? SEARCH_TEXT_LIMIT - 1 : SEARCH_TEXT_LIMIT;
+        return text.substring(0, end);
     }
 }
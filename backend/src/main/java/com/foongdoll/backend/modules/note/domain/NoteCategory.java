@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -20,6 +21,7 @@ import java.util.Objects;
         uniqueConstraints = @UniqueConstraint(name = "uk_note_category_owner_name", columnNames = {"owner_id", "name"})
 )
 @Entity
+@DynamicUpdate
 public class NoteCategory extends Auditable {
 
     @Id
@@ -44,6 +46,11 @@ public class NoteCategory extends Auditable {
     )
     private List<NoteCategoryField> fields = new ArrayList<>();
 
+    // 사이드바 패싯용 노트 수. 노트 생성/수정/삭제 시 벌크 UPDATE 로 증감하고 NoteFacetReconciler 가 주기적으로 보정한다.
+    // 카테고리 수정 시 오래된 값으로 덮어쓰지 않도록 엔티티는 @DynamicUpdate 로 바뀐 컬럼만 갱신한다.
+    @Column(name = "note_count", nullable = false)
+    private long noteCount;
+
     @Builder
     private NoteCategory(User owner, String name, String description, List<NoteCategoryField> fields) {
         this.owner = Objects.requireNonNull(owner, "owner must not be null");
@@ -1,6 +1,9 @@
 package com.foongdoll.backend.modules.note.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,30 @@ public interface NoteCategoryRepository extends JpaRepository<NoteCategory, Long
     Optional<NoteCategory> findByIdAndOwnerId(Long id, Long ownerId);
 
     boolean existsByOwnerIdAndNameIgnoreCase(Long ownerId, String name);
+
+    @Query("""
+            select c.id as id, c.name as name, c.noteCount as noteCount
+            from NoteCategory c
+            where c.owner.id = :ownerId
+            order by c.name asc
+            """)
+    List<NoteFacetView> findFacetsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("update NoteCategory c set c.noteCount = c.noteCount + :delta where c.id = :id")
+    int adjustNoteCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE note_categories c
+                    LEFT JOIN (
+                        SELECT category_id, COUNT(*) AS cnt FROM notes GROUP BY category_id
+                    ) n ON n.category_id = c.category_id
+                    SET c.note_count = COALESCE(n.cnt, 0)
+                    WHERE c.note_count <> COALESCE(n.cnt, 0)
+                    """,
+            nativeQuery = true
+    )
+    int reconcileNoteCounts();
 }
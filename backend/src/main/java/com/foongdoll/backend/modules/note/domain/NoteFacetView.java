@@ -0,0 +1,10 @@
+package com.foongdoll.backend.modules.note.domain;
+
+public interface NoteFacetView {
+
+    Long getId();
+
+    String getName();
+
+    Long getNoteCount();
+}
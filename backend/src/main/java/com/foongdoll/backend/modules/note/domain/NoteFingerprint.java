@@ -0,0 +1,33 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노트 제목/본문/필드의 64bit SimHash. 후보 검색용 밴드는 note_fingerprint_bands 에 따로 둔다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "note_fingerprints",
+        indexes = @Index(name = "idx_note_fp_cluster", columnList = "author_id, cluster_id")
+)
+@Entity
+public class NoteFingerprint {
+
+    @Id
+    @Column(name = "note_id")
+    private Long noteId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(nullable = false)
+    private long simhash;
+
+    // 가장 작은 note_id 를 대표로 쓰는 중복 묶음 번호. 묶음이 없으면 null.
+    @Column(name = "cluster_id")
+    private Long clusterId;
+}
@@ -0,0 +1,56 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * SimHash 를 16bit 씩 나눈 LSH 버킷. 해밍 거리 3 이하인 두 지문은 4개 밴드 중 적어도 하나가 같다(비둘기집 원리).
+ * 쓰기는 NoteFingerprintJdbcRepository 가 담당하고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "note_fingerprint_bands",
+        indexes = @Index(name = "idx_note_fp_bucket", columnList = "author_id, band_no, band_value")
+)
+@Entity
+public class NoteFingerprintBand {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "band_value", nullable = false)
+    private int bandValue;
+
+    @Getter
+    @Embeddable
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "note_id")
+        private Long noteId;
+
+        @Column(name = "band_no")
+        private int bandNo;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return bandNo == that.bandNo && Objects.equals(noteId, that.noteId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(noteId, bandNo);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 지문 밴드(LSH 버킷) 행을 한 번에 갈아끼우고, 버킷이 겹치는 노트를 찾는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteFingerprintJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void replaceBands(Long noteId, Long authorId, int[] bands) {
+        MapSqlParameterSource params = new MapSqlParameterSource("noteId", noteId);
+        jdbcTemplate.update("DELETE FROM note_fingerprint_bands WHERE note_id = :noteId", params);
+
+        MapSqlParameterSource[] rows = new MapSqlParameterSource[bands.length];
+        for (int i = 0; i < bands.length; i++) {
+            rows[i] = new MapSqlParameterSource("noteId", noteId)
+                    .addValue("authorId", authorId)
+                    .addValue("bandNo", i)
+                    .addValue("bandValue", bands[i]);
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO note_fingerprint_bands (note_id, band_no, author_id, band_value)
+                VALUES (:noteId, :bandNo, :authorId, :bandValue)
+                """, rows);
+    }
+
+    public void deleteBands(Long noteId) {
+        jdbcTemplate.update("DELETE FROM note_fingerprint_bands WHERE note_id = :noteId",
+                new MapSqlParameterSource("noteId", noteId));
+    }
+
+    /**
+     * 밴드 중 하나라도 같은 버킷에 있는 노트 id. 각 조건이 (author_id, band_no, band_value) 인덱스 범위 하나에 대응한다.
+     */
+    public List<Long> findBucketMates(Long authorId, Long noteId, int[] bands) {
+        MapSqlParameterSource params = new MapSqlParameterSource("authorId", authorId).addValue("noteId", noteId);
+        StringBuilder conditions = new StringBuilder();
+        for (int i = 0; i < bands.length; i++) {
+            if (i > 0) conditions.append(" OR ");
+            conditions.append("(band_no = ").append(i).append(" AND band_value = :b").append(i).append(')');
+            params.addValue("b" + i, bands[i]);
+        }
+        String sql = "SELECT DISTINCT note_id FROM note_fingerprint_bands"
+                + " WHERE author_id = :authorId AND note_id <> :noteId AND (" + conditions + ")";
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    public boolean hasBandsBeyond(int bands) {
+        Boolean stale = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM note_fingerprint_bands WHERE band_no >= :bands)",
+                new MapSqlParameterSource("bands", bands), Boolean.class);
+        return Boolean.TRUE.equals(stale);
+    }
+
+    /**
+     * 모든 밴드 행을 note_fingerprints 의 simhash 에서 다시 계산한다. 비트 연산은 부호 없는 64bit 로 이뤄진다.
+     */
+    public void rebuildBands(int bands, int bandBits) {
+        StringBuilder numbers = new StringBuilder("SELECT 0 AS n");
+        for (int i = 1; i < bands; i++) {
+            numbers.append(" UNION ALL SELECT ").append(i);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("bandBits", bandBits)
+                .addValue("mask", (1L << bandBits) - 1);
+        jdbcTemplate.update("DELETE FROM note_fingerprint_bands", params);
+        jdbcTemplate.update("INSERT IGNORE INTO note_fingerprint_bands (note_id, band_no, author_id, band_value)"
+                + " SELECT f.note_id, b.n, f.author_id, (f.simhash >> (b.n * :bandBits)) & :mask"
+                + " FROM note_fingerprints f CROSS JOIN (" + numbers + ") b", params);
+    }
+}
@@ -0,0 +1,53 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NoteFingerprintRepository extends JpaRepository<NoteFingerprint, Long> {
+
+    // cluster_id 는 지문이 바뀐 경우에만 비운다(대입 순서상 simhash 보다 먼저 평가되어야 한다).
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO note_fingerprints (note_id, author_id, simhash, cluster_id)
+                    VALUES (:noteId, :authorId, :simhash, NULL)
+                    ON DUPLICATE KEY UPDATE
+                        cluster_id = IF(simhash = VALUES(simhash), cluster_id, NULL),
+                        simhash = VALUES(simhash)
+                    """,
+            nativeQuery = true
+    )
+    int upsert(@Param("noteId") Long noteId, @Param("authorId") Long authorId, @Param("simhash") long simhash);
+
+    List<NoteFingerprint> findByAuthorId(Long authorId);
+
+    List<NoteFingerprint> findByAuthorIdAndClusterIdIsNotNullOrderByClusterIdAscNoteIdAsc(Long authorId);
+
+    @Query(value = "SELECT DISTINCT author_id FROM note_fingerprints", nativeQuery = true)
+    List<Long> findAuthorIds();
+
+    @Query(
+            value = """
+                    SELECT n.note_id FROM notes n
+                    LEFT JOIN note_fingerprints f ON f.note_id = n.note_id
+                    WHERE f.note_id IS NULL
+                    ORDER BY n.note_id
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<Long> findNoteIdsWithoutFingerprint(@Param("limit") int limit);
+
+    @Modifying
+    @Query("update NoteFingerprint f set f.clusterId = null where f.authorId = :authorId and f.clusterId is not null")
+    int clearClusters(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("update NoteFingerprint f set f.clusterId = :clusterId where f.noteId in :noteIds")
+    int assignCluster(@Param("noteIds") Collection<Long> noteIds, @Param("clusterId") Long clusterId);
+}
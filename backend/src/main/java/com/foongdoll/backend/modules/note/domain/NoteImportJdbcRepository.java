@@ -0,0 +1,77 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노트 가져오기용 배치 INSERT. 엔티티를 거치지 않으므로 압축/snippet 은 호출 측에서 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteImportJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param firstPosition rows[i] 의 position_index 는 firstPosition + i
+     * @return rows 와 같은 순서의 생성된 note_id
+     */
+    public List<Long> insertNotes(Long authorId, String auditor, List<NoteImportRow> rows, double firstPosition) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            NoteImportRow row = rows.get(i);
+            NoteLayout layout = row.layout() == null ? NoteLayout.defaultLayout() : row.layout();
+            params[i] = new MapSqlParameterSource("authorId", authorId)
+                    .addValue("categoryId", row.categoryId())
+                    .addValue("title", row.title())
+                    .addValue("content", row.content())
+                    .addValue("snippet", row.snippet())
+                    .addValue("color", row.color())
+                    .addValue("pinned", row.pinned())
+                    .addValue("dataJson", row.dataJson())
+                    .addValue("searchText", row.searchText())
+                    .addValue("x", layout.getX())
+                    .addValue("y", layout.getY())
+                    .addValue("w", layout.getWidth())
+                    .addValue("h", layout.getHeight())
+                    .addValue("position", firstPosition + i)
+                    .addValue("now", now)
+                    .addValue("auditor", auditor);
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO notes (author_id, category_id, title, content, snippet, color, is_pinned, data_json, search_text,
+                                   layout_x, layout_y, layout_w, layout_h, position_index,
+                                   created_at, updated_at, created_by, updated_by)
+                VALUES (:authorId, :categoryId, :title, :content, :snippet, :color, :pinned, :dataJson, :searchText,
+                        :x, :y, :w, :h, :position, :now, :now, :auditor, :auditor)
+                """, params, keyHolder, new String[]{"note_id"});
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public void insertTagLinks(List<long[]> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = links.stream()
+                .map(link -> new MapSqlParameterSource("noteId", link[0]).addValue("tagId", link[1]))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO note_tag_links (note_id, tag_id) VALUES (:noteId, :tagId)", params);
+    }
+}
@@ -0,0 +1,17 @@
+package com.foongdoll.backend.modules.note.domain;
+
+/**
+ * 가져오기 배치 INSERT 한 행. content/dataJson 은 이미 저장 형식(필요 시 압축)으로 변환된 값이다.
+ */
+public record NoteImportRow(
+        Long categoryId,
+        String title,
+        String content,
+        String snippet,
+        String color,
+        boolean pinned,
+        String dataJson,
+        String searchText,
+        NoteLayout layout
+) {
+}
@@ -0,0 +1,4 @@
+package com.foongdoll.backend.modules.note.domain;
+
+public record NoteLayoutChange(Long noteId, double position, NoteLayout layout) {
+}
@@ -0,0 +1,79 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보드 배치 변경을 노트 단위 UPDATE 대신 작성자 범위의 단일 {@code UPDATE ... CASE} 문으로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteLayoutJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제 갱신된 행 수. 작성자 소유가 아닌 노트는 WHERE 조건에서 제외된다.
+     */
+    public int updateLayouts(Long authorId, List<NoteLayoutChange> changes) {
+        int updated = 0;
+        for (int from = 0; from < changes.size(); from += CHUNK_SIZE) {
+            updated += updateChunk(authorId, changes.subList(from, Math.min(from + CHUNK_SIZE, changes.size())));
+        }
+        return updated;
+    }
+
+    private int updateChunk(Long authorId, List<NoteLayoutChange> chunk) {
+        MapSqlParameterSource params = new MapSqlParameterSource("authorId", authorId)
+                .addValue("updatedAt", LocalDateTime.now());
+        StringBuilder position = new StringBuilder("position_index = CASE note_id");
+        StringBuilder x = new StringBuilder("layout_x = CASE note_id");
+        StringBuilder y = new StringBuilder("layout_y = CASE note_id");
+        StringBuilder w = new StringBuilder("layout_w = CASE note_id");
+        StringBuilder h = new StringBuilder("layout_h = CASE note_id");
+        List<Long> ids = new ArrayList<>(chunk.size());
+        boolean hasLayout = false;
+
+        for (int i = 0; i < chunk.size(); i++) {
+            NoteLayoutChange change = chunk.get(i);
+            ids.add(change.noteId());
+            params.addValue("id" + i, change.noteId());
+            params.addValue("p" + i, change.position());
+            position.append(" WHEN :id").append(i).append(" THEN :p").append(i);
+
+            NoteLayout layout = change.layout();
+            if (layout != null) {
+                hasLayout = true;
+                params.addValue("x" + i, layout.getX());
+                params.addValue("y" + i, layout.getY());
+                params.addValue("w" + i, layout.getWidth());
+                params.addValue("h" + i, layout.getHeight());
+                x.append(" WHEN :id").append(i).append(" THEN :x").append(i);
+                y.append(" WHEN :id").append(i).append(" THEN :y").append(i);
+                w.append(" WHEN :id").append(i).append(" THEN :w").append(i);
+                h.append(" WHEN :id").append(i).append(" THEN :h").append(i);
+            }
+        }
+        params.addValue("ids", ids);
+
+        StringBuilder sql = new StringBuilder("UPDATE notes SET ")
+                .append(position).append(" ELSE position_index END, ");
+        // WHEN 이 하나도 없는 CASE 는 문법 오류이므로 위치만 바뀐 묶음에서는 layout_* 를 건드리지 않는다.
+        if (hasLayout) {
+            sql.append(x).append(" ELSE layout_x END, ")
+                    .append(y).append(" ELSE layout_y END, ")
+                    .append(w).append(" ELSE layout_w END, ")
+                    .append(h).append(" ELSE layout_h END, ");
+        }
+        sql.append("updated_at = :updatedAt WHERE author_id = :authorId AND note_id IN (:ids)");
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+}
@@ -0,0 +1,14 @@
+package com.foongdoll.backend.modules.note.domain;
+
+public interface NoteLayoutView {
+
+    Long getId();
+
+    Integer getLayoutX();
+
+    Integer getLayoutY();
+
+    Integer getLayoutWidth();
+
+    Integer getLayoutHeight();
+}
@@ -1,49 +1,206 @@
 package com.foongdoll.backend.modules.note.domain;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface NoteRepository extends JpaRepository<Note, Long> {
 
+    /**
+     * 키워드 조건. :phrase 는 FULLTEXT(ngram) 불리언 구문 검색어이고, ngram 토큰(2자)보다 짧은 키워드는
+     * :phrase 가 null 이어서 search_text LIKE 로 대신한다. 압축된 본문은 건드리지 않는다.
+     */
+    String KEYWORD_FILTER = """
+                  AND (
+                       :keyword IS NULL
+                       OR (:phrase IS NOT NULL AND MATCH(n.search_text) AGAINST (:phrase IN BOOLEAN MODE))
+                       OR (:phrase IS NULL AND n.search_text LIKE CONCAT('%', :keyword, '%'))
+                  )
+            """;
+
+    /**
+     * snippet 은 저장 시점(엔티티, 가져오기, 압축 백필)에 채워지므로 압축 본문을 풀 필요가 없다.
+     */
+    String SNIPPET_COLUMN = """
+                       COALESCE(n.snippet,
+                                CASE WHEN n.content LIKE '~dz1~%' THEN '' ELSE SUBSTRING(n.content, 1, :snippetLength) END) AS snippet,
+            """;
+
     @Query(
             value = """
                 SELECT * FROM notes n
                 WHERE n.author_id = :authorId
                   AND (:categoryId IS NULL OR :categoryId = 0 OR n.category_id = :categoryId)
-                  AND (
-                       :keyword IS NULL
-                       OR LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                       OR LOWER(COALESCE(n.content, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                       OR LOWER(COALESCE(n.data_json, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  )
+                """ + KEYWORD_FILTER + """
                 ORDER BY n.position_index DESC, n.updated_at DESC
                 """,
             countQuery = """
                 SELECT COUNT(1) FROM notes n
                 WHERE n.author_id = :authorId
                   AND (:categoryId IS NULL OR :categoryId = 0 OR n.category_id = :categoryId)
+                """ + KEYWORD_FILTER,
+            nativeQuery = true
+    )
+    Page<Note> search(
+            @Param("authorId") Long authorId,
+            @Param("categoryId") Long categoryId,
+            @Param("keyword") String keyword,
+            @Param("phrase") String phrase,
+            Pageable pageable
+    );
+
+    @Query(
+            value = """
+                SELECT n.note_id AS id,
+                       n.category_id AS categoryId,
+                       n.title AS title,
+                       n.color AS color,
+                       n.is_pinned AS pinned,
+                       n.layout_x AS layoutX,
+                       n.layout_y AS layoutY,
+                       n.layout_w AS layoutWidth,
+                       n.layout_h AS layoutHeight,
+                       n.position_index AS positionIndex,
+                """ + SNIPPET_COLUMN + """
+                       n.updated_at AS updatedAt
+                FROM notes n
+                WHERE n.author_id = :authorId
+                  AND (:categoryId IS NULL OR :categoryId = 0 OR n.category_id = :categoryId)
+                """ + KEYWORD_FILTER + """
                   AND (
-                       :keyword IS NULL
-                       OR LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                       OR LOWER(COALESCE(n.content, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                       OR LOWER(COALESCE(n.data_json, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                       :cursorPosition IS NULL
+                       OR n.position_index < :cursorPosition
+                       OR (n.position_index = :cursorPosition AND n.updated_at < :cursorUpdatedAt)
+                       OR (n.position_index = :cursorPosition AND n.updated_at = :cursorUpdatedAt AND n.note_id < :cursorId)
                   )
+                ORDER BY n.position_index DESC, n.updated_at DESC, n.note_id DESC
+                LIMIT :limit
                 """,
             nativeQuery = true
     )
-    Page<Note> search(
+    List<NoteSummaryView> findBoardSlice(
             @Param("authorId") Long authorId,
             @Param("categoryId") Long categoryId,
             @Param("keyword") String keyword,
-            Pageable pageable
+            @Param("phrase") String phrase,
+            @Param("cursorPosition") Double cursorPosition,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("snippetLength") int snippetLength,
+            @Param("limit") int limit
     );
 
+    @Query(
+            value = """
+                SELECT l.note_id AS noteId, t.name AS tag
+                FROM note_tag_links l
+                JOIN note_tag_dictionary t ON t.tag_id = l.tag_id
+                WHERE l.note_id IN (:noteIds)
+                """,
+            nativeQuery = true
+    )
+    List<NoteTagView> findTagsByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+
+    @Query(
+            value = """
+                SELECT n.note_id AS id,
+                       n.category_id AS categoryId,
+                       n.title AS title,
+                       n.color AS color,
+                       n.is_pinned AS pinned,
+                       n.layout_x AS layoutX,
+                       n.layout_y AS layoutY,
+                       n.layout_w AS layoutWidth,
+                       n.layout_h AS layoutHeight,
+                       n.position_index AS positionIndex,
+                """ + SNIPPET_COLUMN + """
+                       n.updated_at AS updatedAt
+                FROM notes n
+                WHERE n.author_id = :authorId
+                  AND n.note_id IN (:noteIds)
+                ORDER BY n.position_index DESC, n.updated_at DESC, n.note_id DESC
+                """,
+            nativeQuery = true
+    )
+    List<NoteSummaryView> findSummariesByIds(
+            @Param("authorId") Long authorId,
+            @Param("noteIds") Collection<Long> noteIds,
+            @Param("snippetLength") int snippetLength
+    );
+
+    @Query(
+            value = """
+                SELECT n.note_id AS id,
+                       n.layout_x AS layoutX,
+                       n.layout_y AS layoutY,
+                       n.layout_w AS layoutWidth,
+                       n.layout_h AS layoutHeight
+                FROM notes n
+                WHERE n.author_id = :authorId
+                """,
+            nativeQuery = true
+    )
+    List<NoteLayoutView> findLayoutsByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * 위치 할당을 사용자 단위로 직렬화하기 위해 작성자 행을 잠근다. 트랜잭션이 끝날 때까지 유지된다.
+     */
+    @Query(value = "SELECT user_id FROM users WHERE user_id = :authorId FOR UPDATE", nativeQuery = true)
+    Long lockAuthor(@Param("authorId") Long authorId);
+
+    /**
+     * 같은 노트의 동시 수정을 직렬화한다(리비전 번호가 최신 리비전 + 1 로 정해지므로).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select n from Note n where n.id = :id")
+    Optional<Note> findByIdForUpdate(@Param("id") Long id);
 
     @Query("select coalesce(max(n.positionIndex), 0) from Note n where n.author.id = :authorId")
     double findMaxPositionIndex(@Param("authorId") Long authorId);
 
+    @Query(
+            value = """
+                SELECT DISTINCT g.author_id FROM (
+                    SELECT n.author_id,
+                           n.position_index - LAG(n.position_index) OVER (PARTITION BY n.author_id ORDER BY n.position_index) AS gap
+                    FROM notes n
+                ) g
+                WHERE g.gap > 0 AND g.gap < :minGap
+                """,
+            nativeQuery = true
+    )
+    List<Long> findAuthorsWithPositionGapBelow(@Param("minGap") double minGap);
+
+    @Modifying
+    @Query(
+            value = """
+                UPDATE notes n
+                JOIN (
+                    SELECT note_id,
+                           ROW_NUMBER() OVER (ORDER BY position_index ASC, updated_at ASC, note_id ASC) AS rn
+                    FROM notes
+                    WHERE author_id = :authorId
+                ) ranked ON ranked.note_id = n.note_id
+                SET n.position_index = ranked.rn
+                WHERE n.author_id = :authorId
+                """,
+            nativeQuery = true
+    )
+    int renumberPositions(@Param("authorId") Long authorId);
+
+    List<Note> findByAuthorIdAndIdGreaterThanOrderByIdAsc(Long authorId, Long id, Pageable pageable);
+
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
     boolean existsByAuthorIdAndCategoryId(Long authorId, Long categoryId);
 }
@@ -0,0 +1,60 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import com.foongdoll.backend.common.audit.Auditable;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * 노트 리비전. 스냅샷 리비전은 전체 문서를, 그 외 리비전은 직전 리비전 대비 줄 단위 패치를 압축해 저장한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "note_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_note_revision_no", columnNames = {"note_id", "revision_no"})
+)
+@Entity
+public class NoteRevision extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "note_revision_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "note_id", nullable = false, foreignKey = @ForeignKey(name = "fk_note_revision_note"))
+    private Note note;
+
+    @Column(name = "revision_no", nullable = false)
+    private int revisionNo;
+
+    @Column(name = "is_snapshot", nullable = false)
+    private boolean snapshot;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "raw_size", nullable = false)
+    private int rawSize;
+
+    private NoteRevision(Note note, int revisionNo, boolean snapshot, byte[] payload, int rawSize) {
+        this.note = Objects.requireNonNull(note, "note must not be null");
+        this.revisionNo = revisionNo;
+        this.snapshot = snapshot;
+        this.payload = Objects.requireNonNull(payload, "payload must not be null");
+        this.rawSize = rawSize;
+    }
+
+    public static NoteRevision snapshot(Note note, int revisionNo, byte[] payload, int rawSize) {
+        return new NoteRevision(note, revisionNo, true, payload, rawSize);
+    }
+
+    public static NoteRevision delta(Note note, int revisionNo, byte[] payload, int rawSize) {
+        return new NoteRevision(note, revisionNo, false, payload, rawSize);
+    }
+}
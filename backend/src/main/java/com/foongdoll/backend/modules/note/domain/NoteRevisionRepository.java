@@ -0,0 +1,31 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NoteRevisionRepository extends JpaRepository<NoteRevision, Long> {
+
+    List<NoteRevisionSummary> findByNoteIdOrderByRevisionNoDesc(Long noteId);
+
+    @Query("select max(r.revisionNo) from NoteRevision r where r.note.id = :noteId")
+    Integer findLatestRevisionNo(@Param("noteId") Long noteId);
+
+    @Query("""
+            select max(r.revisionNo)
+            from NoteRevision r
+            where r.note.id = :noteId
+              and r.snapshot = true
+              and r.revisionNo <= :revisionNo
+            """)
+    Integer findSnapshotAtOrBefore(@Param("noteId") Long noteId, @Param("revisionNo") int revisionNo);
+
+    List<NoteRevision> findByNoteIdAndRevisionNoBetweenOrderByRevisionNoAsc(Long noteId, int from, int to);
+
+    @Modifying
+    @Query("delete from NoteRevision r where r.note.id = :noteId")
+    int deleteByNoteId(@Param("noteId") Long noteId);
+}
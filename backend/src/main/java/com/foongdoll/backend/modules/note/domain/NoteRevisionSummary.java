@@ -0,0 +1,16 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import java.time.LocalDateTime;
+
+public interface NoteRevisionSummary {
+
+    int getRevisionNo();
+
+    boolean isSnapshot();
+
+    int getRawSize();
+
+    LocalDateTime getCreatedAt();
+
+    String getCreatedBy();
+}
@@ -0,0 +1,30 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import java.time.LocalDateTime;
+
+public interface NoteSummaryView {
+
+    Long getId();
+
+    Long getCategoryId();
+
+    String getTitle();
+
+    String getColor();
+
+    Boolean getPinned();
+
+    Integer getLayoutX();
+
+    Integer getLayoutY();
+
+    Integer getLayoutWidth();
+
+    Integer getLayoutHeight();
+
+    Double getPositionIndex();
+
+    String getSnippet();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,52 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import com.foongdoll.backend.modules.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * 사용자별 노트 태그 사전. 노트와는 note_tag_links 조인 테이블로 연결되며 사용 횟수를 함께 유지한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "note_tag_dictionary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_note_tag_owner_name", columnNames = {"owner_id", "name"}),
+        indexes = @Index(name = "idx_note_tag_owner_usage", columnList = "owner_id, usage_count")
+)
+@Entity
+public class NoteTag {
+
+    public static final int MAX_LENGTH = 40;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tag_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_note_tag_owner"))
+    private User owner;
+
+    @Column(nullable = false, length = MAX_LENGTH)
+    private String name;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NoteTag that)) return false;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,10 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import java.util.Set;
+
+public record NoteTagChange(Set<NoteTag> added, Set<NoteTag> removed) {
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
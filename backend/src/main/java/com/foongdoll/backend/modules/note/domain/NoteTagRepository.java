@@ -0,0 +1,47 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NoteTagRepository extends JpaRepository<NoteTag, Long> {
+
+    List<NoteTag> findByOwnerIdAndNameIn(Long ownerId, Collection<String> names);
+
+    @Modifying
+    @Query(
+            value = "INSERT IGNORE INTO note_tag_dictionary (owner_id, name, usage_count) VALUES (:ownerId, :name, 0)",
+            nativeQuery = true
+    )
+    int insertIgnore(@Param("ownerId") Long ownerId, @Param("name") String name);
+
+    @Modifying
+    @Query("update NoteTag t set t.usageCount = t.usageCount + :delta where t.id in :ids")
+    int adjustUsage(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Query("""
+            select t.id as id, t.name as name, t.usageCount as noteCount
+            from NoteTag t
+            where t.owner.id = :ownerId and t.usageCount > 0
+            order by t.usageCount desc, t.name asc
+            """)
+    List<NoteFacetView> findFacetsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE note_tag_dictionary d
+                    LEFT JOIN (
+                        SELECT tag_id, COUNT(*) AS cnt FROM note_tag_links GROUP BY tag_id
+                    ) l ON l.tag_id = d.tag_id
+                    SET d.usage_count = COALESCE(l.cnt, 0)
+                    WHERE d.usage_count <> COALESCE(l.cnt, 0)
+                    """,
+            nativeQuery = true
+    )
+    int reconcileUsageCounts();
+}
@@ -0,0 +1,8 @@
+package com.foongdoll.backend.modules.note.domain;
+
+public interface NoteTagView {
+
+    Long getNoteId();
+
+    String getTag();
+}
@@ -0,0 +1,35 @@
+package com.foongdoll.backend.modules.note.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.persistence.CompressedTextConverter;
+import com.foongdoll.backend.modules.note.application.NoteCompressionBackfill;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/notes")
+@RequiredArgsConstructor
+public class NoteAdminController {
+
+    private final NoteCompressionBackfill compressionBackfill;
+
+    @GetMapping("/compression")
+    public ApiResponse<Map<String, Object>> compressionStats() {
+        return ApiResponse.ok(Map.of(
+                "stats", CompressedTextConverter.stats(),
+                "backfillRunning", compressionBackfill.isRunning()
+        ), MDC.get("traceId"));
+    }
+
+    @PostMapping("/compression/backfill")
+    public ApiResponse<Void> backfill() {
+        compressionBackfill.runAsync();
+        return ApiResponse.ok(MDC.get("traceId"));
+    }
+}
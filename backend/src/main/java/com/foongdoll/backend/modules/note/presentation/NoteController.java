@@ -4,6 +4,8 @@ import com.foongdoll.backend.common.api.ApiResponse;
 import com.foongdoll.backend.common.error.DailyonException;
 import com.foongdoll.backend.common.error.ErrorCode;
 import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.note.application.NoteArchiveService;
+import com.foongdoll.backend.modules.note.application.NoteFacetService;
 import com.foongdoll.backend.modules.note.application.NoteService;
 import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +13,18 @@ import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/notes")
@@ -21,6 +32,8 @@ import java.util.List;
 public class NoteController {
 
     private final NoteService noteService;
+    private final NoteFacetService facetService;
+    private final NoteArchiveService archiveService;
 
     @GetMapping
     public ApiResponse<NoteDtos.NotePageResponse> list(
@@ -35,16 +48,92 @@ public class NoteController {
         return ApiResponse.ok(NoteDtos.NotePageResponse.from(result), traceId());
     }
 
+    @GetMapping("/board")
+    public ApiResponse<NoteDtos.NoteBoardResponse> board(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String keyword
+    ) {
+        var result = noteService.board(requireUserId(), categoryId, keyword, cursor, size);
+        return ApiResponse.ok(result, traceId());
+    }
+
+    @GetMapping("/viewport")
+    public ApiResponse<List<NoteDtos.NoteSummaryResponse>> viewport(
+            @RequestParam int x,
+            @RequestParam int y,
+            @RequestParam int width,
+            @RequestParam int height
+    ) {
+        return ApiResponse.ok(noteService.viewport(requireUserId(), x, y, width, height), traceId());
+    }
+
+    @GetMapping("/semantic")
+    public ApiResponse<List<NoteDtos.SemanticSearchHit>> semantic(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        return ApiResponse.ok(noteService.semantic(requireUserId(), q, k), traceId());
+    }
+
+    @GetMapping("/duplicates")
+    public ApiResponse<List<NoteDtos.DuplicateCluster>> duplicateClusters() {
+        return ApiResponse.ok(noteService.duplicateClusters(requireUserId()), traceId());
+    }
+
+    @GetMapping("/{noteId}/duplicates")
+    public ApiResponse<List<NoteDtos.DuplicateCandidate>> duplicates(@PathVariable Long noteId) {
+        return ApiResponse.ok(noteService.duplicates(requireUserId(), noteId), traceId());
+    }
+
+    @GetMapping("/facets")
+    public ApiResponse<NoteDtos.NoteFacetResponse> facets() {
+        return ApiResponse.ok(facetService.facets(requireUserId()), traceId());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) Long afterId) {
+        Long userId = requireUserId();
+        StreamingResponseBody body = out -> archiveService.export(userId, afterId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("dailyon-notes.zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    public ApiResponse<NoteDtos.ImportReport> importArchive(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String resumeAfter
+    ) {
+        Long userId = requireUserId();
+        try (InputStream in = file.getInputStream()) {
+            return ApiResponse.ok(archiveService.importArchive(userId, in, resumeAfter), traceId());
+        } catch (IOException ex) {
+            throw new DailyonException(ErrorCode.BAD_REQUEST, "업로드한 파일을 읽을 수 없습니다.");
+        }
+    }
+
     @GetMapping("/{noteId}")
     public ApiResponse<NoteDtos.NoteResponse> detail(@PathVariable Long noteId) {
         var note = noteService.get(requireUserId(), noteId);
         return ApiResponse.ok(NoteDtos.NoteResponse.from(note), traceId());
     }
 
+    @GetMapping("/{noteId}/html")
+    public CompletableFuture<ApiResponse<NoteDtos.RenderedNoteResponse>> html(@PathVariable Long noteId) {
+        String traceId = traceId();
+        return noteService.renderHtml(requireUserId(), noteId)
+                .thenApply(rendered -> ApiResponse.ok(rendered, traceId));
+    }
+
     @PostMapping
     public ApiResponse<NoteDtos.NoteResponse> create(@RequestBody NoteDtos.NoteUpsertRequest request) {
-        var note = noteService.create(requireUserId(), request);
-        return ApiResponse.ok(NoteDtos.NoteResponse.from(note), traceId());
+        return ApiResponse.ok(noteService.create(requireUserId(), request), traceId());
     }
 
     @PutMapping("/{noteId}")
@@ -52,8 +141,7 @@ public class NoteController {
             @PathVariable Long noteId,
             @RequestBody NoteDtos.NoteUpsertRequest request
     ) {
-        var note = noteService.update(requireUserId(), noteId, request);
-        return ApiResponse.ok(NoteDtos.NoteResponse.from(note), traceId());
+        return ApiResponse.ok(noteService.update(requireUserId(), noteId, request), traceId());
     }
 
     @DeleteMapping("/{noteId}")
@@ -62,6 +150,14 @@ public class NoteController {
         return ApiResponse.ok(traceId());
     }
 
+    @PutMapping("/{noteId}/drop")
+    public ApiResponse<NoteDtos.NoteLayoutPayload> drop(
+            @PathVariable Long noteId,
+            @RequestBody NoteDtos.NoteLayoutPayload layout
+    ) {
+        return ApiResponse.ok(noteService.drop(requireUserId(), noteId, layout), traceId());
+    }
+
     @PatchMapping("/layout")
     public ApiResponse<Void> updateLayout(@RequestBody List<NoteDtos.LayoutUpdateRequest> requests) {
         noteService.updateLayouts(requireUserId(), requests);
@@ -0,0 +1,52 @@
+package com.foongdoll.backend.modules.note.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.note.application.NoteRevisionService;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/notes/{noteId}/revisions")
+@RequiredArgsConstructor
+public class NoteRevisionController {
+
+    private final NoteRevisionService revisionService;
+
+    @GetMapping
+    public ApiResponse<List<NoteDtos.RevisionSummaryResponse>> list(@PathVariable Long noteId) {
+        return ApiResponse.ok(revisionService.list(requireUserId(), noteId), traceId());
+    }
+
+    @GetMapping("/{revisionNo}")
+    public ApiResponse<NoteDtos.RevisionResponse> detail(@PathVariable Long noteId, @PathVariable int revisionNo) {
+        return ApiResponse.ok(revisionService.get(requireUserId(), noteId, revisionNo), traceId());
+    }
+
+    @GetMapping("/diff")
+    public ApiResponse<NoteDtos.RevisionDiffResponse> diff(
+            @PathVariable Long noteId,
+            @RequestParam int from,
+            @RequestParam int to
+    ) {
+        return ApiResponse.ok(revisionService.diff(requireUserId(), noteId, from, to), traceId());
+    }
+
+    private Long requireUserId() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            throw new DailyonException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return userId;
+    }
+
+    private String traceId() {
+        return MDC.get("traceId");
+    }
+}
@@ -1,7 +1,10 @@
 package com.foongdoll.backend.modules.note.presentation.dto;
 
 import com.foongdoll.backend.modules.note.domain.Note;
+import com.foongdoll.backend.modules.note.domain.NoteFacetView;
 import com.foongdoll.backend.modules.note.domain.NoteLayout;
+import com.foongdoll.backend.modules.note.domain.NoteRevisionSummary;
+import com.foongdoll.backend.modules.note.domain.NoteSummaryView;
 
 import java.util.List;
 import java.util.Map;
@@ -57,10 +60,14 @@ public final class NoteDtos {
             String updatedAt
     ) {
         public static NoteResponse from(Note note) {
+            return from(note, note.getCategory().getName());
+        }
+
+        public static NoteResponse from(Note note, String categoryName) {
             return new NoteResponse(
                     note.getId(),
                     note.getCategory().getId(),
-                    note.getCategory().getName(),
+                    categoryName,
                     note.getTitle(),
                     note.getContent(),
                     note.getColor(),
@@ -89,10 +96,125 @@ public final class NoteDtos {
         }
     }
 
+    public record NoteSummaryResponse(
+            Long id,
+            Long categoryId,
+            String title,
+            String snippet,
+            String color,
+            boolean pinned,
+            List<String> tags,
+            NoteLayoutPayload layout,
+            double position,
+            String updatedAt
+    ) {
+        public static NoteSummaryResponse from(NoteSummaryView view, List<String> tags) {
+            return new NoteSummaryResponse(
+                    view.getId(),
+                    view.getCategoryId(),
+                    view.getTitle(),
+                    view.getSnippet(),
+                    view.getColor(),
+                    Boolean.TRUE.equals(view.getPinned()),
+                    List.copyOf(tags),
+                    new NoteLayoutPayload(
+                            orZero(view.getLayoutX()),
+                            orZero(view.getLayoutY()),
+                            orZero(view.getLayoutWidth()),
+                            orZero(view.getLayoutHeight())
+                    ),
+                    view.getPositionIndex() == null ? 0d : view.getPositionIndex(),
+                    view.getUpdatedAt() == null ? null : view.getUpdatedAt().toString()
+            );
+        }
+
+        private static int orZero(Integer value) {
+            return value == null ? 0 : value;
+        }
+    }
+
+    public record NoteBoardResponse(
+            List<NoteSummaryResponse> notes,
+            String nextCursor,
+            boolean hasNext
+    ) {
+    }
+
+    public record FacetCount(Long id, String name, long count) {
+        public static FacetCount from(NoteFacetView view) {
+            return new FacetCount(view.getId(), view.getName(), view.getNoteCount() == null ? 0 : view.getNoteCount());
+        }
+    }
+
+    public record NoteFacetResponse(
+            List<FacetCount> categories,
+            List<FacetCount> tags
+    ) {
+    }
+
+    public record RenderedNoteResponse(Long noteId, String contentHash, String html) {
+    }
+
+    public record SemanticSearchHit(NoteSummaryResponse note, double score) {
+    }
+
+    public record DuplicateCandidate(NoteSummaryResponse note, int distance) {
+    }
+
+    public record DuplicateCluster(Long clusterId, List<NoteSummaryResponse> notes) {
+    }
+
+    public record ImportSkip(String entry, String reason) {
+    }
+
+    public record ImportReport(
+            int imported,
+            int skippedCount,
+            List<ImportSkip> skipped,
+            String lastCommittedEntry
+    ) {
+    }
+
     public record LayoutUpdateRequest(
             Long noteId,
             double position,
             NoteLayoutPayload layout
     ) {
     }
+
+    public record RevisionSummaryResponse(
+            int revisionNo,
+            boolean snapshot,
+            int size,
+            String createdAt,
+            String createdBy
+    ) {
+        public static RevisionSummaryResponse from(NoteRevisionSummary summary) {
+            return new RevisionSummaryResponse(
+                    summary.getRevisionNo(),
+                    summary.isSnapshot(),
+                    summary.getRawSize(),
+                    summary.getCreatedAt() == null ? null : summary.getCreatedAt().toString(),
+                    summary.getCreatedBy()
+            );
+        }
+    }
+
+    public record RevisionResponse(
+            int revisionNo,
+            String title,
+            String content,
+            Map<String, Object> fields
+    ) {
+    }
+
+    public record DiffLine(String type, String text) {
+    }
+
+    public record RevisionDiffResponse(
+            RevisionResponse from,
+            RevisionResponse to,
+            List<DiffLine> lines
+    ) {
+    }
 }
@@ -0,0 +1,24 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 실제 푸시/메일 연동 전까지 쓰는 로그 출력 알림.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.planner.reminders.notifier", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderNotifier implements PlannerReminderNotifier {
+
+    @Override
+    public void send(List<PlannerReminderNotice> notices) {
+        for (PlannerReminderNotice notice : notices) {
+            log.info("Planner reminder: event={} title='{}' startsAt={} recipients={}",
+                    notice.eventId(), notice.title(), notice.startsAt(), notice.recipientIds());
+        }
+    }
+}
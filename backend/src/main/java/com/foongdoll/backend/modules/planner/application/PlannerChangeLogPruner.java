@@ -0,0 +1,42 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerChangeJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 피드 변경 기록을 지운다. 지운 구간의 sync token 은 전체 피드로 돌아간다.
+ */
+@Slf4j
+@Component
+public class PlannerChangeLogPruner {
+
+    private static final int BATCH = 5000;
+
+    private final PlannerChangeJdbcRepository changeRepository;
+    private final int retentionDays;
+
+    public PlannerChangeLogPruner(PlannerChangeJdbcRepository changeRepository,
+                                  @Value("${app.planner.change-log-retention-days:30}") int retentionDays) {
+        this.changeRepository = changeRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${app.planner.change-log-prune-cron:0 45 4 * * *}")
+    public void prune() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = changeRepository.deleteOlderThan(threshold, BATCH);
+            total += deleted;
+        } while (deleted == BATCH);
+        if (total > 0) {
+            log.info("Pruned {} planner change log rows older than {}", total, threshold);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerChangeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_seq 컬럼 추가 이전의 변경 기록은 값이 비어 증분 피드에서 빠진다. 예전 토큰이 change_id 였으므로 그 값으로 채운다.
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class PlannerChangeSequenceBackfill implements ApplicationRunner {
+
+    private final PlannerChangeJdbcRepository changeRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = changeRepository.backfillUserSequence();
+        if (updated > 0) {
+            log.info("Backfilled user_seq for {} planner change log rows", updated);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.domain.PlannerBusyRow;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만들거나 옮길 일정이 본인 일정과 겹치는지 저장 전에 확인한다. 접근 테이블 인덱스로 기간이 걸치는 일정만 고르고
+ * 구간 projection 만 읽으며, 기존 반복 일정은 확인 기간 안에서만 펼친다.
+ * 후보가 반복 일정이면 시작부터 1년 안의 발생을 하나씩 꺼내 확인하다가 발생 수나 시간 예산을 넘으면 멈추고
+ * truncated 로 알린다. 시간 예산은 기존 반복 일정을 펼치는 단계부터 센다.
+ * 여러 일정을 한 번에 옮길 때는 전체 기간을 한 번만 조회하고, 함께 옮기는 일정끼리는 겹침으로 보지 않는다.
+ * 후보 하나의 길이와 전체 확인 기간은 상한이 있어 기존 반복 일정을 펼치는 양도 묶여 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlannerConflictService {
+
+    public static final int MAX_BATCH = 50;
+    private static final int MAX_OCCURRENCES = 500;
+    private static final int MAX_CONFLICTS = 20;
+    private static final int RECURRING_HORIZON_DAYS = 366;
+    private static final int MAX_SPAN_DAYS = 366;
+    // 반복 후보 하나가 차지할 수 있는 최대 기간이기도 하다.
+    private static final int MAX_WINDOW_DAYS = RECURRING_HORIZON_DAYS + MAX_SPAN_DAYS;
+    private static final long BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+
+    private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+
+    /**
+     * @return 후보 순서대로 겹치는 일정 id
+     */
+    public List<PlannerDtos.ConflictResult> check(Long userId, List<PlannerDtos.ConflictCandidate> candidates) {
+        if (candidates == null || candidates.isEmpty() || candidates.size() > MAX_BATCH) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "확인할 일정은 1개 이상 " + MAX_BATCH + "개 이하여야 합니다.");
+        }
+        long deadline = System.nanoTime() + BUDGET_NANOS;
+
+        List<Window> windows = new ArrayList<>(candidates.size());
+        Set<Long> moving = new HashSet<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (PlannerDtos.ConflictCandidate candidate : candidates) {
+            Window window = window(candidate);
+            windows.add(window);
+            from = from == null || window.startDate.isBefore(from) ? window.startDate : from;
+            to = to == null || window.lastDate.isAfter(to) ? window.lastDate : to;
+            if (candidate.eventId() != null) {
+                moving.add(candidate.eventId());
+            }
+        }
+        if (to.toEpochDay() - from.toEpochDay() >= MAX_WINDOW_DAYS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "한 번에 확인할 수 있는 기간은 최대 " + MAX_WINDOW_DAYS + "일입니다.");
+        }
+
+        Busy busy = load(userId, from, to, moving, deadline);
+        List<PlannerDtos.ConflictResult> results = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            PlannerDtos.ConflictResult result = windows.get(i).check(i, busy, deadline);
+            if (busy.incomplete && !result.truncated()) {
+                result = new PlannerDtos.ConflictResult(result.index(), result.eventId(), result.conflictingEventIds(), true);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Busy load(Long userId, LocalDate from, LocalDate to, Set<Long> moving, long deadline) {
+        List<PlannerBusyRow> rows = eventRepository.findBusyRows(List.of(userId), from, to).stream()
+                .filter(row -> !moving.contains(row.eventId()))
+                .toList();
+        Busy busy = new Busy(from, to, rows.size());
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(PlannerBusyRow::eventId)
+                .toList();
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides = new HashMap<>();
+        if (!seriesIds.isEmpty()) {
+            for (PlannerOccurrenceOverride override : exceptionRepository.findOverrides(seriesIds)) {
+                overrides.computeIfAbsent(override.eventId(), key -> new HashMap<>())
+                        .put(override.occurrenceDate(), override);
+            }
+        }
+
+        for (PlannerBusyRow row : rows) {
+            // 기간이 묶여 있어 일정 하나를 펼치는 양은 작다. 예산은 일정 사이에서 확인한다.
+            if (System.nanoTime() > deadline) {
+                busy.incomplete = true;
+                break;
+            }
+            if (row.recurrenceRule() == null) {
+                busy.add(row.eventId(), row.startDate(), row.endDate(), row.startTime(), row.endTime());
+                continue;
+            }
+            int span = (int) (row.endDate().toEpochDay() - row.startDate().toEpochDay());
+            PlannerRecurrenceExpander.expand(RecurrenceRule.parse(row.recurrenceRule()), row.startDate(), span,
+                    row.startTime(), row.endTime(), overrides.getOrDefault(row.eventId(), Map.of()), from, to,
+                    (date, startDate, endDate, startTime, endTime) ->
+                            busy.add(row.eventId(), startDate, endDate, startTime, endTime));
+        }
+        busy.sort();
+        return busy;
+    }
+
+    private static Window window(PlannerDtos.ConflictCandidate candidate) {
+        if (candidate == null || candidate.startDate() == null) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "시작일을 입력해주세요.");
+        }
+        LocalDate startDate = candidate.startDate();
+        LocalDate endDate = candidate.endDate() == null ? startDate : candidate.endDate();
+        if (endDate.isBefore(startDate)) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        long days = endDate.toEpochDay() - startDate.toEpochDay();
+        if (days >= MAX_SPAN_DAYS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "일정 길이는 최대 " + MAX_SPAN_DAYS + "일입니다.");
+        }
+        int span = (int) days;
+        RecurrenceRule rule = null;
+        LocalDate lastDate = endDate;
+        if (candidate.recurrence() != null && !candidate.recurrence().isBlank()) {
+            try {
+                rule = RecurrenceRule.parse(candidate.recurrence());
+            } catch (IllegalArgumentException ex) {
+                throw new DailyonException(ErrorCode.VALIDATION_ERROR, "반복 규칙이 올바르지 않습니다.", ex.getMessage());
+            }
+            LocalDate horizon = startDate.plusDays(RECURRING_HORIZON_DAYS);
+            LocalDate last = rule.lastOccurrence(startDate);
+            lastDate = (last == null || last.isAfter(horizon) ? horizon : last).plusDays(span);
+        }
+        return new Window(candidate, rule, startDate, lastDate, span);
+    }
+
+    private static long startMinute(LocalDate startDate, LocalTime startTime) {
+        long day = startDate.toEpochDay() * MINUTES_PER_DAY;
+        return startTime == null ? day : day + startTime.toSecondOfDay() / 60;
+    }
+
+    // 종일 일정은 끝나는 날 전체를, 끝 시각이 없으면 시작부터 한 시간을 차지한다.
+    private static long endMinute(long start, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        if (startTime == null) {
+            return (endDate.toEpochDay() + 1) * MINUTES_PER_DAY;
+        }
+        long end = endTime == null ? start + DEFAULT_DURATION_MINUTES
+                : endDate.toEpochDay() * MINUTES_PER_DAY + endTime.toSecondOfDay() / 60;
+        return end <= start ? start + DEFAULT_DURATION_MINUTES : end;
+    }
+
+    private static final class Window {
+
+        private final PlannerDtos.ConflictCandidate candidate;
+        private final RecurrenceRule rule;
+        private final LocalDate startDate;
+        private final LocalDate lastDate;
+        private final int span;
+
+        private Window(PlannerDtos.ConflictCandidate candidate, RecurrenceRule rule, LocalDate startDate,
+                       LocalDate lastDate, int span) {
+            this.candidate = candidate;
+            this.rule = rule;
+            this.startDate = startDate;
+            this.lastDate = lastDate;
+            this.span = span;
+        }
+
+        PlannerDtos.ConflictResult check(int index, Busy busy, long deadline) {
+            Set<Long> conflicts = new LinkedHashSet<>();
+            boolean truncated = false;
+            if (rule == null) {
+                truncated = !overlap(startDate, busy, conflicts);
+            } else {
+                // 발생을 미리 모두 만들지 않고 커서에서 하나씩 꺼낸다.
+                RecurrenceRule.Cursor cursor = rule.cursor(startDate, startDate);
+                long lastStart = lastDate.toEpochDay() - span;
+                int occurrences = 0;
+                for (long day = cursor.next(); day != RecurrenceRule.Cursor.DONE && day <= lastStart; day = cursor.next()) {
+                    if (occurrences == MAX_OCCURRENCES || (occurrences % 32 == 31 && System.nanoTime() > deadline)) {
+                        truncated = true;
+                        break;
+                    }
+                    occurrences++;
+                    if (!overlap(LocalDate.ofEpochDay(day), busy, conflicts)) {
+                        truncated = true;
+                        break;
+                    }
+                }
+            }
+            return new PlannerDtos.ConflictResult(index, candidate.eventId(), List.copyOf(conflicts), truncated);
+        }
+
+        /**
+         * @return 겹치는 일정이 너무 많아 더 찾지 않았으면 false
+         */
+        private boolean overlap(LocalDate occurrenceStart, Busy busy, Set<Long> conflicts) {
+            long from = startMinute(occurrenceStart, candidate.startTime());
+            long to = endMinute(from, occurrenceStart.plusDays(span), candidate.startTime(), candidate.endTime());
+            return busy.collect(from, to, conflicts);
+        }
+    }
+
+    /**
+     * 기존 일정 구간을 시작 순으로 정렬해 둔다. 시작 분(기준일부터)과 원래 위치를 (시작 << 32 | 위치) long 하나로 담아
+     * 객체 없이 정렬하고, 가장 긴 구간 길이만큼만 앞으로 물러나 이분 탐색한 뒤 훑는다.
+     * 시작 분은 [기준일, 확인 기간 끝) 안에만 두므로 MAX_WINDOW_DAYS 분량(약 100만 분)을 넘지 않아 32bit 에 들어간다.
+     */
+    private static final class Busy {
+
+        private final long origin;
+        private final long limit;
+        private boolean incomplete;
+        private long[] starts;
+        private long[] ends;
+        private long[] eventIds;
+        private int size;
+        private long maxLength;
+
+        private Busy(LocalDate origin, LocalDate last, int capacity) {
+            this.origin = origin.toEpochDay() * MINUTES_PER_DAY;
+            this.limit = (last.toEpochDay() + 1) * MINUTES_PER_DAY;
+            int initial = Math.max(16, capacity);
+            this.starts = new long[initial];
+            this.ends = new long[initial];
+            this.eventIds = new long[initial];
+        }
+
+        void add(Long eventId, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+            long from = startMinute(startDate, startTime);
+            long to = endMinute(from, endDate, startTime, endTime);
+            // 어떤 후보도 확인 기간 밖과는 겹칠 수 없다.
+            if (to <= origin || from >= limit) {
+                return;
+            }
+            // 확인 기간보다 먼저 시작한 구간은 기간 시작으로 당겨도 겹침 판단이 같다.
+            from = Math.max(from, origin);
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                eventIds = Arrays.copyOf(eventIds, size * 2);
+            }
+            starts[size] = from;
+            ends[size] = to;
+            eventIds[size] = eventId;
+            maxLength = Math.max(maxLength, to - from);
+            size++;
+        }
+
+        void sort() {
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = (starts[i] - origin) << 32 | i;
+            }
+            Arrays.sort(packed);
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            long[] sortedIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                int at = (int) packed[i];
+                sortedStarts[i] = starts[at];
+                sortedEnds[i] = ends[at];
+                sortedIds[i] = eventIds[at];
+            }
+            starts = sortedStarts;
+            ends = sortedEnds;
+            eventIds = sortedIds;
+        }
+
+        /**
+         * [from, to) 와 겹치는 일정 id 를 conflicts 에 더한다.
+         *
+         * @return 상한을 넘는 겹침이 더 있어 담지 못했으면 false
+         */
+        boolean collect(long from, long to, Set<Long> conflicts) {
+            for (int i = lowerBound(from - maxLength); i < size && starts[i] < to; i++) {
+                if (ends[i] <= from || conflicts.contains(eventIds[i])) continue;
+                if (conflicts.size() == MAX_CONFLICTS) {
+                    return false;
+                }
+                conflicts.add(eventIds[i]);
+            }
+            return true;
+        }
+
+        private int lowerBound(long minute) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * planner_event_access 가 비어 있으면 기존 일정(작성자 + 참여자)으로 채운다. series_end 보정 이후에 돈다.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class PlannerEventAccessBackfill implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM planner_event_access LIMIT 1) a", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        Integer inserted = transactionTemplate.execute(status -> {
+            int owners = jdbcTemplate.update("""
+                    INSERT IGNORE INTO planner_event_access (user_id, event_id, start_date, series_end)
+                    SELECT e.owner_id, e.planner_event_id, e.start_date, e.series_end
+                    FROM planner_events e
+                    """);
+            int participants = jdbcTemplate.update("""
+                    INSERT IGNORE INTO planner_event_access (user_id, event_id, start_date, series_end)
+                    SELECT p.user_id, e.planner_event_id, e.start_date, e.series_end
+                    FROM planner_event_participants p
+                    JOIN planner_events e ON e.planner_event_id = p.event_id
+                    """);
+            return owners + participants;
+        });
+        if (inserted != null && inserted > 0) {
+            log.info("Backfilled {} planner_event_access rows", inserted);
+        }
+    }
+}
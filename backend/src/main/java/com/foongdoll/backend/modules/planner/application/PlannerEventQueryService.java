@@ -0,0 +1,128 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRow;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventValue;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.PlannerParticipantJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerParticipantRow;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캘린더 범위 조회 전용 읽기 경로. 엔티티를 올리지 않고 평탄 projection 쿼리 너댓 번
+ * (일정, 태그, 게스트, 참여자 미리보기, 미리보기를 넘는 일정의 참여자 수 — 반복 일정이 있으면 예외 한 번 더)으로 응답을 바로 조립한다.
+ * 일정 수와 무관하게 쿼리 수가 고정된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlannerEventQueryService {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 일수. 끝없는 반복 일정은 범위 안의 날마다 발생을 만들므로 범위를 묶어 둔다.
+     */
+    public static final int MAX_DAYS = 366;
+
+    private static final Comparator<PlannerDtos.PlannerEventResponse> ORDER = Comparator
+            .comparing(PlannerDtos.PlannerEventResponse::startDate)
+            .thenComparing(PlannerDtos.PlannerEventResponse::startTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+    private final PlannerParticipantJdbcRepository participantRepository;
+
+    public List<PlannerDtos.PlannerEventResponse> getRange(Long userId, LocalDate start, LocalDate end) {
+        requireRange(start, end);
+        List<PlannerEventRow> rows = eventRepository.findRowsInRange(userId, start, end);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(PlannerEventRow::id).toList();
+        Map<Long, List<String>> tags = groupValues(eventRepository.findTagValues(ids));
+        Map<Long, List<String>> guests = groupValues(eventRepository.findGuestValues(ids));
+        Map<Long, PlannerDtos.ParticipantPreview> participants = participantPreviews(ids);
+
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(PlannerEventRow::id)
+                .toList();
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides = new HashMap<>();
+        if (!seriesIds.isEmpty()) {
+            for (PlannerOccurrenceOverride override : exceptionRepository.findOverrides(seriesIds)) {
+                overrides.computeIfAbsent(override.eventId(), key -> new HashMap<>())
+                        .put(override.occurrenceDate(), override);
+            }
+        }
+
+        List<PlannerDtos.PlannerEventResponse> responses = new ArrayList<>(rows.size());
+        for (PlannerEventRow row : rows) {
+            List<String> rowTags = tags.getOrDefault(row.id(), List.of());
+            List<String> rowGuests = guests.getOrDefault(row.id(), List.of());
+            PlannerDtos.ParticipantPreview rowParticipants =
+                    participants.getOrDefault(row.id(), PlannerDtos.ParticipantPreview.EMPTY);
+            if (row.recurrenceRule() == null) {
+                responses.add(PlannerDtos.PlannerEventResponse.of(row, null, row.startDate(), row.endDate(),
+                        row.startTime(), row.endTime(), rowTags, rowParticipants, rowGuests, userId));
+                continue;
+            }
+            int span = (int) (row.endDate().toEpochDay() - row.startDate().toEpochDay());
+            PlannerRecurrenceExpander.expand(RecurrenceRule.parse(row.recurrenceRule()), row.startDate(), span,
+                    row.startTime(), row.endTime(), overrides.getOrDefault(row.id(), Map.of()), start, end,
+                    (date, startDate, endDate, startTime, endTime) -> responses.add(PlannerDtos.PlannerEventResponse.of(
+                            row, date, startDate, endDate, startTime, endTime, rowTags, rowParticipants, rowGuests, userId)));
+        }
+        if (!seriesIds.isEmpty()) {
+            responses.sort(ORDER);
+        }
+        return responses;
+    }
+
+    static void requireRange(LocalDate start, LocalDate end) {
+        if (end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+    }
+
+    /**
+     * 일정마다 앞쪽 몇 명과 전체 인원만 싣는다. 반복 발생마다 같은 목록이 복제되고 월 캐시에도 그대로 들어가므로 전체 목록은 싣지 않는다.
+     */
+    private Map<Long, PlannerDtos.ParticipantPreview> participantPreviews(List<Long> ids) {
+        Map<Long, List<PlannerDtos.ParticipantSummary>> previews = new HashMap<>();
+        for (PlannerParticipantRow row : participantRepository.findPreview(ids, PlannerEventService.PARTICIPANT_PREVIEW)) {
+            previews.computeIfAbsent(row.eventId(), key -> new ArrayList<>())
+                    .add(new PlannerDtos.ParticipantSummary(row.userId(), row.nickname(), row.email()));
+        }
+        List<Long> truncated = previews.entrySet().stream()
+                .filter(entry -> entry.getValue().size() >= PlannerEventService.PARTICIPANT_PREVIEW)
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<Long, Integer> counts = truncated.isEmpty() ? Map.of() : participantRepository.countByEvent(truncated);
+        Map<Long, PlannerDtos.ParticipantPreview> participants = new HashMap<>();
+        previews.forEach((eventId, preview) -> participants.put(eventId,
+                new PlannerDtos.ParticipantPreview(List.copyOf(preview), counts.getOrDefault(eventId, preview.size()))));
+        return participants;
+    }
+
+    private static Map<Long, List<String>> groupValues(List<PlannerEventValue> values) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (PlannerEventValue value : values) {
+            grouped.computeIfAbsent(value.eventId(), key -> new ArrayList<>()).add(value.value());
+        }
+        return grouped;
+    }
+}
@@ -3,7 +3,17 @@ package com.foongdoll.backend.modules.planner.application;
 import com.foongdoll.backend.common.error.DailyonException;
 import com.foongdoll.backend.common.error.ErrorCode;
 import com.foongdoll.backend.modules.planner.domain.PlannerEvent;
+import com.foongdoll.backend.modules.planner.domain.PlannerChangeJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventAccessJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventException;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventReminder;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventReminderRepository;
 import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.PlannerParticipantJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerParticipantRow;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
 import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
 import com.foongdoll.backend.modules.user.domain.User;
 import com.foongdoll.backend.modules.user.domain.UserRepository;
@@ -12,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,17 +32,25 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlannerEventService {
 
+    public static final int PARTICIPANT_PREVIEW = 10;
+    private static final int MAX_REMINDERS = 5;
+    private static final int MAX_PARTICIPANT_PAGE = 200;
+
     private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+    private final PlannerEventAccessJdbcRepository accessRepository;
+    private final PlannerParticipantJdbcRepository participantRepository;
     private final UserRepository userRepository;
-
-    public List<PlannerEvent> getRange(Long userId, LocalDate start, LocalDate end) {
-        return eventRepository.findAllInRangeForUser(userId, start, end);
-    }
+    private final PlannerMonthCache monthCache;
+    private final PlannerEventReminderRepository reminderRepository;
+    private final PlannerReminderScheduler reminderScheduler;
+    private final PlannerChangeJdbcRepository changeRepository;
+    private final PlannerStatsService statsService;
 
     public PlannerEvent getAccessible(Long userId, Long eventId) {
         PlannerEvent event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "일정을 찾을 수 없습니다."));
-        if (!event.isParticipant(userId)) {
+        if (!Objects.equals(event.getOwner().getId(), userId) && !accessRepository.exists(userId, eventId)) {
             throw new DailyonException(ErrorCode.FORBIDDEN, "일정 접근 권한이 없습니다.");
         }
         return event;
@@ -58,6 +78,7 @@ public class PlannerEventService {
 
         LocalDate startDate = requireStartDate(request.startDate());
         LocalDate endDate = resolveEndDate(startDate, request.endDate());
+        RecurrenceRule recurrence = parseRecurrence(request.recurrence());
 
         PlannerEvent event = PlannerEvent.builder()
                 .owner(owner)
@@ -74,20 +95,31 @@ public class PlannerEventService {
                 .shareCode(null)
                 .tags(request.tags())
                 .guestNames(request.guestNames())
+                .recurrence(recurrence)
                 .build();
 
         if (Boolean.TRUE.equals(request.shared())) {
             event.markShared(true, generateShareCode());
         }
 
-        applyParticipants(event, request.participantIds());
-
-        return eventRepository.save(event);
+        PlannerEvent saved = eventRepository.save(event);
+        Set<Long> audience = audienceOf(saved, applyParticipants(saved, request.participantIds(), Set.of()));
+        syncAccess(saved, audience);
+        if (request.reminders() != null) {
+            applyReminders(saved, request.reminders());
+        }
+        monthCache.evict(audience, saved.getStartDate(), saved.getSeriesEnd());
+        changeRepository.append(saved.getId(), audience, Set.of());
+        statsService.markDirty(saved.getId());
+        return saved;
     }
 
     @Transactional
     public PlannerEvent update(Long userId, Long eventId, PlannerDtos.PlannerEventRequest request) {
         PlannerEvent event = getOwned(userId, eventId);
+        Set<Long> previousParticipants = participantRepository.findUserIds(eventId);
+        Set<Long> previousAudience = audienceOf(event, previousParticipants);
+        monthCache.evict(previousAudience, event.getStartDate(), event.getSeriesEnd());
         LocalDate nextStart = request.startDate() != null ? request.startDate() : event.getStartDate();
         LocalDate requestedEnd = request.endDate();
         LocalDate nextEnd;
@@ -98,6 +130,11 @@ public class PlannerEventService {
         } else {
             nextEnd = event.getEndDate();
         }
+        RecurrenceRule recurrence = parseRecurrence(request.recurrence());
+        String nextRule = recurrence == null ? null : recurrence.format();
+        boolean scheduleChanged = !nextStart.equals(event.getStartDate())
+                || !nextEnd.equals(event.getEndDate())
+                || !Objects.equals(nextRule, event.getRecurrenceRule());
 
         event.update(
                 request.title(),
@@ -110,9 +147,23 @@ public class PlannerEventService {
                 request.supplies(),
                 request.location(),
                 request.tags(),
-                request.guestNames()
+                request.guestNames(),
+                recurrence
         );
-        applyParticipants(event, request.participantIds());
+        // 규칙이나 기준 날짜가 바뀌면 발생일 자체가 달라지므로 예외는 의미를 잃는다.
+        if (scheduleChanged) {
+            exceptionRepository.deleteByEventId(eventId);
+        } else if (event.isRecurring()) {
+            exceptionRepository.findByEventIds(List.of(eventId))
+                    .forEach(exception -> event.extendSeriesEnd(exception.getEndDate()));
+        }
+        if (event.isRecurring()) {
+            event.complete(false);
+        }
+        Set<Long> nextAudience = audienceOf(event,
+                applyParticipants(event, request.participantIds(), previousParticipants));
+        syncAccess(event, nextAudience);
+        applyReminders(event, request.reminders());
 
         if (request.shared() != null) {
             if (Boolean.TRUE.equals(request.shared())) {
@@ -125,6 +176,11 @@ public class PlannerEventService {
                 event.markShared(false, null);
             }
         }
+        monthCache.evict(nextAudience, event.getStartDate(), event.getSeriesEnd());
+        Set<Long> removed = new LinkedHashSet<>(previousAudience);
+        removed.removeAll(nextAudience);
+        changeRepository.append(eventId, nextAudience, removed);
+        statsService.markDirty(eventId);
 
         return event;
     }
@@ -132,12 +188,122 @@ public class PlannerEventService {
     @Transactional
     public void delete(Long userId, Long eventId) {
         PlannerEvent event = getOwned(userId, eventId);
+        Set<Long> audience = audience(event);
+        monthCache.evict(audience, event.getStartDate(), event.getSeriesEnd());
+        changeRepository.append(eventId, Set.of(), audience);
+        statsService.markDirty(eventId);
+        exceptionRepository.deleteByEventId(eventId);
+        accessRepository.deleteByEventId(eventId);
+        participantRepository.deleteByEventId(eventId);
+        reminderRepository.deleteByEventId(eventId);
         eventRepository.delete(event);
     }
 
+    public List<Integer> getReminders(Long userId, Long eventId) {
+        getAccessible(userId, eventId);
+        return reminderRepository.findByEventId(eventId).stream()
+                .map(PlannerEventReminder::getMinutesBefore)
+                .toList();
+    }
+
+    /**
+     * 일정 응답에 싣는 참여자 미리보기. 앞쪽 {@link #PARTICIPANT_PREVIEW} 명과 전체 인원만 담는다.
+     */
+    public PlannerDtos.ParticipantPreview getParticipantPreview(Long eventId) {
+        List<PlannerDtos.ParticipantSummary> participants = participantRepository.findPage(eventId, 0L, PARTICIPANT_PREVIEW)
+                .stream()
+                .map(row -> new PlannerDtos.ParticipantSummary(row.userId(), row.nickname(), row.email()))
+                .toList();
+        int count = participants.size() < PARTICIPANT_PREVIEW
+                ? participants.size()
+                : participantRepository.countByEvent(List.of(eventId)).getOrDefault(eventId, 0);
+        return new PlannerDtos.ParticipantPreview(participants, count);
+    }
+
+    /**
+     * 참여자가 많은 일정용 user_id 순 페이지 조회.
+     */
+    public PlannerDtos.ParticipantPage getParticipantPage(Long userId, Long eventId, Long afterUserId, int size) {
+        getAccessible(userId, eventId);
+        int limit = Math.max(1, Math.min(size, MAX_PARTICIPANT_PAGE));
+        List<PlannerParticipantRow> rows = participantRepository.findPage(eventId,
+                afterUserId == null ? 0L : afterUserId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<PlannerDtos.ParticipantSummary> participants = rows.stream()
+                .limit(limit)
+                .map(row -> new PlannerDtos.ParticipantSummary(row.userId(), row.nickname(), row.email()))
+                .toList();
+        Long nextCursor = hasNext ? participants.get(participants.size() - 1).id() : null;
+        return new PlannerDtos.ParticipantPage(participants, nextCursor, hasNext);
+    }
+
+    @Transactional
+    public PlannerOccurrence rescheduleOccurrence(Long userId,
+                                                  Long eventId,
+                                                  LocalDate occurrenceDate,
+                                                  PlannerDtos.OccurrenceRequest request) {
+        PlannerEvent event = getOwnedOccurrence(userId, eventId, occurrenceDate);
+        LocalDate startDate = request.startDate() != null ? request.startDate() : occurrenceDate;
+        if (startDate.isBefore(event.getStartDate())) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "반복 시작일 이전으로 옮길 수 없습니다.");
+        }
+        LocalDate endDate = resolveEndDate(startDate,
+                request.endDate() != null ? request.endDate() : startDate.plusDays(event.getSpanDays()));
+        LocalTime startTime = request.startTime() != null ? request.startTime() : event.getStartTime();
+        LocalTime endTime = request.endTime() != null ? request.endTime() : event.getEndTime();
+
+        Set<Long> audience = audience(event);
+        PlannerEventException exception = exceptionRepository.findByEventIdAndOccurrenceDate(eventId, occurrenceDate)
+                .orElseGet(() -> PlannerEventException.of(event, occurrenceDate));
+        evictOccurrence(event, exception, audience);
+        exception.reschedule(startDate, endDate, startTime, endTime);
+        monthCache.evict(audience, startDate, endDate);
+        exceptionRepository.save(exception);
+        statsService.markDirty(event.getId());
+        if (endDate.isAfter(event.getSeriesEnd())) {
+            event.extendSeriesEnd(endDate);
+            syncAccess(event, audience);
+        }
+        applyReminders(event, null);
+        return new PlannerOccurrence(event, occurrenceDate, startDate, endDate, startTime, endTime);
+    }
+
+    @Transactional
+    public void cancelOccurrence(Long userId, Long eventId, LocalDate occurrenceDate) {
+        PlannerEvent event = getOwnedOccurrence(userId, eventId, occurrenceDate);
+        Set<Long> audience = audience(event);
+        PlannerEventException exception = exceptionRepository.findByEventIdAndOccurrenceDate(eventId, occurrenceDate)
+                .orElseGet(() -> PlannerEventException.of(event, occurrenceDate));
+        evictOccurrence(event, exception, audience);
+        exception.cancel();
+        exceptionRepository.save(exception);
+        statsService.markDirty(event.getId());
+        applyReminders(event, null);
+    }
+
+    /**
+     * 단일 일정만 완료 처리할 수 있다. 반복 일정의 발생별 완료는 지원하지 않는다.
+     */
+    @Transactional
+    public PlannerEvent complete(Long userId, Long eventId, boolean completed) {
+        PlannerEvent event = getOwned(userId, eventId);
+        if (event.isRecurring()) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "반복 일정은 완료 처리할 수 없습니다.");
+        }
+        if (event.isCompleted() == completed) {
+            return event;
+        }
+        Set<Long> audience = audience(event);
+        event.complete(completed);
+        statsService.markDirty(event.getId());
+        monthCache.evict(audience, event.getStartDate(), event.getSeriesEnd());
+        return event;
+    }
+
     @Transactional
     public PlannerEvent toggleShare(Long userId, Long eventId, boolean shared) {
         PlannerEvent event = getOwned(userId, eventId);
+        monthCache.evict(audience(event), event.getStartDate(), event.getSeriesEnd());
         if (shared) {
             if (event.getShareCode() == null) {
                 event.markShared(true, generateShareCode());
@@ -150,26 +316,125 @@ public class PlannerEventService {
         return event;
     }
 
-    private void applyParticipants(PlannerEvent event, List<Long> participantIds) {
-        if (participantIds == null || participantIds.isEmpty()) {
-            event.setParticipants(Collections.emptyList());
-            return;
-        }
-        Set<Long> distinct = participantIds.stream()
+    /**
+     * 요청한 참여자 id 집합과 현재 집합의 차이만 일괄 INSERT/DELETE 한다. 새로 추가되는 id 만 존재 여부를 확인하고
+     * User 엔티티는 올리지 않는다.
+     *
+     * @return 반영 후 참여자 id
+     */
+    private Set<Long> applyParticipants(PlannerEvent event, List<Long> participantIds, Set<Long> current) {
+        Long ownerId = event.getOwner().getId();
+        Set<Long> requested = participantIds == null ? new LinkedHashSet<>() : participantIds.stream()
                 .filter(Objects::nonNull)
-                .filter(id -> !Objects.equals(id, event.getOwner().getId()))
+                .filter(id -> !Objects.equals(id, ownerId))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
-        if (distinct.isEmpty()) {
-            event.setParticipants(Collections.emptyList());
+
+        Set<Long> added = new LinkedHashSet<>(requested);
+        added.removeAll(current);
+        if (!added.isEmpty()) {
+            Set<Long> existing = participantRepository.findExistingUserIds(added);
+            requested.removeIf(id -> !current.contains(id) && !existing.contains(id));
+            added.retainAll(existing);
+        }
+        Set<Long> removed = new LinkedHashSet<>(current);
+        removed.removeAll(requested);
+
+        participantRepository.delete(event.getId(), removed);
+        participantRepository.insert(event.getId(), added);
+        return requested;
+    }
+
+    /**
+     * minutesBefore 가 null 이면 기존 알림을 유지하고 바뀐 일정(발생별 예외 포함) 기준으로 다음 알림 시각만 다시 계산한다.
+     */
+    private void applyReminders(PlannerEvent event, List<Integer> minutesBefore) {
+        List<PlannerEventReminder> reminders;
+        if (minutesBefore == null) {
+            reminders = reminderRepository.findByEventId(event.getId());
+        } else {
+            reminderRepository.deleteByEventId(event.getId());
+            reminders = normalizeReminders(minutesBefore).stream()
+                    .map(minutes -> PlannerEventReminder.of(event, minutes))
+                    .toList();
+        }
+        if (reminders.isEmpty()) {
             return;
         }
-        List<User> users = userRepository.findAllById(distinct);
-        Map<Long, User> userMap = users.stream().collect(Collectors.toMap(User::getId, it -> it));
-        List<User> ordered = distinct.stream()
-                .map(userMap::get)
+        Map<LocalDate, PlannerOccurrenceOverride> overrides = event.isRecurring()
+                ? PlannerReminderScheduler.groupOverrides(exceptionRepository.findOverrides(List.of(event.getId())))
+                .getOrDefault(event.getId(), Map.of())
+                : Map.of();
+        LocalDateTime now = LocalDateTime.now();
+        for (PlannerEventReminder reminder : reminders) {
+            PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(event.getRecurrence(),
+                    event.getStartDate(), event.getStartTime(), reminder.getMinutesBefore(), overrides, now);
+            reminder.schedule(next == null ? null : next.occurrenceDate(), next == null ? null : next.remindAt());
+        }
+        reminderScheduler.track(reminderRepository.saveAll(reminders));
+    }
+
+    private List<Integer> normalizeReminders(List<Integer> minutesBefore) {
+        List<Integer> distinct = minutesBefore.stream()
                 .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
                 .toList();
-        event.setParticipants(ordered);
+        if (distinct.size() > MAX_REMINDERS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "알림은 최대 " + MAX_REMINDERS + "개까지 설정할 수 있습니다.");
+        }
+        for (int minutes : distinct) {
+            if (minutes < 0 || minutes > PlannerEventReminder.MAX_MINUTES_BEFORE) {
+                throw new DailyonException(ErrorCode.VALIDATION_ERROR, "알림 시각이 올바르지 않습니다.");
+            }
+        }
+        return distinct;
+    }
+
+    private void syncAccess(PlannerEvent event, Set<Long> audience) {
+        accessRepository.sync(event.getId(), audience, event.getStartDate(), event.getSeriesEnd());
+    }
+
+    /**
+     * 일정을 볼 수 있는 사용자(작성자 + 참여자).
+     */
+    private Set<Long> audience(PlannerEvent event) {
+        return audienceOf(event, participantRepository.findUserIds(event.getId()));
+    }
+
+    private static Set<Long> audienceOf(PlannerEvent event, Set<Long> participantIds) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(event.getOwner().getId());
+        userIds.addAll(participantIds);
+        return userIds;
+    }
+
+    // 발생의 원래 날짜와, 이미 옮겨져 있었다면 옮긴 날짜의 버킷을 지우고 피드 변경으로 남긴다.
+    private void evictOccurrence(PlannerEvent event, PlannerEventException exception, Set<Long> audience) {
+        changeRepository.append(event.getId(), audience, Set.of());
+        LocalDate original = exception.getOccurrenceDate();
+        monthCache.evict(audience, original, original.plusDays(event.getSpanDays()));
+        if (exception.getStartDate() != null) {
+            monthCache.evict(audience, exception.getStartDate(), exception.getEndDate());
+        }
+    }
+
+    private PlannerEvent getOwnedOccurrence(Long userId, Long eventId, LocalDate occurrenceDate) {
+        PlannerEvent event = getOwned(userId, eventId);
+        if (!event.isRecurring() || !event.getRecurrence().occursOn(event.getStartDate(), occurrenceDate)) {
+            throw new DailyonException(ErrorCode.NOT_FOUND, "해당 날짜에 반복 일정이 없습니다.");
+        }
+        return event;
+    }
+
+    private RecurrenceRule parseRecurrence(String rule) {
+        if (rule == null || rule.isBlank()) {
+            return null;
+        }
+        try {
+            return RecurrenceRule.parse(rule);
+        } catch (IllegalArgumentException ex) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "반복 규칙이 올바르지 않습니다.", ex.getMessage());
+        }
     }
 
     private String generateShareCode() {
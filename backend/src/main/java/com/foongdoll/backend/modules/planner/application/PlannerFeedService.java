@@ -0,0 +1,179 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.domain.PlannerChangeJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerFeedRow;
+import com.foongdoll.backend.modules.planner.domain.PlannerFeedToken;
+import com.foongdoll.backend.modules.planner.domain.PlannerFeedTokenRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 외부 캘린더 구독용 ICS 피드. 전체 피드는 접근 테이블 PK 순서로 페이지를 이어 읽으며 바로 흘려보내고,
+ * sync token 을 주면 그 순번 이후 바뀐 일정만 보낸다. 토큰이 보관 기간(변경 기록 정리) 밖이면 전체 피드로 돌아간다.
+ * 쓰는 동안 트랜잭션을 잡지 않으므로 느린 클라이언트가 커넥션을 오래 붙잡지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlannerFeedService {
+
+    private static final int PAGE_SIZE = 500;
+    private static final int MAX_SYNC_CHANGES = 10_000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+    private final PlannerChangeJdbcRepository changeRepository;
+    private final PlannerFeedTokenRepository tokenRepository;
+
+    public String getToken(Long userId) {
+        return tokenRepository.findById(userId)
+                .map(PlannerFeedToken::getToken)
+                .orElse(null);
+    }
+
+    /**
+     * 구독 주소를 새로 발급한다. 기존 주소는 바로 무효가 된다.
+     */
+    @Transactional
+    public String rotateToken(Long userId) {
+        String token = newToken();
+        tokenRepository.findById(userId)
+                .ifPresentOrElse(existing -> existing.rotate(token),
+                        () -> tokenRepository.save(PlannerFeedToken.issue(userId, token)));
+        return token;
+    }
+
+    public Long resolveUser(String token) {
+        return tokenRepository.findByToken(token)
+                .map(PlannerFeedToken::getUserId)
+                .orElseThrow(() -> new DailyonException(ErrorCode.NOT_FOUND, "구독 주소를 찾을 수 없습니다."));
+    }
+
+    public long sequence(Long userId) {
+        return changeRepository.latestSequence(userId);
+    }
+
+    /**
+     * @param syncToken null 이면 전체 피드
+     * @param sequence  응답에 실을 현재 순번(ETag 와 같은 값)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void write(Long userId, Long syncToken, long sequence, OutputStream output) throws IOException {
+        PlannerIcsWriter ics = new PlannerIcsWriter(
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), ZoneId.systemDefault());
+        ics.begin("Dailyon", sequence);
+        if (syncToken == null || !writeChanges(userId, syncToken, sequence, ics)) {
+            writeAll(userId, ics);
+        }
+        ics.end();
+    }
+
+    private void writeAll(Long userId, PlannerIcsWriter ics) throws IOException {
+        long cursor = 0L;
+        while (true) {
+            List<PlannerFeedRow> page = eventRepository.findFeedRows(userId, cursor, PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            writeRows(page, ics);
+            cursor = page.get(page.size() - 1).id();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return 토큰이 보관 기간 밖이거나 변경이 너무 많아 전체 피드로 대신해야 하면 false
+     */
+    private boolean writeChanges(Long userId, long syncToken, long sequence, PlannerIcsWriter ics) throws IOException {
+        if (syncToken >= sequence) {
+            return true;
+        }
+        Long oldest = changeRepository.oldestSequence(userId);
+        if (oldest == null || syncToken + 1 < oldest) {
+            return false;
+        }
+        List<PlannerChangeJdbcRepository.Change> changes =
+                changeRepository.findSince(userId, syncToken, sequence, MAX_SYNC_CHANGES + 1);
+        if (changes.size() > MAX_SYNC_CHANGES) {
+            return false;
+        }
+        // 같은 일정의 여러 변경은 마지막 것만 본다.
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        for (PlannerChangeJdbcRepository.Change change : changes) {
+            latest.remove(change.eventId());
+            latest.put(change.eventId(), change.deleted());
+        }
+        List<Long> changed = new ArrayList<>();
+        for (Map.Entry<Long, Boolean> entry : latest.entrySet()) {
+            if (entry.getValue()) {
+                ics.removed(entry.getKey());
+            } else {
+                changed.add(entry.getKey());
+            }
+        }
+        for (int from = 0; from < changed.size(); from += PAGE_SIZE) {
+            List<Long> ids = changed.subList(from, Math.min(changed.size(), from + PAGE_SIZE));
+            List<PlannerFeedRow> rows = eventRepository.findFeedRowsByIds(userId, ids);
+            writeRows(rows, ics);
+            // 기록 이후 접근을 잃은 일정은 행이 없으므로 삭제로 알린다.
+            if (rows.size() < ids.size()) {
+                Set<Long> found = new HashSet<>();
+                rows.forEach(row -> found.add(row.id()));
+                for (Long id : ids) {
+                    if (!found.contains(id)) {
+                        ics.removed(id);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeRows(List<PlannerFeedRow> rows, PlannerIcsWriter ics) throws IOException {
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(PlannerFeedRow::id)
+                .toList();
+        Map<Long, List<PlannerOccurrenceOverride>> overrides = new LinkedHashMap<>();
+        if (!seriesIds.isEmpty()) {
+            for (PlannerOccurrenceOverride override : exceptionRepository.findOverrides(seriesIds)) {
+                overrides.computeIfAbsent(override.eventId(), key -> new ArrayList<>()).add(override);
+            }
+        }
+        for (PlannerFeedRow row : rows) {
+            ics.event(row, overrides.getOrDefault(row.id(), List.of()));
+        }
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[24];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,227 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.domain.PlannerBusyRow;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventAccessJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 사용자의 바쁜 구간과 빈 시간을 계산한다. 일정 내용은 읽지 않고 (시작, 끝) 구간만 projection 으로 가져와
+ * 분 단위 정수로 바꾼 뒤 시작 순으로 한 번 훑어(sweep) 겹치는 구간을 합친다.
+ * 종일 일정은 그날 전체를, 끝 시각이 없는 일정은 시작부터 한 시간을 바쁜 것으로 본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlannerFreeBusyService {
+
+    public static final int MAX_USERS = 20;
+    public static final int MAX_DAYS = 62;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+
+    private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+    private final PlannerEventAccessJdbcRepository accessRepository;
+
+    /**
+     * @param requesterId 조회하는 사용자. userIds 에 포함되어야 하며, 나머지는 요청자와 일정을 공유하는 사용자여야 한다.
+     * @param dayStart   빈 시간을 찾을 하루 중 시작 시각(null 이면 00:00)
+     * @param dayEnd     빈 시간을 찾을 하루 중 끝 시각(null 이면 자정)
+     * @param minMinutes 이보다 짧은 빈 시간은 돌려주지 않는다
+     */
+    public PlannerDtos.FreeBusyResponse query(Long requesterId,
+                                              List<Long> userIds,
+                                              LocalDate start,
+                                              LocalDate end,
+                                              LocalTime dayStart,
+                                              LocalTime dayEnd,
+                                              int minMinutes) {
+        if (userIds.isEmpty() || userIds.size() > MAX_USERS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "사용자는 1명 이상 " + MAX_USERS + "명 이하로 지정해주세요.");
+        }
+        requireVisible(requesterId, userIds);
+        if (end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+        int workStart = dayStart == null ? 0 : dayStart.toSecondOfDay() / 60;
+        int workEnd = dayEnd == null ? MINUTES_PER_DAY : dayEnd.toSecondOfDay() / 60;
+        if (workStart >= workEnd) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "하루 중 시작 시각은 끝 시각보다 빨라야 합니다.");
+        }
+        if (minMinutes < 1 || minMinutes > MINUTES_PER_DAY) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "최소 시간은 1분에서 1440분 사이여야 합니다.");
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        Intervals intervals = collect(userIds, start, end, days * MINUTES_PER_DAY);
+        int busyCount = intervals.merge();
+        int[] busyStart = intervals.mergedStart;
+        int[] busyEnd = intervals.mergedEnd;
+
+        LocalDateTime origin = start.atStartOfDay();
+        List<PlannerDtos.TimeBlock> busy = new ArrayList<>(busyCount);
+        for (int i = 0; i < busyCount; i++) {
+            busy.add(block(origin, busyStart[i], busyEnd[i]));
+        }
+
+        // 바쁜 구간이 시작 순이므로 날짜를 넘어가도 포인터는 앞으로만 움직인다.
+        List<PlannerDtos.TimeBlock> free = new ArrayList<>();
+        int next = 0;
+        for (int day = 0; day < days; day++) {
+            int windowStart = day * MINUTES_PER_DAY + workStart;
+            int windowEnd = day * MINUTES_PER_DAY + workEnd;
+            while (next < busyCount && busyEnd[next] <= windowStart) {
+                next++;
+            }
+            int cursor = windowStart;
+            int i = next;
+            while (i < busyCount && busyStart[i] < windowEnd) {
+                if (busyStart[i] - cursor >= minMinutes) {
+                    free.add(block(origin, cursor, busyStart[i]));
+                }
+                cursor = Math.max(cursor, busyEnd[i]);
+                if (busyEnd[i] >= windowEnd) {
+                    break;
+                }
+                i++;
+            }
+            if (windowEnd - cursor >= minMinutes) {
+                free.add(block(origin, cursor, windowEnd));
+            }
+            next = i;
+        }
+
+        return new PlannerDtos.FreeBusyResponse(List.copyOf(userIds), origin, end.plusDays(1).atStartOfDay(), busy, free);
+    }
+
+    // 아무 사용자의 일정을 엿볼 수 없도록 함께하는 일정이 있는 사용자로만 제한한다.
+    private void requireVisible(Long requesterId, List<Long> userIds) {
+        if (!userIds.contains(requesterId)) {
+            throw new DailyonException(ErrorCode.FORBIDDEN, "본인이 포함된 조회만 할 수 있습니다.");
+        }
+        List<Long> others = userIds.stream().filter(id -> !id.equals(requesterId)).toList();
+        Set<Long> sharing = accessRepository.findSharingUsers(requesterId, others);
+        if (!sharing.containsAll(others)) {
+            throw new DailyonException(ErrorCode.FORBIDDEN, "함께하는 일정이 있는 사용자만 조회할 수 있습니다.");
+        }
+    }
+
+    private Intervals collect(List<Long> userIds, LocalDate start, LocalDate end, int limit) {
+        List<PlannerBusyRow> rows = eventRepository.findBusyRows(userIds, start, end);
+        Intervals intervals = new Intervals(rows.size(), limit);
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(PlannerBusyRow::eventId)
+                .toList();
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides = new HashMap<>();
+        if (!seriesIds.isEmpty()) {
+            for (PlannerOccurrenceOverride override : exceptionRepository.findOverrides(seriesIds)) {
+                overrides.computeIfAbsent(override.eventId(), key -> new HashMap<>())
+                        .put(override.occurrenceDate(), override);
+            }
+        }
+
+        for (PlannerBusyRow row : rows) {
+            if (row.recurrenceRule() == null) {
+                intervals.add(start, row.startDate(), row.endDate(), row.startTime(), row.endTime());
+                continue;
+            }
+            int span = (int) (row.endDate().toEpochDay() - row.startDate().toEpochDay());
+            PlannerRecurrenceExpander.expand(RecurrenceRule.parse(row.recurrenceRule()), row.startDate(), span,
+                    row.startTime(), row.endTime(), overrides.getOrDefault(row.eventId(), Map.of()), start, end,
+                    (date, startDate, endDate, startTime, endTime) ->
+                            intervals.add(start, startDate, endDate, startTime, endTime));
+        }
+        return intervals;
+    }
+
+    private static PlannerDtos.TimeBlock block(LocalDateTime origin, int from, int to) {
+        return new PlannerDtos.TimeBlock(origin.plusMinutes(from), origin.plusMinutes(to));
+    }
+
+    /**
+     * 구간을 (시작 << 32 | 끝) 한 개의 long 으로 담아 객체 없이 정렬하고 합친다.
+     */
+    private static final class Intervals {
+
+        private final int limit;
+        private long[] packed;
+        private int size;
+        private int[] mergedStart;
+        private int[] mergedEnd;
+
+        private Intervals(int capacity, int limit) {
+            this.packed = new long[Math.max(16, capacity)];
+            this.limit = limit;
+        }
+
+        void add(LocalDate origin, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+            long startDay = startDate.toEpochDay() - origin.toEpochDay();
+            long endDay = endDate.toEpochDay() - origin.toEpochDay();
+            long from;
+            long to;
+            if (startTime == null) {
+                from = startDay * MINUTES_PER_DAY;
+                to = (endDay + 1) * MINUTES_PER_DAY;
+            } else {
+                from = startDay * MINUTES_PER_DAY + startTime.toSecondOfDay() / 60;
+                to = endTime == null ? from + DEFAULT_DURATION_MINUTES
+                        : endDay * MINUTES_PER_DAY + endTime.toSecondOfDay() / 60;
+                if (to <= from) {
+                    to = from + DEFAULT_DURATION_MINUTES;
+                }
+            }
+            from = Math.max(0, from);
+            to = Math.min(limit, to);
+            if (from >= to) {
+                return;
+            }
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = from << 32 | to;
+        }
+
+        /**
+         * @return 합친 구간 수
+         */
+        int merge() {
+            Arrays.sort(packed, 0, size);
+            mergedStart = new int[size];
+            mergedEnd = new int[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int from = (int) (packed[i] >>> 32);
+                int to = (int) packed[i];
+                if (count > 0 && from <= mergedEnd[count - 1]) {
+                    mergedEnd[count - 1] = Math.max(mergedEnd[count - 1], to);
+                } else {
+                    mergedStart[count] = from;
+                    mergedEnd[count] = to;
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerFeedRow;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+
+/**
+ * RFC 5545 VCALENDAR 출력. 시각이 있는 일정은 서버 시간대 기준으로 UTC 로 바꿔 쓰고,
+ * 종일 일정은 VALUE=DATE 로 쓴다(DTEND 는 다음 날, 배타적).
+ */
+final class PlannerIcsWriter {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final long DEFAULT_DURATION_MINUTES = 60;
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final String stamp;
+
+    PlannerIcsWriter(Writer out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+        this.stamp = utc(LocalDateTime.now());
+    }
+
+    void begin(String calendarName, long syncToken) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Dailyon//Planner//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + text(calendarName));
+        line("X-DAILYON-SYNC-TOKEN:" + syncToken);
+    }
+
+    void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    /**
+     * @param overrides 반복 일정의 예외. 취소는 EXDATE, 옮긴 발생은 RECURRENCE-ID 를 단 VEVENT 로 쓴다.
+     */
+    void event(PlannerFeedRow row, Collection<PlannerOccurrenceOverride> overrides) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(row.id()));
+        line("DTSTAMP:" + stamp);
+        if (row.updatedAt() != null) {
+            line("LAST-MODIFIED:" + utc(row.updatedAt()));
+        }
+        times(row.startDate(), row.endDate(), row.startTime(), row.endTime());
+        if (row.recurrenceRule() != null) {
+            line("RRULE:" + rrule(RecurrenceRule.parse(row.recurrenceRule()), row.startTime()));
+            for (PlannerOccurrenceOverride override : overrides) {
+                if (override.cancelled()) {
+                    line("EXDATE" + instant(override.occurrenceDate(), row.startTime()));
+                }
+            }
+        }
+        describe(row);
+        line("END:VEVENT");
+
+        for (PlannerOccurrenceOverride override : overrides) {
+            if (override.cancelled() || override.startDate() == null) continue;
+            line("BEGIN:VEVENT");
+            line("UID:" + uid(row.id()));
+            line("DTSTAMP:" + stamp);
+            line("RECURRENCE-ID" + instant(override.occurrenceDate(), row.startTime()));
+            times(override.startDate(), override.endDate(), override.startTime(), override.endTime());
+            describe(row);
+            line("END:VEVENT");
+        }
+    }
+
+    /**
+     * sync token 이후 사라진 일정. 클라이언트가 UID 로 지울 수 있게 취소 상태만 알린다.
+     */
+    void removed(Long eventId) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(eventId));
+        line("DTSTAMP:" + stamp);
+        line("STATUS:CANCELLED");
+        line("END:VEVENT");
+    }
+
+    private void times(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) throws IOException {
+        if (startTime == null) {
+            line("DTSTART;VALUE=DATE:" + startDate.format(DATE));
+            line("DTEND;VALUE=DATE:" + endDate.plusDays(1).format(DATE));
+            return;
+        }
+        LocalDateTime start = startDate.atTime(startTime);
+        LocalDateTime end = endTime == null ? null : endDate.atTime(endTime);
+        if (end == null || !end.isAfter(start)) {
+            end = start.plusMinutes(DEFAULT_DURATION_MINUTES);
+        }
+        line("DTSTART:" + utc(start));
+        line("DTEND:" + utc(end));
+    }
+
+    private void describe(PlannerFeedRow row) throws IOException {
+        line("SUMMARY:" + text(row.title()));
+        if (row.description() != null && !row.description().isBlank()) {
+            line("DESCRIPTION:" + text(row.description()));
+        }
+        if (row.locationName() != null && !row.locationName().isBlank()) {
+            line("LOCATION:" + text(row.locationName()));
+        }
+    }
+
+    // DTSTART 가 UTC 시각이면 UNTIL 도 UTC 시각이어야 한다(RFC 5545 3.3.10).
+    private String rrule(RecurrenceRule rule, LocalTime startTime) {
+        String formatted = rule.format();
+        if (startTime == null || rule.getUntil() == null) {
+            return formatted;
+        }
+        return formatted.replace("UNTIL=" + rule.getUntil().format(DATE),
+                "UNTIL=" + utc(rule.getUntil().atTime(LocalTime.MAX)));
+    }
+
+    private String instant(LocalDate date, LocalTime startTime) {
+        return startTime == null ? ";VALUE=DATE:" + date.format(DATE) : ":" + utc(date.atTime(startTime));
+    }
+
+    private String utc(LocalDateTime local) {
+        return local.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC);
+    }
+
+    private static String uid(Long eventId) {
+        return eventId + "@dailyon";
+    }
+
+    private static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // 한 줄은 75 옥텟까지. 멀티바이트 문자는 중간에서 자르지 않는다.
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size;
+            if (Character.isHighSurrogate(c) && i + 1 < content.length()) {
+                size = 4;
+            } else {
+                size = c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            }
+            if (octets + size > limit) {
+                out.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            out.write(c);
+            if (size == 4) {
+                out.write(content.charAt(++i));
+            }
+            octets += size;
+        }
+        out.write("\r\n");
+    }
+}
@@ -0,0 +1,325 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캘린더 범위 조회를 (사용자, 월) 버킷으로 캐시한다. 1차는 프로세스 내 LRU(짧은 TTL), 2차는 Redis(cacheManager).
+ * 일정이 바뀌면 작성자와 참여자 전원의 해당 월 버킷만 커밋 이후에 지운다.
+ * 끝없는 반복처럼 걸치는 달이 너무 많으면 사용자 세대 번호를 올려 그 사용자의 버킷 전체를 한 번에 무효화한다.
+ * 버킷 키에는 (사용자, 월) 버전이 들어간다. 무효화는 버전을 바꾸므로, 커밋 전에 읽어 둔 결과를 무효화 뒤에 저장해도
+ * 이전 버전 키에 들어갈 뿐 다시 읽히지 않는다.
+ */
+@Slf4j
+@Component
+public class PlannerMonthCache {
+
+    static final String CACHE_NAME = "plannerMonths";
+    // 버킷에 담는 응답 형태가 바뀌면 올려서 예전 형태의 버킷을 읽지 않게 한다.
+    private static final String BUCKET_FORMAT = "2";
+    private static final int LOCAL_MAX_ENTRIES = 4096;
+    // 다른 인스턴스의 무효화는 Redis 로만 전파되므로 1차 캐시는 짧게 둔다.
+    private static final long LOCAL_TTL_MILLIS = 30_000;
+    private static final int MAX_BUCKETS_PER_QUERY = 3;
+    private static final int MAX_EVICT_MONTHS = 24;
+    private static final TypeReference<List<PlannerDtos.PlannerEventResponse>> BUCKET_TYPE = new TypeReference<>() {
+    };
+    private static final Comparator<PlannerDtos.PlannerEventResponse> ORDER = Comparator
+            .comparing(PlannerDtos.PlannerEventResponse::startDate)
+            .thenComparing(PlannerDtos.PlannerEventResponse::startTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PlannerEventQueryService queryService;
+    private final ObjectMapper objectMapper;
+    private final Cache remote;
+    private final Map<String, LocalEntry> local = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+            return size() > LOCAL_MAX_ENTRIES;
+        }
+    });
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PlannerMonthCache(PlannerEventQueryService queryService, ObjectMapper objectMapper, CacheManager cacheManager) {
+        this.queryService = queryService;
+        this.objectMapper = objectMapper;
+        this.remote = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public List<PlannerDtos.PlannerEventResponse> getRange(Long userId, LocalDate start, LocalDate end) {
+        PlannerEventQueryService.requireRange(start, end);
+        YearMonth first = YearMonth.from(start);
+        YearMonth last = YearMonth.from(end);
+        if (first.plusMonths(MAX_BUCKETS_PER_QUERY - 1L).isBefore(last)) {
+            bypassed.increment();
+            return queryService.getRange(userId, start, end);
+        }
+
+        String generation = generation(userId);
+        Map<String, PlannerDtos.PlannerEventResponse> merged = new LinkedHashMap<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            for (PlannerDtos.PlannerEventResponse event : bucket(userId, generation, month)) {
+                if (event.startDate().isAfter(end) || event.endDate().isBefore(start)) continue;
+                // 여러 달에 걸친 일정은 버킷마다 들어 있다.
+                merged.putIfAbsent(event.id() + ":" + event.occurrenceDate(), event);
+            }
+        }
+        List<PlannerDtos.PlannerEventResponse> events = new ArrayList<>(merged.values());
+        if (!first.equals(last)) {
+            events.sort(ORDER);
+        }
+        return events;
+    }
+
+    /**
+     * userIds 각각의 [from, to] 에 걸치는 월 버킷을 커밋 이후에 지운다.
+     */
+    public void evict(Collection<Long> userIds, LocalDate from, LocalDate to) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Set<Long> users = Set.copyOf(userIds);
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to);
+        boolean wide = ChronoUnit.MONTHS.between(first, last) >= MAX_EVICT_MONTHS;
+        Runnable action = () -> {
+            for (Long userId : users) {
+                if (wide) {
+                    bumpGeneration(userId);
+                    continue;
+                }
+                String generation = generation(userId);
+                for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                    bumpVersion(userId, generation, month);
+                    evictions.increment();
+                }
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    public Stats stats() {
+        long local = localHits.sum();
+        long remoteHit = remoteHits.sum();
+        long miss = misses.sum();
+        long total = local + remoteHit + miss;
+        return new Stats(
+                local,
+                remoteHit,
+                miss,
+                bypassed.sum(),
+                evictions.sum(),
+                total == 0 ? 0 : (double) (local + remoteHit) / total,
+                this.local.size()
+        );
+    }
+
+    private List<PlannerDtos.PlannerEventResponse> bucket(Long userId, String generation, YearMonth month) {
+        // 버전은 적재 전에 읽는다. 적재 도중 무효화되면 이 키는 더 이상 쓰이지 않는다.
+        String key = bucketKey(userId, generation, month, version(userId, month));
+        List<PlannerDtos.PlannerEventResponse> cached = readLocal(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        String json = readRemote(key);
+        if (json != null) {
+            try {
+                cached = objectMapper.readValue(json, BUCKET_TYPE);
+                remoteHits.increment();
+                writeLocal(key, cached);
+                return cached;
+            } catch (JsonProcessingException ex) {
+                log.debug("Discarding unreadable planner bucket {}: {}", key, ex.getMessage());
+            }
+        }
+        misses.increment();
+        List<PlannerDtos.PlannerEventResponse> loaded = queryService.getRange(userId, month.atDay(1), month.atEndOfMonth());
+        writeLocal(key, loaded);
+        try {
+            writeRemote(key, objectMapper.writeValueAsString(loaded));
+        } catch (JsonProcessingException ex) {
+            log.debug("Failed to serialize planner bucket {}: {}", key, ex.getMessage());
+        }
+        return loaded;
+    }
+
+    private String generation(Long userId) {
+        String key = generationKey(userId);
+        LocalEntry entry = local.get(key);
+        if (entry != null && entry.isFresh()) {
+            return (String) entry.value();
+        }
+        String generation = readRemote(key);
+        if (generation == null) {
+            generation = "0";
+        }
+        local.put(key, new LocalEntry(generation, System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+        return generation;
+    }
+
+    private String version(Long userId, YearMonth month) {
+        String key = versionKey(userId, month);
+        LocalEntry entry = local.get(key);
+        if (entry != null && entry.isFresh()) {
+            return (String) entry.value();
+        }
+        String version = readRemote(key);
+        if (version == null) {
+            // 동시에 무효화가 버전을 새로 썼다면 그 값을 덮어쓰지 않도록 없을 때만 쓴다.
+            String created = newVersion();
+            version = putRemoteIfAbsent(key, created);
+        }
+        local.put(key, new LocalEntry(version, System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+        return version;
+    }
+
+    private void bumpVersion(Long userId, String generation, YearMonth month) {
+        String key = versionKey(userId, month);
+        String previous = readRemote(key);
+        if (previous != null) {
+            String bucket = bucketKey(userId, generation, month, previous);
+            local.remove(bucket);
+            evictRemote(bucket);
+        }
+        String next = newVersion();
+        local.put(key, new LocalEntry(next, System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+        writeRemote(key, next);
+    }
+
+    private void bumpGeneration(Long userId) {
+        // 이전 세대 버킷은 다시 읽히지 않으니 1차 캐시에서 바로 비운다. (사용자, 월) 버전은 세대와 무관해 그대로 둔다.
+        String prefix = bucketPrefix(userId);
+        synchronized (local) {
+            local.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+        String next = Long.toString(System.currentTimeMillis(), 36);
+        local.put(generationKey(userId), new LocalEntry(next, System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+        writeRemote(generationKey(userId), next);
+        evictions.increment();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PlannerDtos.PlannerEventResponse> readLocal(String key) {
+        LocalEntry entry = local.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isFresh()) {
+            local.remove(key);
+            return null;
+        }
+        return (List<PlannerDtos.PlannerEventResponse>) entry.value();
+    }
+
+    private void writeLocal(String key, List<PlannerDtos.PlannerEventResponse> events) {
+        local.put(key, new LocalEntry(List.copyOf(events), System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+    }
+
+    private String readRemote(String key) {
+        if (remote == null) return null;
+        try {
+            return remote.get(key, String.class);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to read planner bucket from cache: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, String value) {
+        if (remote == null) return;
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to write planner bucket to cache: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * @return 이미 있던 값, 없었으면 value
+     */
+    private String putRemoteIfAbsent(String key, String value) {
+        if (remote == null) return value;
+        try {
+            Cache.ValueWrapper existing = remote.putIfAbsent(key, value);
+            return existing == null || existing.get() == null ? value : existing.get().toString();
+        } catch (RuntimeException ex) {
+            log.debug("Failed to write planner bucket version to cache: {}", ex.getMessage());
+            return value;
+        }
+    }
+
+    private void evictRemote(String key) {
+        if (remote == null) return;
+        try {
+            remote.evict(key);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to evict planner bucket from cache: {}", ex.getMessage());
+        }
+    }
+
+    private static String bucketKey(Long userId, String generation, YearMonth month, String version) {
+        return bucketPrefix(userId) + generation + ":" + month + ":" + version;
+    }
+
+    private static String bucketPrefix(Long userId) {
+        return "b" + BUCKET_FORMAT + ":" + userId + ":";
+    }
+
+    private static String versionKey(Long userId, YearMonth month) {
+        return "ver:" + userId + ":" + month;
+    }
+
+    private static String newVersion() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    private static String generationKey(Long userId) {
+        return "gen:" + userId;
+    }
+
+    private record LocalEntry(Object value, long expiresAt) {
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+
+    public record Stats(long localHits, long remoteHits, long misses, long bypassed, long evictions,
+                        double hitRate, int localEntries) {
+    }
+}
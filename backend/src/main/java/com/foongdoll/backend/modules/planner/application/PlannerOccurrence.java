@@ -0,0 +1,23 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerEvent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 반복 일정의 발생 한 건. 단일 일정은 occurrenceDate 가 null 이고 날짜는 엔티티 값 그대로다.
+ */
+public record PlannerOccurrence(
+        PlannerEvent event,
+        LocalDate occurrenceDate,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+
+    public static PlannerOccurrence single(PlannerEvent event) {
+        return new PlannerOccurrence(event, null, event.getStartDate(), event.getEndDate(), event.getStartTime(), event.getEndTime());
+    }
+}
@@ -0,0 +1,72 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * 반복 일정을 조회 범위 안에서만 펼친다. 규칙 커서가 범위 시작 근처로 바로 건너뛰므로
+ * 시리즈가 오래됐어도 범위 밖 발생은 만들지 않는다.
+ */
+final class PlannerRecurrenceExpander {
+
+    private PlannerRecurrenceExpander() {
+    }
+
+    @FunctionalInterface
+    interface Sink {
+        void accept(LocalDate occurrenceDate, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime);
+    }
+
+    /**
+     * @param seriesStart 첫 발생 시작일
+     * @param spanDays    발생 하나가 걸치는 일수(당일 일정은 0)
+     * @param overrides   발생일(규칙상 원래 날짜) → 예외
+     */
+    static void expand(RecurrenceRule rule,
+                       LocalDate seriesStart,
+                       int spanDays,
+                       LocalTime startTime,
+                       LocalTime endTime,
+                       Map<LocalDate, PlannerOccurrenceOverride> overrides,
+                       LocalDate from,
+                       LocalDate to,
+                       Sink sink) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+
+        // 여러 날에 걸친 발생은 범위 시작 전에 시작해도 범위에 걸칠 수 있다.
+        RecurrenceRule.Cursor cursor = rule.cursor(seriesStart, from.minusDays(spanDays));
+        for (long day = cursor.next(); day != RecurrenceRule.Cursor.DONE && day <= toDay; day = cursor.next()) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            PlannerOccurrenceOverride override = overrides.isEmpty() ? null : overrides.get(date);
+            if (override == null) {
+                sink.accept(date, date, date.plusDays(spanDays), startTime, endTime);
+            } else if (!override.cancelled() && overlaps(override, fromDay, toDay)) {
+                emit(override, sink);
+            }
+        }
+
+        // 범위 밖 발생이 범위 안으로 옮겨진 경우.
+        for (PlannerOccurrenceOverride override : overrides.values()) {
+            if (override.cancelled() || override.startDate() == null) continue;
+            long original = override.occurrenceDate().toEpochDay();
+            boolean scanned = original >= fromDay - spanDays && original <= toDay;
+            if (!scanned && overlaps(override, fromDay, toDay)) {
+                emit(override, sink);
+            }
+        }
+    }
+
+    private static boolean overlaps(PlannerOccurrenceOverride override, long fromDay, long toDay) {
+        return override.startDate().toEpochDay() <= toDay && override.endDate().toEpochDay() >= fromDay;
+    }
+
+    private static void emit(PlannerOccurrenceOverride override, Sink sink) {
+        sink.accept(override.occurrenceDate(), override.startDate(), override.endDate(),
+                override.startTime(), override.endTime());
+    }
+}
@@ -0,0 +1,16 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PlannerReminderNotice(
+        Long reminderId,
+        Long eventId,
+        String title,
+        LocalDate occurrenceDate,
+        LocalDateTime startsAt,
+        int minutesBefore,
+        List<Long> recipientIds
+) {
+}
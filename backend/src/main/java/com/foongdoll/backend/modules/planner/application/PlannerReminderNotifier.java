@@ -0,0 +1,11 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import java.util.List;
+
+/**
+ * 알림 발송 채널(푸시, 이메일 등). 알림 엔진이 한 tick 에 만료된 알림을 묶어서 넘긴다.
+ */
+public interface PlannerReminderNotifier {
+
+    void send(List<PlannerReminderNotice> notices);
+}
@@ -0,0 +1,355 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventReminder;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.PlannerReminderJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerReminderJdbcRepository.Claim;
+import com.foongdoll.backend.modules.planner.domain.PlannerReminderJdbcRepository.Due;
+import com.foongdoll.backend.modules.planner.domain.PlannerReminderJdbcRepository.Target;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 알림 엔진. remind_at 이 가까운(window 이내) 알림만 메모리의 타이밍 휠에 올려 두고 1초 tick 으로 만료시킨다.
+ * 만료된 알림은 remind_at 조건부 UPDATE 로 선점한 뒤에만 보내므로 여러 인스턴스가 떠 있어도 한 번만 나간다.
+ * 반복 일정은 선점과 동시에 다음 발생의 알림 시각으로 옮긴다.
+ */
+@Slf4j
+@Component
+public class PlannerReminderScheduler {
+
+    /** 종일 일정은 당일 이 시각을 시작으로 보고 알림을 계산한다. */
+    public static final LocalTime ALL_DAY_REMINDER_TIME = LocalTime.of(9, 0);
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 2;
+    private static final Duration MAX_WINDOW = Duration.ofMinutes(60);
+    // 이보다 늦게 발견한 알림(서버 중단 등)은 보내지 않고 다음 발생으로만 넘긴다.
+    private static final Duration MAX_LATENESS = Duration.ofHours(1);
+    private static final int LOAD_LIMIT = 10_000;
+    private static final int CLAIM_BATCH = 500;
+
+    private final PlannerReminderJdbcRepository reminderRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+    private final PlannerReminderNotifier notifier;
+    private final Executor executor;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Duration window;
+
+    // 아래 필드는 wheel 로 동기화한다.
+    private final TimingWheel<Due> wheel;
+    private final Map<Long, LocalDateTime> scheduled = new HashMap<>();
+    private LocalDateTime loadedUntil;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    public PlannerReminderScheduler(PlannerReminderJdbcRepository reminderRepository,
+                                    PlannerEventExceptionRepository exceptionRepository,
+                                    PlannerReminderNotifier notifier,
+                                    @Qualifier("asyncExecutor") Executor executor,
+                                    @Value("${app.planner.reminders.window-minutes:10}") long windowMinutes) {
+        this.reminderRepository = reminderRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.notifier = notifier;
+        this.executor = executor;
+        Duration requested = Duration.ofMinutes(Math.max(1, windowMinutes));
+        this.window = requested.compareTo(MAX_WINDOW) > 0 ? MAX_WINDOW : requested;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    /**
+     * 다음으로 울릴 알림. notBefore 이후 첫 발생 기준이며 더 울릴 발생이 없으면 null.
+     * 반복 일정은 발생별 예외(overrides, 원래 발생일 기준)를 반영한다. 취소한 발생은 건너뛰고 옮긴 발생은 옮긴 시각으로 본다.
+     */
+    public static Next next(RecurrenceRule rule, LocalDate seriesStart, LocalTime startTime, int minutesBefore,
+                            Map<LocalDate, PlannerOccurrenceOverride> overrides, LocalDateTime notBefore) {
+        if (rule == null) {
+            LocalDateTime remindAt = startsAt(seriesStart, startTime).minusMinutes(minutesBefore);
+            return remindAt.isBefore(notBefore) ? null : new Next(seriesStart, remindAt);
+        }
+        Next best = null;
+        LocalDate from = notBefore.plusMinutes(minutesBefore).toLocalDate();
+        RecurrenceRule.Cursor cursor = rule.cursor(seriesStart, from);
+        for (long day = cursor.next(); day != RecurrenceRule.Cursor.DONE; day = cursor.next()) {
+            LocalDate occurrence = LocalDate.ofEpochDay(day);
+            if (overrides.containsKey(occurrence)) continue;
+            LocalDateTime remindAt = startsAt(occurrence, startTime).minusMinutes(minutesBefore);
+            if (!remindAt.isBefore(notBefore)) {
+                best = new Next(occurrence, remindAt);
+                break;
+            }
+        }
+        // 옮긴 발생은 원래 날짜와 상관없는 자리로 갈 수 있으니 따로 비교한다.
+        for (PlannerOccurrenceOverride override : overrides.values()) {
+            if (override.cancelled()) continue;
+            LocalDateTime remindAt = startsAt(override.startDate(), override.startTime()).minusMinutes(minutesBefore);
+            if (!remindAt.isBefore(notBefore) && (best == null || remindAt.isBefore(best.remindAt()))) {
+                best = new Next(override.occurrenceDate(), remindAt);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 일정별로 발생 예외를 원래 발생일 기준으로 묶는다.
+     */
+    public static Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> groupOverrides(List<PlannerOccurrenceOverride> overrides) {
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> grouped = new HashMap<>();
+        for (PlannerOccurrenceOverride override : overrides) {
+            grouped.computeIfAbsent(override.eventId(), key -> new HashMap<>()).put(override.occurrenceDate(), override);
+        }
+        return grouped;
+    }
+
+    public static LocalDateTime startsAt(LocalDate date, LocalTime startTime) {
+        return date.atTime(startTime == null ? ALL_DAY_REMINDER_TIME : startTime);
+    }
+
+    /**
+     * 저장한 알림 중 이미 읽어 둔 구간 안에 드는 것을 커밋 이후 휠에 올린다. 구간 밖은 다음 적재 때 읽힌다.
+     */
+    public void track(List<PlannerEventReminder> reminders) {
+        List<Due> rows = reminders.stream()
+                .filter(reminder -> reminder.getRemindAt() != null)
+                .map(reminder -> new Due(reminder.getId(), reminder.getEvent().getId(), reminder.getMinutesBefore(),
+                        reminder.getOccurrenceDate(), reminder.getRemindAt()))
+                .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(rows);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(rows);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.planner.reminders.load-interval-ms:60000}")
+    public void load() {
+        LocalDateTime horizon = LocalDateTime.now().plus(window);
+        List<Due> rows = reminderRepository.findDue(horizon, LOAD_LIMIT);
+        if (rows.size() == LOAD_LIMIT) {
+            // 잘린 뒤쪽은 다음 적재에서 읽는다.
+            horizon = rows.get(rows.size() - 1).remindAt().minusSeconds(1);
+        }
+        List<Due> overdue = new ArrayList<>();
+        synchronized (wheel) {
+            loadedUntil = horizon;
+            rows.forEach(due -> place(due, overdue));
+        }
+        dispatch(overdue);
+    }
+
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        List<Due> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(System.currentTimeMillis(), expired::add);
+        }
+        dispatch(expired);
+    }
+
+    public Stats stats() {
+        synchronized (wheel) {
+            return new Stats(wheel.size(), loadedUntil, fired.sum(), sent.sum(), missed.sum(), cancelled.sum(), stale.sum());
+        }
+    }
+
+    private void schedule(List<Due> rows) {
+        List<Due> overdue = new ArrayList<>();
+        synchronized (wheel) {
+            if (loadedUntil == null) {
+                return;
+            }
+            for (Due due : rows) {
+                if (!due.remindAt().isAfter(loadedUntil)) {
+                    place(due, overdue);
+                }
+            }
+        }
+        dispatch(overdue);
+    }
+
+    // wheel 잠금 안에서 호출한다. 같은 알림이 같은 시각으로 두 번 올라가지 않게 한다.
+    private void place(Due due, List<Due> overdue) {
+        if (due.remindAt().equals(scheduled.put(due.id(), due.remindAt()))) {
+            return;
+        }
+        long deadline = due.remindAt().atZone(zone).toInstant().toEpochMilli();
+        if (!wheel.add(deadline, due)) {
+            overdue.add(due);
+        }
+    }
+
+    private void dispatch(List<Due> expired) {
+        for (int from = 0; from < expired.size(); from += CLAIM_BATCH) {
+            List<Due> batch = List.copyOf(expired.subList(from, Math.min(expired.size(), from + CLAIM_BATCH)));
+            try {
+                executor.execute(() -> fire(batch));
+            } catch (TaskRejectedException ex) {
+                // 선점 전이므로 remind_at 이 그대로 남아 다음 적재 때 다시 올라온다.
+                release(batch);
+                log.warn("Reminder dispatch queue is full, {} reminders deferred", batch.size());
+            }
+        }
+    }
+
+    private void fire(List<Due> batch) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> eventIds = batch.stream().map(Due::eventId).collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Long, Target> targets = reminderRepository.findTargets(eventIds).stream()
+                    .collect(Collectors.toMap(Target::eventId, Function.identity()));
+            Set<Long> recurringIds = targets.values().stream()
+                    .filter(target -> target.recurrenceRule() != null)
+                    .map(Target::eventId)
+                    .collect(Collectors.toSet());
+            Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides = recurringIds.isEmpty()
+                    ? Map.of()
+                    : groupOverrides(exceptionRepository.findOverrides(recurringIds));
+
+            List<Claim> claims = new ArrayList<>(batch.size());
+            for (Due due : batch) {
+                claims.add(claimFor(due, targets.get(due.eventId()), overrides.getOrDefault(due.eventId(), Map.of()), now));
+            }
+            int[] results = reminderRepository.claim(claims);
+
+            List<Due> claimed = new ArrayList<>();
+            List<Due> overdue = new ArrayList<>();
+            synchronized (wheel) {
+                for (int i = 0; i < batch.size(); i++) {
+                    Due due = batch.get(i);
+                    scheduled.remove(due.id(), due.remindAt());
+                    if (results[i] == 0) {
+                        stale.increment();
+                        continue;
+                    }
+                    claimed.add(due);
+                    Claim claim = claims.get(i);
+                    if (claim.nextRemindAt() != null && loadedUntil != null && !claim.nextRemindAt().isAfter(loadedUntil)) {
+                        place(new Due(due.id(), due.eventId(), due.minutesBefore(), claim.nextOccurrence(), claim.nextRemindAt()), overdue);
+                    }
+                }
+            }
+            fired.add(claimed.size());
+            send(claimed, targets, overrides, now);
+            dispatch(overdue);
+        } catch (RuntimeException ex) {
+            release(batch);
+            log.warn("Failed to fire {} planner reminders: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    private Claim claimFor(Due due, Target target, Map<LocalDate, PlannerOccurrenceOverride> overrides, LocalDateTime now) {
+        if (target == null || target.recurrenceRule() == null) {
+            return new Claim(due.id(), due.remindAt(), due.occurrenceDate(), null);
+        }
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(target.recurrenceRule());
+        } catch (IllegalArgumentException ex) {
+            return new Claim(due.id(), due.remindAt(), due.occurrenceDate(), null);
+        }
+        LocalDateTime notBefore = due.remindAt().plusSeconds(1);
+        if (notBefore.isBefore(now)) {
+            notBefore = now;
+        }
+        Next next = next(rule, target.startDate(), target.startTime(), due.minutesBefore(), overrides, notBefore);
+        return next == null
+                ? new Claim(due.id(), due.remindAt(), due.occurrenceDate(), null)
+                : new Claim(due.id(), due.remindAt(), next.occurrenceDate(), next.remindAt());
+    }
+
+    private void send(List<Due> claimed, Map<Long, Target> targets,
+                      Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides, LocalDateTime now) {
+        List<Due> timely = new ArrayList<>(claimed.size());
+        for (Due due : claimed) {
+            if (targets.containsKey(due.eventId()) && Duration.between(due.remindAt(), now).compareTo(MAX_LATENESS) <= 0) {
+                timely.add(due);
+            } else {
+                missed.increment();
+            }
+        }
+        if (timely.isEmpty()) {
+            return;
+        }
+        Set<Long> eventIds = timely.stream().map(Due::eventId).collect(Collectors.toSet());
+        Map<Long, List<Long>> recipients = new HashMap<>();
+        for (long[] row : reminderRepository.findRecipients(eventIds)) {
+            recipients.computeIfAbsent(row[0], id -> new ArrayList<>()).add(row[1]);
+        }
+
+        List<PlannerReminderNotice> notices = new ArrayList<>(timely.size());
+        for (Due due : timely) {
+            Target target = targets.get(due.eventId());
+            LocalDate occurrence = due.occurrenceDate() == null ? target.startDate() : due.occurrenceDate();
+            LocalDateTime startsAt = startsAt(occurrence, target.startTime());
+            PlannerOccurrenceOverride override = overrides.getOrDefault(due.eventId(), Map.of()).get(occurrence);
+            if (override != null) {
+                if (override.cancelled()) {
+                    cancelled.increment();
+                    continue;
+                }
+                startsAt = startsAt(override.startDate(), override.startTime());
+            }
+            notices.add(new PlannerReminderNotice(due.id(), due.eventId(), target.title(), occurrence, startsAt,
+                    due.minutesBefore(), List.copyOf(recipients.getOrDefault(due.eventId(), List.of()))));
+        }
+        if (notices.isEmpty()) {
+            return;
+        }
+        try {
+            notifier.send(notices);
+            sent.add(notices.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to send {} planner reminders: {}", notices.size(), ex.getMessage());
+        }
+    }
+
+    private void release(List<Due> batch) {
+        synchronized (wheel) {
+            batch.forEach(due -> scheduled.remove(due.id(), due.remindAt()));
+        }
+    }
+
+    public record Next(LocalDate occurrenceDate, LocalDateTime remindAt) {
+    }
+
+    public record Stats(int pending, LocalDateTime loadedUntil, long fired, long sent, long missed,
+                        long cancelled, long stale) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * series_end 컬럼 추가 이전에 만들어진 일정은 값이 비어 범위 조회에서 빠진다. 단일 일정이므로 end_date 로 채운다.
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class PlannerSeriesEndBackfill implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = jdbcTemplate.update("UPDATE planner_events SET series_end = end_date WHERE series_end IS NULL");
+        if (updated > 0) {
+            log.info("Backfilled series_end for {} planner events", updated);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * planner_event_stats 와 사용자 rollup 의 백그라운드 갱신. 대기열의 일정을 주기적으로 다시 계산하고,
+ * 재구축은 모든 일정(과 원본이 사라진 일정)을 대기열에 넣는 것으로 대신한다. 일정별 행과 사용자 차이는
+ * 한 트랜잭션에서 함께 바뀌므로 재구축 중에도 조회가 빈 값을 보거나 변경이 두 번 더해지지 않는다.
+ * 처음 배포할 때(테이블이 비어 있을 때) 한 번 돌며, 여러 인스턴스가 동시에 떠도 DB 이름 잠금으로 한 곳만 넣는다.
+ * 반복 일정은 오늘 기준 창 안의 발생만 세므로, 매일 밤 창 가장자리에 걸치는 반복 일정을 다시 넣어 창을 민다.
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class PlannerStatsRebuilder implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "planner_stats_rebuild";
+    private static final String ROLL_LOCK_NAME = "planner_stats_roll";
+    private static final int BATCH_SIZE = 500;
+    private static final int REFRESH_BATCH = 50;
+
+    private final PlannerStatsJdbcRepository statsRepository;
+    private final PlannerStatsService statsService;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (statsRepository.isEmpty() && !statsRepository.hasPending()) {
+            rebuild();
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get() || statsRepository.hasPending();
+    }
+
+    @Async("asyncExecutor")
+    public void rebuildAsync() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Planner stats rebuild is already running");
+            return;
+        }
+        try {
+            boolean ran = statsRepository.runExclusively(LOCK_NAME, this::enqueueAll);
+            if (!ran) {
+                log.info("Planner stats rebuild is already running on another instance");
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.planner.stats-refresh-delay-ms:5000}")
+    public void drain() {
+        int refreshed = 0;
+        int count;
+        do {
+            count = statsService.refresh(REFRESH_BATCH);
+            refreshed += count;
+        } while (count == REFRESH_BATCH);
+        if (refreshed > 0) {
+            log.debug("Refreshed planner stats for {} events", refreshed);
+        }
+    }
+
+    /**
+     * 어제와 오늘의 통계 창 차이(창 앞뒤 가장자리 하루)에 발생이 있을 수 있는 반복 일정을 다시 계산하게 한다.
+     * 하루 이상 거르더라도 걸치는 일정 전체를 다시 계산하므로 다음 실행에서 맞춰진다.
+     */
+    @Scheduled(cron = "${app.planner.stats-roll-cron:0 30 4 * * *}")
+    public void roll() {
+        if (!statsRepository.runExclusively(ROLL_LOCK_NAME, this::enqueueRecurring)) {
+            log.info("Planner stats roll is already running on another instance");
+        }
+    }
+
+    private void enqueueRecurring() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(PlannerStatsService.HORIZON_DAYS + 1L);
+        LocalDate to = today.plusDays(PlannerStatsService.HORIZON_DAYS);
+        long lastId = 0L;
+        int events = 0;
+        while (true) {
+            List<Long> ids = statsRepository.findRecurringEventIds(lastId, from, to, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            statsRepository.markDirty(ids);
+            events += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("Queued {} recurring events to roll the planner stats window", events);
+    }
+
+    private void enqueueAll() {
+        List<Long> orphans = statsRepository.findOrphanEventIds();
+        statsRepository.markDirty(orphans);
+        long lastId = 0L;
+        int events = 0;
+        while (true) {
+            List<Long> ids = statsRepository.findEventIds(lastId, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            statsRepository.markDirty(ids);
+            events += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("Queued {} events and {} orphans for planner stats rebuild", events, orphans.size());
+    }
+}
@@ -0,0 +1,258 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventExceptionRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventValue;
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.PlannerStat;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.Bucket;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.Contribution;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.EventScan;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.Key;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.UserDelta;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 플래너 통계 rollup 유지와 조회. 일정 하나의 기여분은 발생마다 (일/주, 태그) 버킷에
+ * 일정 수, 완료 수, 예정 시간(분)을 더한 것이고, 참여자와 무관하게 일정마다 한 벌만 저장한다.
+ * 일정을 바꾸는 요청은 {@link #markDirty} 로 대기열에 한 줄만 남기고, 실제 계산은 {@link #refresh} 가 백그라운드에서 한다.
+ * refresh 는 일정 행과 함께 볼 수 있는 사용자마다의 rollup(planner_user_stats)에 차이만 더하므로,
+ * 조회는 사용자 행의 인덱스 범위 하나만 읽는다. 어느 사용자에게 더해 두었는지는 planner_stats_audience 에 남긴다.
+ * 반복 일정은 오늘 기준 앞뒤 {@link #HORIZON_DAYS} 일 안의 발생만 센다. 창이 날마다 밀리므로 {@link PlannerStatsRebuilder} 가
+ * 매일 밤 창 가장자리에 걸치는 반복 일정을 다시 대기열에 넣는다. 창보다 오래된 반복 발생은 통계에서 빠진다.
+ * 종일 일정은 예정 시간을 0 분으로 본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlannerStatsService {
+
+    public static final int HORIZON_DAYS = 366;
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_WEEKS = 104;
+    private static final long DEFAULT_DURATION_MINUTES = 60;
+    private static final Comparator<UserKey> USER_KEY_ORDER = Comparator.comparing(UserKey::userId)
+            .thenComparing(UserKey::period)
+            .thenComparing(UserKey::periodStart)
+            .thenComparing(UserKey::tag);
+
+    private final PlannerStatsJdbcRepository statsRepository;
+    private final PlannerEventRepository eventRepository;
+    private final PlannerEventExceptionRepository exceptionRepository;
+
+    /**
+     * 일정의 통계를 다시 계산하도록 표시한다. 일정을 바꾸는 트랜잭션 안에서 부른다.
+     */
+    @Transactional
+    public void markDirty(Long eventId) {
+        statsRepository.markDirty(eventId);
+    }
+
+    /**
+     * 대기 중인 일정을 limit 개까지 꺼내 행을 다시 쓰고, 이전 행과의 차이를 사용자 rollup 에 더한다.
+     * 꺼낸 대기 행은 커밋까지 잠겨 있으므로 그 사이 같은 일정을 바꾼 트랜잭션은 커밋 뒤에 다시 대기열에 남는다.
+     *
+     * @return 처리한 일정 수
+     */
+    @Transactional
+    public int refresh(int limit) {
+        List<Long> ids = statsRepository.claimPending(limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Contribution> next = toContributions(contributions(ids));
+        Map<Long, Set<Long>> audience = statsRepository.findAudience(ids);
+        statsRepository.applyUserDeltas(userDeltas(statsRepository.findContributions(ids),
+                statsRepository.findAppliedAudience(ids), next, audience));
+        statsRepository.replace(ids, next);
+        statsRepository.replaceAudience(ids, audience);
+        statsRepository.deletePending(ids);
+        return ids.size();
+    }
+
+    public PlannerDtos.StatsReport report(Long userId, PlannerStat.Period period, LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "날짜 범위가 올바르지 않습니다.");
+        }
+        LocalDate from = periodStart(period, start);
+        LocalDate to = periodStart(period, end);
+        long periods = period == PlannerStat.Period.DAY
+                ? ChronoUnit.DAYS.between(from, to) + 1
+                : ChronoUnit.WEEKS.between(from, to) + 1;
+        if (periods > (period == PlannerStat.Period.DAY ? MAX_DAYS : MAX_WEEKS)) {
+            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "조회 기간이 너무 깁니다.");
+        }
+
+        Map<LocalDate, Bucket> totals = new LinkedHashMap<>();
+        Map<LocalDate, List<PlannerDtos.StatsTag>> tags = new HashMap<>();
+        for (Bucket bucket : statsRepository.findRange(userId, period, from, to)) {
+            if (PlannerStat.TOTAL.equals(bucket.tag())) {
+                totals.put(bucket.periodStart(), bucket);
+            } else {
+                tags.computeIfAbsent(bucket.periodStart(), key -> new ArrayList<>()).add(new PlannerDtos.StatsTag(
+                        bucket.tag(), bucket.eventCount(), bucket.completedCount(), bucket.scheduledMinutes()));
+            }
+        }
+        List<PlannerDtos.StatsBucket> buckets = totals.values().stream()
+                .map(total -> new PlannerDtos.StatsBucket(
+                        total.periodStart(),
+                        total.eventCount(),
+                        total.completedCount(),
+                        (double) total.completedCount() / total.eventCount(),
+                        total.scheduledMinutes(),
+                        tags.getOrDefault(total.periodStart(), List.of())))
+                .toList();
+        return new PlannerDtos.StatsReport(period.name(), from, to, buckets);
+    }
+
+    private Map<Key, long[]> contributions(List<Long> ids) {
+        List<EventScan> events = statsRepository.findEvents(ids);
+        Map<Long, Set<String>> tags = new HashMap<>();
+        for (PlannerEventValue value : eventRepository.findTagValues(ids)) {
+            tags.computeIfAbsent(value.eventId(), key -> new LinkedHashSet<>()).add(value.value());
+        }
+        List<Long> seriesIds = events.stream()
+                .filter(event -> event.recurrenceRule() != null)
+                .map(EventScan::id)
+                .toList();
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> overrides = new HashMap<>();
+        if (!seriesIds.isEmpty()) {
+            for (PlannerOccurrenceOverride override : exceptionRepository.findOverrides(seriesIds)) {
+                overrides.computeIfAbsent(override.eventId(), key -> new HashMap<>())
+                        .put(override.occurrenceDate(), override);
+            }
+        }
+        Map<Key, long[]> totals = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        for (EventScan event : events) {
+            accumulate(totals, event, tags.getOrDefault(event.id(), Set.of()),
+                    overrides.getOrDefault(event.id(), Map.of()), today);
+        }
+        return totals;
+    }
+
+    /**
+     * 일정 하나의 기여분을 totals 에 더한다. 반복 일정은 today 앞뒤 {@link #HORIZON_DAYS} 일 안의 발생만 더한다.
+     */
+    static void accumulate(Map<Key, long[]> totals, EventScan event, Set<String> tags,
+                           Map<LocalDate, PlannerOccurrenceOverride> overrides, LocalDate today) {
+        long completed = event.completed() && event.recurrenceRule() == null ? 1 : 0;
+        if (event.recurrenceRule() == null) {
+            add(totals, event.id(), tags, event.startDate(), completed,
+                    minutes(event.startDate(), event.endDate(), event.startTime(), event.endTime()));
+            return;
+        }
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(event.recurrenceRule());
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+        int span = (int) (event.endDate().toEpochDay() - event.startDate().toEpochDay());
+        PlannerRecurrenceExpander.expand(rule, event.startDate(), span, event.startTime(), event.endTime(),
+                overrides, today.minusDays(HORIZON_DAYS), today.plusDays(HORIZON_DAYS),
+                (date, startDate, endDate, startTime, endTime) ->
+                        add(totals, event.id(), tags, startDate, completed, minutes(startDate, endDate, startTime, endTime)));
+    }
+
+    static List<Contribution> toContributions(Map<Key, long[]> totals) {
+        List<Contribution> contributions = new ArrayList<>(totals.size());
+        totals.forEach((key, value) -> contributions.add(new Contribution(key, value[0], value[1], value[2])));
+        return contributions;
+    }
+
+    /**
+     * 일정별 이전 행(applied 사용자에게 더해져 있음)과 새 행(audience 에게 더할 것)의 차이를 사용자 행 단위로 모은다.
+     * 양쪽에 다 있는 사용자는 바뀐 만큼만, 빠진 사용자는 이전 값을 빼고, 새로 본 사용자는 새 값을 더한다.
+     * 결과는 (사용자, 기간, 시작일, 태그) 순이다.
+     */
+    static List<UserDelta> userDeltas(List<Contribution> previous, Map<Long, Set<Long>> applied,
+                                      List<Contribution> next, Map<Long, Set<Long>> audience) {
+        Map<UserKey, long[]> deltas = new HashMap<>();
+        for (Contribution contribution : previous) {
+            for (Long userId : applied.getOrDefault(contribution.key().eventId(), Set.of())) {
+                shift(deltas, userId, contribution, -1);
+            }
+        }
+        for (Contribution contribution : next) {
+            for (Long userId : audience.getOrDefault(contribution.key().eventId(), Set.of())) {
+                shift(deltas, userId, contribution, 1);
+            }
+        }
+        return deltas.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0 || entry.getValue()[2] != 0)
+                .sorted(Map.Entry.comparingByKey(USER_KEY_ORDER))
+                .map(entry -> new UserDelta(entry.getKey().userId(), entry.getKey().period(),
+                        entry.getKey().periodStart(), entry.getKey().tag(),
+                        entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+                .toList();
+    }
+
+    private static void shift(Map<UserKey, long[]> deltas, Long userId, Contribution contribution, int sign) {
+        Key key = contribution.key();
+        long[] value = deltas.computeIfAbsent(new UserKey(userId, key.period(), key.periodStart(), key.tag()),
+                k -> new long[3]);
+        value[0] += sign * contribution.events();
+        value[1] += sign * contribution.completed();
+        value[2] += sign * contribution.minutes();
+    }
+
+    private static void add(Map<Key, long[]> totals, Long eventId, Set<String> tags, LocalDate date,
+                            long completed, long minutes) {
+        for (PlannerStat.Period period : PlannerStat.Period.values()) {
+            LocalDate periodStart = periodStart(period, date);
+            increment(totals, new Key(eventId, period, periodStart, PlannerStat.TOTAL), completed, minutes);
+            for (String tag : tags) {
+                increment(totals, new Key(eventId, period, periodStart, tag), completed, minutes);
+            }
+        }
+    }
+
+    private static void increment(Map<Key, long[]> totals, Key key, long completed, long minutes) {
+        long[] value = totals.computeIfAbsent(key, k -> new long[3]);
+        value[0]++;
+        value[1] += completed;
+        value[2] += minutes;
+    }
+
+    private static long minutes(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        if (startTime == null) {
+            return 0;
+        }
+        LocalDateTime start = startDate.atTime(startTime);
+        LocalDateTime end = endTime == null ? null : endDate.atTime(endTime);
+        if (end == null || !end.isAfter(start)) {
+            return DEFAULT_DURATION_MINUTES;
+        }
+        return ChronoUnit.MINUTES.between(start, end);
+    }
+
+    private static LocalDate periodStart(PlannerStat.Period period, LocalDate date) {
+        return period == PlannerStat.Period.DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record UserKey(Long userId, PlannerStat.Period period, LocalDate periodStart, String tag) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠. 가장 아래 단은 tick 단위 슬롯이고, 위 단으로 갈수록 슬롯 하나가 아래 단 한 바퀴를 덮는다.
+ * 추가는 O(1), 만료 처리는 tick 당 슬롯 하나를 비우는 비용이며 상위 단 슬롯은 아래 단이 한 바퀴 돌 때 내려보낸다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Entry<T>>[][] levels;
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private final long span;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = new List[levelCount][wheelSize];
+        long ticks = 1;
+        for (int i = 0; i < levelCount; i++) {
+            ticks *= wheelSize;
+        }
+        this.span = ticks;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * @return 이미 지난 시각이면 false(호출 측이 바로 처리한다)
+     */
+    boolean add(long deadlineMillis, T item) {
+        long tick = deadlineMillis / tickMillis;
+        if (tick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(tick, item));
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * now 까지 휠을 돌리며 만료된 항목을 expired 로 넘긴다.
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            cascade(expired);
+            List<Entry<T>> slot = levels[0][(int) (currentTick % wheelSize)];
+            if (slot == null || slot.isEmpty()) continue;
+            levels[0][(int) (currentTick % wheelSize)] = null;
+            for (Entry<T> entry : slot) {
+                size--;
+                expired.accept(entry.item());
+            }
+        }
+    }
+
+    // 아래 단이 한 바퀴를 마칠 때마다 위 단의 다음 슬롯을 풀어 다시 배치한다.
+    // 이미 만기가 된 항목은 지난 슬롯에 넣으면 한 바퀴 뒤에야 풀리므로 바로 만료시킨다.
+    private void cascade(Consumer<T> expired) {
+        long unit = 1;
+        for (int level = 1; level < levels.length; level++) {
+            unit *= wheelSize;
+            if (currentTick % unit != 0) {
+                return;
+            }
+            int index = (int) ((currentTick / unit) % wheelSize);
+            List<Entry<T>> slot = levels[level][index];
+            if (slot != null) {
+                levels[level][index] = null;
+                slot.forEach(entry -> replace(entry, expired));
+            }
+        }
+        if (currentTick % span == 0 && !overflow.isEmpty()) {
+            List<Entry<T>> pending = new ArrayList<>(overflow);
+            overflow.clear();
+            pending.forEach(entry -> replace(entry, expired));
+        }
+    }
+
+    private void replace(Entry<T> entry, Consumer<T> expired) {
+        if (!place(entry)) {
+            size--;
+            expired.accept(entry.item());
+        }
+    }
+
+    /**
+     * @return 만기가 현재 tick 이하라 배치하지 않았으면 false
+     */
+    private boolean place(Entry<T> entry) {
+        long delta = entry.tick() - currentTick;
+        if (delta <= 0) {
+            return false;
+        }
+        long unit = 1;
+        for (int level = 0; level < levels.length; level++) {
+            // 슬롯은 절대 tick 으로 정하므로 상위 단 슬롯은 정확히 그 구간이 시작될 때 풀린다.
+            if (delta < unit * wheelSize) {
+                put(level, entry, unit);
+                return true;
+            }
+            unit *= wheelSize;
+        }
+        overflow.add(entry);
+        return true;
+    }
+
+    private void put(int level, Entry<T> entry, long unit) {
+        int index = (int) ((entry.tick() / unit) % wheelSize);
+        List<Entry<T>> slot = levels[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>(4);
+            levels[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+
+    private record Entry<T>(long tick, T item) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 바쁨/한가함 계산용 최소 projection. 일정 내용은 담지 않는다.
+ */
+public record PlannerBusyRow(
+        Long eventId,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String recurrenceRule
+) {
+}
@@ -0,0 +1,46 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일정 변경 기록. user_seq 가 사용자별 변경 순번이며 ICS 피드의 ETag 와 sync token 으로 쓴다.
+ * change_id 는 커밋 순서와 어긋날 수 있어 순번으로 쓰지 않는다(PlannerChangeSequence 참고).
+ * 쓰기는 PlannerChangeJdbcRepository 가 담당하고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_change_log",
+        indexes = {
+                @Index(name = "idx_planner_change_user_seq", columnList = "user_id, user_seq"),
+                @Index(name = "idx_planner_change_time", columnList = "changed_at")
+        }
+)
+@Entity
+public class PlannerChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "user_seq")
+    private Long userSeq;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,144 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class PlannerChangeJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 대상 사용자마다 순번을 하나 올려 기록한다. 순번 행의 잠금은 호출한 트랜잭션이 끝날 때까지 유지되므로
+     * 같은 사용자의 다음 변경은 이 트랜잭션이 커밋한 뒤에야 다음 순번을 받는다. 교착을 피하려고 user_id 순으로 잠근다.
+     */
+    public void append(Long eventId, Collection<Long> changedUserIds, Collection<Long> removedUserIds) {
+        Map<Long, Boolean> targets = new TreeMap<>();
+        changedUserIds.forEach(userId -> targets.put(userId, false));
+        removedUserIds.forEach(userId -> targets.put(userId, true));
+        if (targets.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> sequences = nextSequences(targets.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        List<MapSqlParameterSource> rows = new ArrayList<>(targets.size());
+        targets.forEach((userId, deleted) -> rows.add(row(userId, sequences.get(userId), eventId, deleted, now)));
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_change_log (user_id, user_seq, event_id, deleted, changed_at)
+                VALUES (:userId, :userSeq, :eventId, :deleted, :changedAt)
+                """, rows.toArray(MapSqlParameterSource[]::new));
+    }
+
+    private Map<Long, Long> nextSequences(Collection<Long> userIds) {
+        // 카운터가 없는 사용자는 user_seq 도입 이전 기록(user_seq = change_id)보다 크게 시작해야 예전 토큰이 이어진다.
+        Map<Long, Long> seeds = new HashMap<>();
+        userIds.forEach(userId -> seeds.put(userId, 1L));
+        jdbcTemplate.query("SELECT user_id FROM planner_change_seq WHERE user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds), rs -> {
+                    seeds.remove(rs.getLong("user_id"));
+                });
+        if (!seeds.isEmpty()) {
+            jdbcTemplate.query("""
+                    SELECT user_id, MAX(change_id) AS latest
+                    FROM planner_change_log
+                    WHERE user_id IN (:userIds)
+                    GROUP BY user_id
+                    """, new MapSqlParameterSource("userIds", seeds.keySet()), rs -> {
+                seeds.put(rs.getLong("user_id"), rs.getLong("latest") + 1);
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_change_seq (user_id, last_seq) VALUES (:userId, :seed)
+                ON DUPLICATE KEY UPDATE last_seq = last_seq + 1
+                """, userIds.stream()
+                .map(userId -> new MapSqlParameterSource("userId", userId)
+                        .addValue("seed", seeds.getOrDefault(userId, 1L)))
+                .toArray(MapSqlParameterSource[]::new));
+        Map<Long, Long> sequences = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, last_seq FROM planner_change_seq WHERE user_id IN (:userIds) FOR UPDATE",
+                new MapSqlParameterSource("userIds", userIds), rs -> {
+                    sequences.put(rs.getLong("user_id"), rs.getLong("last_seq"));
+                });
+        return sequences;
+    }
+
+    /**
+     * 사용자의 커밋된 마지막 변경 순번. 진행 중인 트랜잭션이 올린 순번은 커밋 전까지 보이지 않으며,
+     * 그 트랜잭션이 커밋하기 전에는 더 큰 순번도 커밋될 수 없다.
+     * 카운터가 없으면 user_seq 도입 이전 기록의 change_id 를 본다.
+     */
+    public long latestSequence(Long userId) {
+        Long latest = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(
+                    (SELECT last_seq FROM planner_change_seq WHERE user_id = :userId),
+                    (SELECT MAX(change_id) FROM planner_change_log WHERE user_id = :userId),
+                    0)
+                """, new MapSqlParameterSource("userId", userId), Long.class);
+        return latest == null ? 0L : latest;
+    }
+
+    /**
+     * 사용자 기록 중 보관 중인 가장 오래된 순번. 비어 있으면 null.
+     */
+    public Long oldestSequence(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(user_seq) FROM planner_change_log WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId), Long.class);
+    }
+
+    /**
+     * (afterSequence, untilSequence] 구간의 변경. 상한을 두어 응답의 sync token 과 내용이 어긋나지 않게 한다.
+     */
+    public List<Change> findSince(Long userId, long afterSequence, long untilSequence, int limit) {
+        return jdbcTemplate.query("""
+                SELECT user_seq, event_id, deleted
+                FROM planner_change_log
+                WHERE user_id = :userId AND user_seq > :after AND user_seq <= :until
+                ORDER BY user_seq
+                LIMIT :limit
+                """, new MapSqlParameterSource("userId", userId)
+                .addValue("after", afterSequence)
+                .addValue("until", untilSequence)
+                .addValue("limit", limit), (rs, rowNum) -> new Change(
+                rs.getLong("user_seq"),
+                rs.getLong("event_id"),
+                rs.getBoolean("deleted")
+        ));
+    }
+
+    /**
+     * user_seq 도입 이전 기록은 change_id 를 순번으로 썼으므로 그대로 옮긴다.
+     */
+    public int backfillUserSequence() {
+        return jdbcTemplate.update("UPDATE planner_change_log SET user_seq = change_id WHERE user_seq IS NULL",
+                new MapSqlParameterSource());
+    }
+
+    public int deleteOlderThan(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update("DELETE FROM planner_change_log WHERE changed_at < :threshold LIMIT :limit",
+                new MapSqlParameterSource("threshold", threshold).addValue("limit", limit));
+    }
+
+    private static MapSqlParameterSource row(Long userId, Long userSeq, Long eventId, boolean deleted,
+                                             LocalDateTime changedAt) {
+        return new MapSqlParameterSource("userId", userId)
+                .addValue("userSeq", userSeq)
+                .addValue("eventId", eventId)
+                .addValue("deleted", deleted)
+                .addValue("changedAt", changedAt);
+    }
+
+    public record Change(long sequence, Long eventId, boolean deleted) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 변경 순번 카운터. 변경 기록을 남기는 트랜잭션이 이 행을 올리고 커밋까지 잠그므로,
+ * 같은 사용자의 순번은 커밋 순서대로만 보인다. 커밋되지 않은 순번을 건너뛴 sync token 이 나가지 않는다.
+ * 쓰기는 PlannerChangeJdbcRepository 가 담당하고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "planner_change_seq")
+@Entity
+public class PlannerChangeSequence {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
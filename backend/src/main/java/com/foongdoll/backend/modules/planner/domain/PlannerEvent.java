@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 
@@ -19,12 +20,18 @@ import java.util.*;
         indexes = {
                 @Index(name = "idx_planner_event_owner", columnList = "owner_id"),
                 @Index(name = "idx_planner_event_start", columnList = "start_date"),
-                @Index(name = "idx_planner_event_end", columnList = "end_date")
+                @Index(name = "idx_planner_event_end", columnList = "end_date"),
+                @Index(name = "idx_planner_event_owner_series", columnList = "owner_id, series_end, start_date")
         }
 )
 @Entity
 public class PlannerEvent extends Auditable {
 
+    /**
+     * 끝이 없는 반복 일정의 series_end. MySQL DATE 의 최대값이다.
+     */
+    public static final LocalDate OPEN_END = LocalDate.of(9999, 12, 31);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "planner_event_id")
@@ -61,6 +68,27 @@ public class PlannerEvent extends Auditable {
     @Column(columnDefinition = "TEXT")
     private String remarks;
 
+    /**
+     * RRULE(FREQ=WEEKLY;BYDAY=MO,WE 등). null 이면 단일 일정이고 start/end 는 첫 발생을 뜻한다.
+     */
+    @Column(name = "recurrence_rule", length = 200)
+    private String recurrenceRule;
+
+    /**
+     * 마지막 발생의 종료일(단일 일정은 end_date). 범위 조회는 start_date <= :end and series_end >= :start 로 시리즈를 가지치기한다.
+     */
+    @Column(name = "series_end")
+    private LocalDate seriesEnd;
+
+    @Transient
+    private RecurrenceRule parsedRecurrence;
+
+    /**
+     * 완료 처리한 시각. 반복 일정은 발생별 완료를 따로 두지 않으므로 단일 일정에만 쓴다.
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @Column(columnDefinition = "TEXT")
     private String supplies;
 
@@ -78,9 +106,6 @@ public class PlannerEvent extends Auditable {
     @Column(name = "tag_value", length = 40, nullable = false)
     private Set<String> tags = new LinkedHashSet<>();
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<PlannerEventParticipant> participants = new ArrayList<>();
-
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "planner_event_guests", joinColumns = @JoinColumn(name = "event_id"))
     @OrderColumn(name = "guest_order")
@@ -102,7 +127,8 @@ public class PlannerEvent extends Auditable {
             boolean shared,
             String shareCode,
             Collection<String> tags,
-            Collection<String> guestNames
+            Collection<String> guestNames,
+            RecurrenceRule recurrence
     ) {
         this.owner = Objects.requireNonNull(owner, "owner must not be null");
         this.title = Objects.requireNonNull(title, "title must not be null");
@@ -122,6 +148,7 @@ public class PlannerEvent extends Auditable {
         this.shareCode = shareCode;
         setTags(tags);
         setGuestNames(guestNames);
+        applyRecurrence(recurrence);
     }
 
     public void update(
@@ -135,7 +162,8 @@ public class PlannerEvent extends Auditable {
             String supplies,
             String locationName,
             Collection<String> tags,
-            Collection<String> guestNames
+            Collection<String> guestNames,
+            RecurrenceRule recurrence
     ) {
         if (title != null && !title.isBlank()) {
             this.title = title;
@@ -154,69 +182,113 @@ public class PlannerEvent extends Auditable {
         this.locationName = locationName;
         setTags(tags);
         setGuestNames(guestNames);
+        applyRecurrence(recurrence);
     }
 
-    public void setTags(Collection<String> input) {
-        this.tags.clear();
-        if (input != null) {
-            for (String tag : input) {
-                if (tag != null && !tag.isBlank()) {
-                    this.tags.add(tag.trim());
-                }
-            }
-        }
+    public boolean isCompleted() {
+        return completedAt != null;
     }
 
-    public void setGuestNames(Collection<String> names) {
-        this.guestNames.clear();
-        if (names == null) {
+    public void complete(boolean completed) {
+        if (completed == isCompleted()) {
             return;
         }
-        for (String name : names) {
-            if (name != null && !name.trim().isEmpty()) {
-                this.guestNames.add(name.trim());
-            }
+        this.completedAt = completed ? LocalDateTime.now() : null;
+    }
+
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
+    public RecurrenceRule getRecurrence() {
+        if (recurrenceRule == null) {
+            return null;
+        }
+        if (parsedRecurrence == null) {
+            parsedRecurrence = RecurrenceRule.parse(recurrenceRule);
         }
+        return parsedRecurrence;
     }
 
-    public List<String> getGuestNames() {
-        return List.copyOf(guestNames);
+    /**
+     * 발생 하나가 걸치는 일수(당일 일정은 0).
+     */
+    public int getSpanDays() {
+        return (int) (endDate.toEpochDay() - startDate.toEpochDay());
     }
 
-    public void setParticipants(Collection<User> users) {
-        Map<Long, PlannerEventParticipant> current = new HashMap<>();
-        for (PlannerEventParticipant participant : participants) {
-            current.put(participant.getUser().getId(), participant);
+    /**
+     * 예외로 옮긴 발생이 원래 시리즈 끝보다 늦게 끝나면 series_end 를 늘려 범위 조회에서 빠지지 않게 한다.
+     */
+    public void extendSeriesEnd(LocalDate end) {
+        if (end != null && end.isAfter(seriesEnd)) {
+            this.seriesEnd = end;
         }
+    }
 
-        participants.removeIf(participant -> users == null || users.stream()
-                .noneMatch(user -> Objects.equals(user.getId(), participant.getUser().getId())));
+    private void applyRecurrence(RecurrenceRule recurrence) {
+        this.recurrenceRule = recurrence == null ? null : recurrence.format();
+        this.parsedRecurrence = recurrence;
+        if (recurrence == null) {
+            this.seriesEnd = endDate;
+            return;
+        }
+        LocalDate last = recurrence.lastOccurrence(startDate);
+        this.seriesEnd = last == null ? OPEN_END : last.plusDays(getSpanDays());
+        if (seriesEnd.isAfter(OPEN_END)) {
+            this.seriesEnd = OPEN_END;
+        }
+    }
 
-        if (users == null) {
+    /**
+     * 바뀐 값만 컬렉션에 반영한다. 동일하면 컬렉션을 건드리지 않아 flush 시 SQL 이 나가지 않는다.
+     */
+    public void setTags(Collection<String> input) {
+        Set<String> next = new LinkedHashSet<>();
+        if (input != null) {
+            for (String tag : input) {
+                if (tag != null && !tag.isBlank()) {
+                    next.add(tag.trim());
+                }
+            }
+        }
+        if (tags.equals(next)) {
             return;
         }
+        tags.retainAll(next);
+        tags.addAll(next);
+    }
 
-        for (User user : users) {
-            if (user == null) continue;
-            if (Objects.equals(user.getId(), owner.getId())) {
-                continue;
+    public void setGuestNames(Collection<String> names) {
+        List<String> next = new ArrayList<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.trim().isEmpty()) {
+                    next.add(name.trim());
+                }
             }
-            if (current.containsKey(user.getId())) {
-                continue;
+        }
+        if (guestNames.equals(next)) {
+            return;
+        }
+        for (int i = 0; i < next.size(); i++) {
+            if (i >= guestNames.size()) {
+                guestNames.add(next.get(i));
+            } else if (!guestNames.get(i).equals(next.get(i))) {
+                guestNames.set(i, next.get(i));
             }
-            PlannerEventParticipant participant = PlannerEventParticipant.of(this, user);
-            participants.add(participant);
+        }
+        while (guestNames.size() > next.size()) {
+            guestNames.remove(guestNames.size() - 1);
         }
     }
 
+    public List<String> getGuestNames() {
+        return List.copyOf(guestNames);
+    }
+
     public void markShared(boolean shared, String shareCode) {
         this.shared = shared;
         this.shareCode = shareCode;
     }
-
-    public boolean isParticipant(Long userId) {
-        if (userId == null) return false;
-        if (Objects.equals(owner.getId(), userId)) return true;
-        return participants.stream().anyMatch(it -> Objects.equals(it.getUser().getId(), userId));
-    }
 }
@@ -0,0 +1,58 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 사용자별로 볼 수 있는 일정(작성자 + 참여자)을 평탄하게 펼친 접근 테이블.
+ * 범위 조회가 participants 조인/OR/DISTINCT 없이 (user_id, series_end, start_date) 인덱스 범위 하나로 끝난다.
+ * 쓰기는 PlannerEventAccessJdbcRepository 가 담당하고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_event_access",
+        indexes = @Index(name = "idx_planner_access_range", columnList = "user_id, series_end, start_date, event_id")
+)
+@Entity
+public class PlannerEventAccess {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "series_end", nullable = false)
+    private LocalDate seriesEnd;
+
+    @Getter
+    @Embeddable
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "event_id")
+        private Long eventId;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(userId, that.userId) && Objects.equals(eventId, that.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, eventId);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * planner_event_access 유지와 범위 조회.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlannerEventAccessJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 일정의 접근 행을 userIds 와 같게 맞춘다. 빠진 사용자는 지우고 나머지는 날짜만 갱신한다.
+     */
+    public void sync(Long eventId, Collection<Long> userIds, LocalDate startDate, LocalDate seriesEnd) {
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId).addValue("userIds", userIds);
+        jdbcTemplate.update("DELETE FROM planner_event_access WHERE event_id = :eventId AND user_id NOT IN (:userIds)", params);
+
+        MapSqlParameterSource[] rows = userIds.stream()
+                .map(userId -> new MapSqlParameterSource("eventId", eventId)
+                        .addValue("userId", userId)
+                        .addValue("startDate", startDate)
+                        .addValue("seriesEnd", seriesEnd))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_event_access (user_id, event_id, start_date, series_end)
+                VALUES (:userId, :eventId, :startDate, :seriesEnd)
+                ON DUPLICATE KEY UPDATE start_date = VALUES(start_date), series_end = VALUES(series_end)
+                """, rows);
+    }
+
+    public void deleteByEventId(Long eventId) {
+        jdbcTemplate.update("DELETE FROM planner_event_access WHERE event_id = :eventId",
+                new MapSqlParameterSource("eventId", eventId));
+    }
+
+    /**
+     * 작성자 또는 참여자인지. PK (user_id, event_id) 한 칸만 읽는다.
+     */
+    public boolean exists(Long userId, Long eventId) {
+        List<Integer> found = jdbcTemplate.queryForList(
+                "SELECT 1 FROM planner_event_access WHERE user_id = :userId AND event_id = :eventId",
+                new MapSqlParameterSource("userId", userId).addValue("eventId", eventId), Integer.class);
+        return !found.isEmpty();
+    }
+
+    /**
+     * candidateIds 중 userId 와 같은 일정(작성자 또는 참여자)을 하나라도 공유하는 사용자.
+     */
+    public Set<Long> findSharingUsers(Long userId, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("""
+                SELECT DISTINCT other.user_id
+                FROM planner_event_access mine
+                JOIN planner_event_access other ON other.event_id = mine.event_id
+                WHERE mine.user_id = :userId
+                  AND other.user_id IN (:candidateIds)
+                """, new MapSqlParameterSource("userId", userId).addValue("candidateIds", candidateIds), Long.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 반복 일정의 발생 하나를 취소하거나 날짜/시간을 바꾼 기록. occurrence_date 는 규칙상 원래 발생일이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_event_exceptions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_planner_exception_occurrence",
+                columnNames = {"event_id", "occurrence_date"}
+        )
+)
+@Entity
+public class PlannerEventException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "planner_event_exception_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false, foreignKey = @ForeignKey(name = "fk_planner_exception_event"))
+    private PlannerEvent event;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+
+    @Column(nullable = false)
+    private boolean cancelled;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    private PlannerEventException(PlannerEvent event, LocalDate occurrenceDate) {
+        this.event = event;
+        this.occurrenceDate = occurrenceDate;
+    }
+
+    public static PlannerEventException of(PlannerEvent event, LocalDate occurrenceDate) {
+        return new PlannerEventException(event, occurrenceDate);
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+        this.startDate = null;
+        this.endDate = null;
+        this.startTime = null;
+        this.endTime = null;
+    }
+
+    public void reschedule(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        this.cancelled = false;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,31 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PlannerEventExceptionRepository extends JpaRepository<PlannerEventException, Long> {
+
+    @Query("select x from PlannerEventException x where x.event.id in :eventIds")
+    List<PlannerEventException> findByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("""
+            select new com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride(
+                x.event.id, x.occurrenceDate, x.cancelled, x.startDate, x.endDate, x.startTime, x.endTime)
+            from PlannerEventException x
+            where x.event.id in :eventIds
+            """)
+    List<PlannerOccurrenceOverride> findOverrides(@Param("eventIds") Collection<Long> eventIds);
+
+    Optional<PlannerEventException> findByEventIdAndOccurrenceDate(Long eventId, LocalDate occurrenceDate);
+
+    @Modifying
+    @Query("delete from PlannerEventException x where x.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
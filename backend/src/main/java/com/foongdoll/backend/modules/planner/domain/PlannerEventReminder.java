@@ -0,0 +1,60 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 시작 minutesBefore 분 전 알림. remind_at 은 다음으로 울릴 시각이며, 더 울릴 발생이 없으면 null 이다.
+ * 반복 일정은 발생마다 행을 만들지 않고 울린 뒤 다음 발생으로 remind_at 을 옮긴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_event_reminders",
+        indexes = {
+                @Index(name = "idx_planner_reminder_due", columnList = "remind_at"),
+                @Index(name = "idx_planner_reminder_event", columnList = "event_id")
+        }
+)
+@Entity
+public class PlannerEventReminder {
+
+    public static final int MAX_MINUTES_BEFORE = 60 * 24 * 28;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "planner_event_reminder_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false, foreignKey = @ForeignKey(name = "fk_planner_reminder_event"))
+    private PlannerEvent event;
+
+    @Column(name = "minutes_before", nullable = false)
+    private int minutesBefore;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    private PlannerEventReminder(PlannerEvent event, int minutesBefore) {
+        this.event = event;
+        this.minutesBefore = minutesBefore;
+    }
+
+    public static PlannerEventReminder of(PlannerEvent event, int minutesBefore) {
+        return new PlannerEventReminder(event, minutesBefore);
+    }
+
+    public void schedule(LocalDate occurrenceDate, LocalDateTime remindAt) {
+        this.occurrenceDate = occurrenceDate;
+        this.remindAt = remindAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PlannerEventReminderRepository extends JpaRepository<PlannerEventReminder, Long> {
+
+    @Query("select r from PlannerEventReminder r where r.event.id = :eventId order by r.minutesBefore asc")
+    List<PlannerEventReminder> findByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("delete from PlannerEventReminder r where r.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
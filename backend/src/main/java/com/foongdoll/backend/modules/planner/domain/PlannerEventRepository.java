@@ -1,35 +1,104 @@
 package com.foongdoll.backend.modules.planner.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PlannerEventRepository extends JpaRepository<PlannerEvent, Long> {
 
-    @EntityGraph(attributePaths = {"participants", "participants.user"})
+    /**
+     * 접근 테이블 인덱스 범위로 고른 일정을 PK 조인으로 바로 projection 한다.
+     */
     @Query("""
-            select distinct e
-            from PlannerEvent e
-            left join e.participants participants
-            where (e.owner.id = :userId or participants.user.id = :userId)
-              and e.startDate <= :end
-              and e.endDate >= :start
+            select new com.foongdoll.backend.modules.planner.domain.PlannerEventRow(
+                e.id, o.id, o.nickname, e.title, e.description, e.startDate, e.endDate, e.startTime, e.endTime,
+                e.remarks, e.supplies, e.locationName, e.shared, e.shareCode, e.recurrenceRule, e.completedAt)
+            from PlannerEventAccess a
+            join PlannerEvent e on e.id = a.key.eventId
+            join e.owner o
+            where a.key.userId = :userId
+              and a.seriesEnd >= :start
+              and a.startDate <= :end
             order by e.startDate asc, e.startTime asc
             """)
-    List<PlannerEvent> findAllInRangeForUser(
+    List<PlannerEventRow> findRowsInRange(
             @Param("userId") Long userId,
             @Param("start") LocalDate start,
             @Param("end") LocalDate end
     );
 
-    @EntityGraph(attributePaths = {"participants", "participants.user"})
+    /**
+     * 여러 사용자의 일정 구간만 읽는다. 같은 일정에 함께 속한 사용자가 있어도 한 번만 돌려준다.
+     */
+    @Query("""
+            select distinct new com.foongdoll.backend.modules.planner.domain.PlannerBusyRow(
+                e.id, e.startDate, e.endDate, e.startTime, e.endTime, e.recurrenceRule)
+            from PlannerEventAccess a
+            join PlannerEvent e on e.id = a.key.eventId
+            where a.key.userId in :userIds
+              and a.seriesEnd >= :start
+              and a.startDate <= :end
+            """)
+    List<PlannerBusyRow> findBusyRows(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    /**
+     * 접근 테이블 PK (user_id, event_id) 순서로 이어 읽는 keyset 페이지.
+     */
+    @Query("""
+            select new com.foongdoll.backend.modules.planner.domain.PlannerFeedRow(
+                e.id, e.title, e.description, e.startDate, e.endDate, e.startTime, e.endTime,
+                e.locationName, e.recurrenceRule, e.updatedAt)
+            from PlannerEventAccess a
+            join PlannerEvent e on e.id = a.key.eventId
+            where a.key.userId = :userId
+              and a.key.eventId > :afterId
+            order by a.key.eventId asc
+            """)
+    List<PlannerFeedRow> findFeedRows(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new com.foongdoll.backend.modules.planner.domain.PlannerFeedRow(
+                e.id, e.title, e.description, e.startDate, e.endDate, e.startTime, e.endTime,
+                e.locationName, e.recurrenceRule, e.updatedAt)
+            from PlannerEventAccess a
+            join PlannerEvent e on e.id = a.key.eventId
+            where a.key.userId = :userId
+              and a.key.eventId in :ids
+            order by a.key.eventId asc
+            """)
+    List<PlannerFeedRow> findFeedRowsByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.foongdoll.backend.modules.planner.domain.PlannerEventValue(e.id, t)
+            from PlannerEvent e
+            join e.tags t
+            where e.id in :ids
+            """)
+    List<PlannerEventValue> findTagValues(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.foongdoll.backend.modules.planner.domain.PlannerEventValue(e.id, g)
+            from PlannerEvent e
+            join e.guestNames g
+            where e.id in :ids
+            order by e.id, index(g)
+            """)
+    List<PlannerEventValue> findGuestValues(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "owner")
     Optional<PlannerEvent> findById(Long id);
 
-    @EntityGraph(attributePaths = {"participants", "participants.user"})
+    @EntityGraph(attributePaths = "owner")
     Optional<PlannerEvent> findByShareCode(String shareCode);
 }
@@ -0,0 +1,28 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 범위 조회용 일정 평탄 projection. 영속성 컨텍스트에 올라가지 않는다.
+ */
+public record PlannerEventRow(
+        Long id,
+        Long ownerId,
+        String ownerName,
+        String title,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String remarks,
+        String supplies,
+        String locationName,
+        boolean shared,
+        String shareCode,
+        String recurrenceRule,
+        LocalDateTime completedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+/**
+ * 일정 id 와 문자열 값 한 쌍(태그, 게스트 이름).
+ */
+public record PlannerEventValue(Long eventId, String value) {
+}
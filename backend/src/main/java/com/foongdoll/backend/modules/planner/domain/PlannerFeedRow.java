@@ -0,0 +1,22 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * ICS 피드에 필요한 컬럼만 담은 projection.
+ */
+public record PlannerFeedRow(
+        Long id,
+        String title,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String locationName,
+        String recurrenceRule,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,45 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 캘린더 앱 구독용 비밀 주소. 캘린더 앱은 로그인 토큰을 보낼 수 없으므로 주소 자체가 자격 증명이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_feed_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_planner_feed_token", columnNames = "token")
+)
+@Entity
+public class PlannerFeedToken {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "token", nullable = false, length = 64)
+    private String token;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    private PlannerFeedToken(Long userId, String token) {
+        this.userId = userId;
+        rotate(token);
+    }
+
+    public static PlannerFeedToken issue(Long userId, String token) {
+        return new PlannerFeedToken(userId, token);
+    }
+
+    public void rotate(String token) {
+        this.token = token;
+        this.issuedAt = LocalDateTime.now();
+    }
+}
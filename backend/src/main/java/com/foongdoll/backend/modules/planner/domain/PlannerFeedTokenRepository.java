@@ -0,0 +1,10 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PlannerFeedTokenRepository extends JpaRepository<PlannerFeedToken, Long> {
+
+    Optional<PlannerFeedToken> findByToken(String token);
+}
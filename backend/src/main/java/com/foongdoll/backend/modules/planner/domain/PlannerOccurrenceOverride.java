@@ -0,0 +1,18 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * PlannerEventException 의 읽기 전용 projection.
+ */
+public record PlannerOccurrenceOverride(
+        Long eventId,
+        LocalDate occurrenceDate,
+        boolean cancelled,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,134 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 참여자 쓰기와 조회. 엔티티 컬렉션을 올리지 않고 (event_id, user_id) 유니크 인덱스만으로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlannerParticipantJdbcRepository {
+
+    private static final int IN_CHUNK = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Set<Long> findUserIds(Long eventId) {
+        return new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM planner_event_participants WHERE event_id = :eventId ORDER BY planner_event_participant_id",
+                new MapSqlParameterSource("eventId", eventId), Long.class));
+    }
+
+    /**
+     * userIds 중 실제로 있는 사용자 id.
+     */
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        Set<Long> existing = new LinkedHashSet<>();
+        for (List<Long> chunk : chunks(userIds)) {
+            existing.addAll(jdbcTemplate.queryForList("SELECT user_id FROM users WHERE user_id IN (:ids)",
+                    new MapSqlParameterSource("ids", chunk), Long.class));
+        }
+        return existing;
+    }
+
+    public void insert(Long eventId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] rows = userIds.stream()
+                .map(userId -> new MapSqlParameterSource("eventId", eventId).addValue("userId", userId))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO planner_event_participants (event_id, user_id) VALUES (:eventId, :userId)", rows);
+    }
+
+    public void delete(Long eventId, Collection<Long> userIds) {
+        for (List<Long> chunk : chunks(userIds)) {
+            jdbcTemplate.update("DELETE FROM planner_event_participants WHERE event_id = :eventId AND user_id IN (:ids)",
+                    new MapSqlParameterSource("eventId", eventId).addValue("ids", chunk));
+        }
+    }
+
+    public void deleteByEventId(Long eventId) {
+        jdbcTemplate.update("DELETE FROM planner_event_participants WHERE event_id = :eventId",
+                new MapSqlParameterSource("eventId", eventId));
+    }
+
+    /**
+     * user_id 순 keyset 페이지.
+     */
+    public List<PlannerParticipantRow> findPage(Long eventId, long afterUserId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT p.event_id, p.user_id, u.nickname, u.email
+                FROM planner_event_participants p
+                JOIN users u ON u.user_id = p.user_id
+                WHERE p.event_id = :eventId AND p.user_id > :after
+                ORDER BY p.user_id
+                LIMIT :limit
+                """, new MapSqlParameterSource("eventId", eventId)
+                .addValue("after", afterUserId)
+                .addValue("limit", limit), (rs, rowNum) -> new PlannerParticipantRow(
+                rs.getLong("event_id"),
+                rs.getLong("user_id"),
+                rs.getString("nickname"),
+                rs.getString("email")
+        ));
+    }
+
+    /**
+     * 일정마다 user_id 순 앞쪽 limit 명. 목록 응답에 싣는 미리보기용이다.
+     */
+    public List<PlannerParticipantRow> findPreview(Collection<Long> eventIds, int limit) {
+        return jdbcTemplate.query("""
+                SELECT ranked.event_id, ranked.user_id, u.nickname, u.email
+                FROM (
+                    SELECT p.event_id, p.user_id,
+                           ROW_NUMBER() OVER (PARTITION BY p.event_id ORDER BY p.user_id) AS position
+                    FROM planner_event_participants p
+                    WHERE p.event_id IN (:ids)
+                ) ranked
+                JOIN users u ON u.user_id = ranked.user_id
+                WHERE ranked.position <= :limit
+                ORDER BY ranked.event_id, ranked.user_id
+                """, new MapSqlParameterSource("ids", eventIds).addValue("limit", limit),
+                (rs, rowNum) -> new PlannerParticipantRow(
+                        rs.getLong("event_id"),
+                        rs.getLong("user_id"),
+                        rs.getString("nickname"),
+                        rs.getString("email")
+                ));
+    }
+
+    public Map<Long, Integer> countByEvent(Collection<Long> eventIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT event_id, COUNT(*) AS participants
+                FROM planner_event_participants
+                WHERE event_id IN (:ids)
+                GROUP BY event_id
+                """, new MapSqlParameterSource("ids", eventIds), rs -> {
+            counts.put(rs.getLong("event_id"), rs.getInt("participants"));
+        });
+        return counts;
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CHUNK) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + IN_CHUNK)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,4 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+public record PlannerParticipantRow(Long eventId, Long userId, String nickname, String email) {
+}
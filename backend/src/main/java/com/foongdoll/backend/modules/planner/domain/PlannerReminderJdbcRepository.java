@@ -0,0 +1,96 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 엔진용 조회/선점. 행 단위 엔티티를 올리지 않고 remind_at 인덱스 범위만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlannerReminderJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Due> findDue(LocalDateTime until, int limit) {
+        return jdbcTemplate.query("""
+                SELECT planner_event_reminder_id, event_id, minutes_before, occurrence_date, remind_at
+                FROM planner_event_reminders
+                WHERE remind_at <= :until
+                ORDER BY remind_at
+                LIMIT :limit
+                """, new MapSqlParameterSource("until", until).addValue("limit", limit), (rs, rowNum) -> new Due(
+                rs.getLong("planner_event_reminder_id"),
+                rs.getLong("event_id"),
+                rs.getInt("minutes_before"),
+                toLocalDate(rs.getDate("occurrence_date")),
+                rs.getTimestamp("remind_at").toLocalDateTime()
+        ));
+    }
+
+    public List<Target> findTargets(Collection<Long> eventIds) {
+        return jdbcTemplate.query("""
+                SELECT planner_event_id, title, start_date, end_date, start_time, recurrence_rule
+                FROM planner_events
+                WHERE planner_event_id IN (:ids)
+                """, new MapSqlParameterSource("ids", eventIds), (rs, rowNum) -> new Target(
+                rs.getLong("planner_event_id"),
+                rs.getString("title"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("end_date").toLocalDate(),
+                toLocalTime(rs.getTime("start_time")),
+                rs.getString("recurrence_rule")
+        ));
+    }
+
+    public List<long[]> findRecipients(Collection<Long> eventIds) {
+        return jdbcTemplate.query("SELECT event_id, user_id FROM planner_event_access WHERE event_id IN (:ids)",
+                new MapSqlParameterSource("ids", eventIds),
+                (rs, rowNum) -> new long[]{rs.getLong("event_id"), rs.getLong("user_id")});
+    }
+
+    /**
+     * remind_at 이 예상한 값일 때만 다음 시각으로 옮긴다. 0 을 돌려준 행은 이미 다른 곳에서 처리했거나 일정이 바뀐 것이다.
+     */
+    public int[] claim(List<Claim> claims) {
+        MapSqlParameterSource[] params = claims.stream()
+                .map(claim -> new MapSqlParameterSource("id", claim.id())
+                        .addValue("expected", claim.expected())
+                        .addValue("nextOccurrence", claim.nextOccurrence())
+                        .addValue("nextRemindAt", claim.nextRemindAt()))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate("""
+                UPDATE planner_event_reminders
+                SET occurrence_date = :nextOccurrence, remind_at = :nextRemindAt
+                WHERE planner_event_reminder_id = :id AND remind_at = :expected
+                """, params);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static LocalTime toLocalTime(Time time) {
+        return time == null ? null : time.toLocalTime();
+    }
+
+    public record Due(Long id, Long eventId, int minutesBefore, LocalDate occurrenceDate, LocalDateTime remindAt) {
+    }
+
+    public record Target(Long eventId, String title, LocalDate startDate, LocalDate endDate, LocalTime startTime,
+                         String recurrenceRule) {
+    }
+
+    public record Claim(Long id, LocalDateTime expected, LocalDate nextOccurrence, LocalDateTime nextRemindAt) {
+    }
+}
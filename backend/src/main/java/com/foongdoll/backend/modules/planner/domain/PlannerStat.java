@@ -0,0 +1,57 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일정별 일/주 단위 플래너 통계 rollup. tag 가 빈 문자열인 행이 그 기간 전체 합계다.
+ * 참여자 수와 무관하게 일정마다 한 벌만 두고, 다시 계산할 때 사용자 rollup(planner_user_stats)에 반영할 차이를 구하는 기준이 된다.
+ * 일정이 바뀌면 PlannerStatsService 가 백그라운드에서 그 일정의 행을 통째로 다시 쓰고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_event_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_planner_event_stats_bucket",
+                columnNames = {"event_id", "period", "period_start", "tag"})
+)
+@Entity
+public class PlannerStat {
+
+    public static final String TOTAL = "";
+
+    public enum Period {
+        DAY, WEEK
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "planner_stat_id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 8)
+    private Period period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "tag", nullable = false, length = 40)
+    private String tag;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "scheduled_minutes", nullable = false)
+    private long scheduledMinutes;
+}
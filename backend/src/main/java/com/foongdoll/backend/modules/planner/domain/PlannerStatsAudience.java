@@ -0,0 +1,50 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 일정의 통계 기여분이 planner_user_stats 에 더해져 있는 사용자. 참여자에서 빠진 사용자 행에서는 이전 기여분을 빼야 하므로
+ * 마지막으로 반영한 대상을 남겨 둔다. 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_stats_audience",
+        indexes = @Index(name = "idx_planner_stats_audience_event", columnList = "event_id")
+)
+@Entity
+public class PlannerStatsAudience {
+
+    @EmbeddedId
+    private Key key;
+
+    @Getter
+    @Embeddable
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "event_id")
+        private Long eventId;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(userId, that.userId) && Objects.equals(eventId, that.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, eventId);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일정별 통계 행 교체, 사용자별 rollup 반영과 조회, 재계산 대기열.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlannerStatsJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 일정을 재계산 대기열에 넣는다. 이미 있으면 시각만 갱신한다.
+     */
+    public void markDirty(Long eventId) {
+        jdbcTemplate.update("""
+                INSERT INTO planner_stats_pending (event_id, queued_at) VALUES (:eventId, :now)
+                ON DUPLICATE KEY UPDATE queued_at = VALUES(queued_at)
+                """, new MapSqlParameterSource("eventId", eventId).addValue("now", LocalDateTime.now()));
+    }
+
+    public void markDirty(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_stats_pending (event_id, queued_at) VALUES (:eventId, :now)
+                ON DUPLICATE KEY UPDATE queued_at = VALUES(queued_at)
+                """, eventIds.stream()
+                .map(eventId -> new MapSqlParameterSource("eventId", eventId).addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    /**
+     * 대기 중인 일정을 잠가 꺼낸다. 다른 인스턴스가 잡은 행은 건너뛰며, 잠금은 호출한 트랜잭션이 끝날 때까지 유지된다.
+     * PK 순으로 읽어야 limit 개만 잠그고 멈춘다(queued_at 순이면 인덱스가 없어 대기열 전체를 잠그고 정렬한다).
+     */
+    public List<Long> claimPending(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT event_id FROM planner_stats_pending
+                ORDER BY event_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """, new MapSqlParameterSource("limit", limit), Long.class);
+    }
+
+    public void deletePending(Collection<Long> eventIds) {
+        jdbcTemplate.update("DELETE FROM planner_stats_pending WHERE event_id IN (:ids)",
+                new MapSqlParameterSource("ids", eventIds));
+    }
+
+    public boolean hasPending() {
+        List<Integer> any = jdbcTemplate.queryForList("SELECT 1 FROM planner_stats_pending LIMIT 1",
+                new MapSqlParameterSource(), Integer.class);
+        return !any.isEmpty();
+    }
+
+    /**
+     * 일정들의 통계 행을 통째로 바꾼다. 행이 없는 일정(삭제됨)은 지워지기만 한다.
+     */
+    public void replace(Collection<Long> eventIds, Collection<Contribution> contributions) {
+        jdbcTemplate.update("DELETE FROM planner_event_stats WHERE event_id IN (:ids)",
+                new MapSqlParameterSource("ids", eventIds));
+        if (contributions.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] params = contributions.stream()
+                .map(contribution -> new MapSqlParameterSource("eventId", contribution.key().eventId())
+                        .addValue("period", contribution.key().period().name())
+                        .addValue("periodStart", contribution.key().periodStart())
+                        .addValue("tag", contribution.key().tag())
+                        .addValue("events", contribution.events())
+                        .addValue("completed", contribution.completed())
+                        .addValue("minutes", contribution.minutes()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_event_stats (event_id, period, period_start, tag, event_count, completed_count, scheduled_minutes)
+                VALUES (:eventId, :period, :periodStart, :tag, :events, :completed, :minutes)
+                """, params);
+    }
+
+    /**
+     * 일정들의 현재 통계 행(사용자 rollup 에 반영되어 있는 값).
+     */
+    public List<Contribution> findContributions(Collection<Long> eventIds) {
+        return jdbcTemplate.query("""
+                SELECT event_id, period, period_start, tag, event_count, completed_count, scheduled_minutes
+                FROM planner_event_stats
+                WHERE event_id IN (:ids)
+                """, new MapSqlParameterSource("ids", eventIds), (rs, rowNum) -> new Contribution(
+                new Key(rs.getLong("event_id"),
+                        PlannerStat.Period.valueOf(rs.getString("period")),
+                        rs.getDate("period_start").toLocalDate(),
+                        rs.getString("tag")),
+                rs.getLong("event_count"),
+                rs.getLong("completed_count"),
+                rs.getLong("scheduled_minutes")
+        ));
+    }
+
+    /**
+     * 일정별로 지금 볼 수 있는 사용자(작성자 + 참여자).
+     */
+    public Map<Long, Set<Long>> findAudience(Collection<Long> eventIds) {
+        return groupUsers("SELECT event_id, user_id FROM planner_event_access WHERE event_id IN (:ids)", eventIds);
+    }
+
+    /**
+     * 일정별로 사용자 rollup 에 기여분이 더해져 있는 사용자.
+     */
+    public Map<Long, Set<Long>> findAppliedAudience(Collection<Long> eventIds) {
+        return groupUsers("SELECT event_id, user_id FROM planner_stats_audience WHERE event_id IN (:ids)", eventIds);
+    }
+
+    public void replaceAudience(Collection<Long> eventIds, Map<Long, Set<Long>> audience) {
+        jdbcTemplate.update("DELETE FROM planner_stats_audience WHERE event_id IN (:ids)",
+                new MapSqlParameterSource("ids", eventIds));
+        MapSqlParameterSource[] params = audience.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(userId -> new MapSqlParameterSource("eventId", entry.getKey()).addValue("userId", userId)))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO planner_stats_audience (user_id, event_id) VALUES (:userId, :eventId)", params);
+    }
+
+    /**
+     * 사용자 rollup 행에 차이를 더한다. 호출하는 쪽이 (사용자, 기간, 태그) 순으로 정렬해 넘겨 잠금 순서를 맞춘다.
+     * 일정 수가 줄어든 행만 0 이 되었는지 보고 지운다.
+     */
+    public void applyUserDeltas(List<UserDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO planner_user_stats (user_id, period, period_start, tag, event_count, completed_count, scheduled_minutes)
+                VALUES (:userId, :period, :periodStart, :tag, :events, :completed, :minutes)
+                ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count),
+                                        completed_count = completed_count + VALUES(completed_count),
+                                        scheduled_minutes = scheduled_minutes + VALUES(scheduled_minutes)
+                """, deltas.stream().map(PlannerStatsJdbcRepository::params).toArray(MapSqlParameterSource[]::new));
+        MapSqlParameterSource[] shrunk = deltas.stream()
+                .filter(delta -> delta.events() < 0)
+                .map(PlannerStatsJdbcRepository::params)
+                .toArray(MapSqlParameterSource[]::new);
+        if (shrunk.length == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                DELETE FROM planner_user_stats
+                WHERE user_id = :userId AND period = :period AND period_start = :periodStart AND tag = :tag
+                  AND event_count <= 0
+                """, shrunk);
+    }
+
+    /**
+     * 사용자 rollup 에서 기간/태그별 행을 읽는다. (user_id, period, period_start) 유니크 인덱스 범위 하나다.
+     */
+    public List<Bucket> findRange(Long userId, PlannerStat.Period period, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+                SELECT period_start, tag, event_count, completed_count, scheduled_minutes
+                FROM planner_user_stats
+                WHERE user_id = :userId AND period = :period AND period_start BETWEEN :from AND :to
+                  AND event_count > 0
+                ORDER BY period_start, tag
+                """, new MapSqlParameterSource("userId", userId)
+                .addValue("period", period.name())
+                .addValue("from", from)
+                .addValue("to", to), (rs, rowNum) -> new Bucket(
+                rs.getDate("period_start").toLocalDate(),
+                rs.getString("tag"),
+                rs.getLong("event_count"),
+                rs.getLong("completed_count"),
+                rs.getLong("scheduled_minutes")
+        ));
+    }
+
+    /**
+     * 사용자 rollup 에 반영된 일정이 하나도 없는지. 사용자 rollup 도입 전 배포도 여기서 재구축 대상이 된다.
+     */
+    public boolean isEmpty() {
+        List<Integer> any = jdbcTemplate.queryForList("SELECT 1 FROM planner_stats_audience LIMIT 1",
+                new MapSqlParameterSource(), Integer.class);
+        return any.isEmpty();
+    }
+
+    /**
+     * 재구축용. 원본이 사라졌는데 통계나 rollup 반영 기록이 남은 일정. 대기열로 돌리면 사용자 rollup 에서도 빠진다.
+     */
+    public List<Long> findOrphanEventIds() {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT o.event_id FROM (
+                    SELECT event_id FROM planner_event_stats
+                    UNION
+                    SELECT event_id FROM planner_stats_audience
+                ) o
+                LEFT JOIN planner_events e ON e.planner_event_id = o.event_id
+                WHERE e.planner_event_id IS NULL
+                """, new MapSqlParameterSource(), Long.class);
+    }
+
+    /**
+     * 재구축용. PK 순으로 일정 id 를 읽는다.
+     */
+    public List<Long> findEventIds(long afterId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT planner_event_id FROM planner_events
+                WHERE planner_event_id > :afterId
+                ORDER BY planner_event_id
+                LIMIT :limit
+                """, new MapSqlParameterSource("afterId", afterId).addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 통계 창 이동용. [from, to] 에 걸치는 반복 일정 id 를 PK 순으로 읽는다.
+     */
+    public List<Long> findRecurringEventIds(long afterId, LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT planner_event_id FROM planner_events
+                WHERE planner_event_id > :afterId
+                  AND recurrence_rule IS NOT NULL
+                  AND series_end >= :from AND start_date <= :to
+                ORDER BY planner_event_id
+                LIMIT :limit
+                """, new MapSqlParameterSource("afterId", afterId)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("limit", limit), Long.class);
+    }
+
+    public List<EventScan> findEvents(Collection<Long> eventIds) {
+        return jdbcTemplate.query("""
+                SELECT planner_event_id, start_date, end_date, start_time, end_time, recurrence_rule, completed_at
+                FROM planner_events
+                WHERE planner_event_id IN (:ids)
+                """, new MapSqlParameterSource("ids", eventIds), (rs, rowNum) -> {
+            Time startTime = rs.getTime("start_time");
+            Time endTime = rs.getTime("end_time");
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            return new EventScan(
+                    rs.getLong("planner_event_id"),
+                    rs.getDate("start_date").toLocalDate(),
+                    rs.getDate("end_date").toLocalDate(),
+                    startTime == null ? null : startTime.toLocalTime(),
+                    endTime == null ? null : endTime.toLocalTime(),
+                    rs.getString("recurrence_rule"),
+                    completedAt != null
+            );
+        });
+    }
+
+    /**
+     * MySQL 이름 잠금(GET_LOCK)을 잡은 동안에만 work 를 돌린다. 다른 인스턴스가 잡고 있으면 기다리지 않고 false.
+     */
+    public boolean runExclusively(String lockName, Runnable work) {
+        Boolean ran = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement acquire = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                acquire.setString(1, lockName);
+                try (ResultSet rs = acquire.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                work.run();
+            } finally {
+                try (PreparedStatement release = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, lockName);
+                    release.execute();
+                }
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private Map<Long, Set<Long>> groupUsers(String sql, Collection<Long> eventIds) {
+        Map<Long, Set<Long>> users = new HashMap<>();
+        jdbcTemplate.query(sql, new MapSqlParameterSource("ids", eventIds), (RowCallbackHandler) rs ->
+                users.computeIfAbsent(rs.getLong("event_id"), key -> new HashSet<>()).add(rs.getLong("user_id")));
+        return users;
+    }
+
+    private static MapSqlParameterSource params(UserDelta delta) {
+        return new MapSqlParameterSource("userId", delta.userId())
+                .addValue("period", delta.period().name())
+                .addValue("periodStart", delta.periodStart())
+                .addValue("tag", delta.tag())
+                .addValue("events", delta.events())
+                .addValue("completed", delta.completed())
+                .addValue("minutes", delta.minutes());
+    }
+
+    public record Key(Long eventId, PlannerStat.Period period, LocalDate periodStart, String tag) {
+    }
+
+    public record UserDelta(Long userId, PlannerStat.Period period, LocalDate periodStart, String tag,
+                            long events, long completed, long minutes) {
+    }
+
+    public record Contribution(Key key, long events, long completed, long minutes) {
+    }
+
+    public record Bucket(LocalDate periodStart, String tag, long eventCount, long completedCount, long scheduledMinutes) {
+    }
+
+    public record EventScan(Long id, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                            String recurrenceRule, boolean completed) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계를 다시 계산해야 하는 일정. 일정을 바꾸는 트랜잭션은 여기에 한 줄만 남기고,
+ * PlannerStatsRebuilder 가 주기적으로 꺼내 planner_event_stats 를 다시 쓴다. 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "planner_stats_pending")
+@Entity
+public class PlannerStatsPending {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "queued_at", nullable = false)
+    private LocalDateTime queuedAt;
+}
@@ -0,0 +1,51 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일/주 단위 플래너 통계 rollup. 통계 조회는 이 표의 (user_id, period, period_start) 범위 하나만 읽는다.
+ * 일정별 행(planner_event_stats)을 다시 쓸 때 PlannerStatsService 가 바뀐 만큼만 그 일정을 볼 수 있는 사용자 행에 더하고 빼며,
+ * 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "planner_user_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_planner_user_stats_bucket",
+                columnNames = {"user_id", "period", "period_start", "tag"})
+)
+@Entity
+public class PlannerUserStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "planner_user_stat_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 8)
+    private PlannerStat.Period period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "tag", nullable = false, length = 40)
+    private String tag;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "scheduled_minutes", nullable = false)
+    private long scheduledMinutes;
+}
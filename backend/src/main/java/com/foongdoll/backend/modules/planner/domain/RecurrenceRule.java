@@ -0,0 +1,360 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * RFC 5545 RRULE 의 부분 집합. FREQ=DAILY|WEEKLY|MONTHLY|YEARLY, INTERVAL, COUNT, UNTIL(yyyyMMdd),
+ * BYDAY(WEEKLY 전용), BYMONTHDAY(MONTHLY 전용, 단일 값)를 지원한다.
+ * 존재하지 않는 날짜(2월 30일 등)는 RFC 와 같이 건너뛰며 COUNT 에도 포함하지 않는다.
+ */
+public final class RecurrenceRule {
+
+    public static final int MAX_COUNT = 5000;
+    public static final int MAX_INTERVAL = 999;
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final int count;
+    private final LocalDate until;
+    private final int weekdayMask;
+    private final int monthDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, int count, LocalDate until, int weekdayMask, int monthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.weekdayMask = weekdayMask;
+        this.monthDay = monthDay;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않거나 잘못된 규칙
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("empty recurrence rule");
+        }
+        String body = rule.strip();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        LocalDate until = null;
+        int mask = 0;
+        int monthDay = 0;
+        for (String part : body.split(";")) {
+            if (part.isBlank()) continue;
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("invalid recurrence part: " + part);
+            }
+            String key = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+            switch (key) {
+                case "FREQ" -> frequency = Frequency.valueOf(value);
+                case "INTERVAL" -> interval = parseInt(key, value, 1, MAX_INTERVAL);
+                case "COUNT" -> count = parseInt(key, value, 1, MAX_COUNT);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> mask = parseDays(value);
+                case "BYMONTHDAY" -> monthDay = parseInt(key, value, 1, 31);
+                case "WKST" -> {
+                    // 주 시작은 월요일로 고정한다.
+                }
+                default -> throw new IllegalArgumentException("unsupported recurrence part: " + key);
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (count > 0 && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL are mutually exclusive");
+        }
+        if (mask != 0 && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        if (monthDay != 0 && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY is only supported with FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, mask, monthDay);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval > 1) {
+            out.append(";INTERVAL=").append(interval);
+        }
+        if (weekdayMask != 0) {
+            out.append(";BYDAY=");
+            boolean first = true;
+            for (int d = 0; d < 7; d++) {
+                if ((weekdayMask & (1 << d)) == 0) continue;
+                if (!first) out.append(',');
+                out.append(DAY_CODES[d]);
+                first = false;
+            }
+        }
+        if (monthDay != 0) {
+            out.append(";BYMONTHDAY=").append(monthDay);
+        }
+        if (count > 0) {
+            out.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            out.append(";UNTIL=").append(until.format(UNTIL_FORMAT));
+        }
+        return out.toString();
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public boolean isBounded() {
+        return count > 0 || until != null;
+    }
+
+    /**
+     * 마지막 발생일. 끝이 없는 규칙이면 null. UNTIL 규칙은 UNTIL 자체를 상한으로 돌려준다(가지치기 용도로 충분하다).
+     */
+    public LocalDate lastOccurrence(LocalDate seriesStart) {
+        if (until != null) {
+            return until.isBefore(seriesStart) ? seriesStart : until;
+        }
+        if (count == 0) {
+            return null;
+        }
+        Cursor cursor = cursor(seriesStart, seriesStart);
+        long last = seriesStart.toEpochDay();
+        for (long day = cursor.next(); day != Cursor.DONE; day = cursor.next()) {
+            last = day;
+        }
+        return LocalDate.ofEpochDay(last);
+    }
+
+    public boolean occursOn(LocalDate seriesStart, LocalDate date) {
+        return cursor(seriesStart, date).next() == date.toEpochDay();
+    }
+
+    /**
+     * from 이상인 첫 발생일부터 순회하는 커서. 날짜는 epoch day(long)로 돌려주므로 순회 중 객체를 만들지 않는다.
+     */
+    public Cursor cursor(LocalDate seriesStart, LocalDate from) {
+        return new Cursor(seriesStart, from.isBefore(seriesStart) ? seriesStart : from);
+    }
+
+    private static int parseInt(String key, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(key + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + key + ": " + value);
+        }
+    }
+
+    private static LocalDate parseUntil(String value) {
+        String date = value.length() > 8 ? value.substring(0, 8) : value;
+        try {
+            return LocalDate.parse(date, UNTIL_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid UNTIL: " + value);
+        }
+    }
+
+    private static int parseDays(String value) {
+        int mask = 0;
+        for (String code : value.split(",")) {
+            int index = -1;
+            for (int d = 0; d < 7; d++) {
+                if (DAY_CODES[d].equals(code.trim())) {
+                    index = d;
+                    break;
+                }
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException("invalid BYDAY: " + code);
+            }
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+
+    public final class Cursor {
+
+        public static final long DONE = Long.MIN_VALUE;
+
+        private final long start;
+        private final long untilDay;
+        private long index;
+
+        // DAILY
+        private long day;
+
+        // WEEKLY
+        private long weekBase;
+        private int mask;
+        private int startDow;
+        private long period;
+        private int dow;
+
+        // MONTHLY / YEARLY
+        private int step;
+        private int dayOfMonth;
+        private int year;
+        private int month;
+        private final long fromDay;
+
+        private Cursor(LocalDate seriesStart, LocalDate from) {
+            this.start = seriesStart.toEpochDay();
+            this.untilDay = until == null ? Long.MAX_VALUE : until.toEpochDay();
+            this.fromDay = from.toEpochDay();
+            switch (frequency) {
+                case DAILY -> initDaily();
+                case WEEKLY -> initWeekly(seriesStart.getDayOfWeek());
+                case MONTHLY, YEARLY -> initMonthly(seriesStart);
+            }
+        }
+
+        /**
+         * @return 다음 발생일의 epoch day, 더 없으면 {@link #DONE}
+         */
+        public long next() {
+            if (count > 0 && index >= count) {
+                return DONE;
+            }
+            long next = switch (frequency) {
+                case DAILY -> nextDaily();
+                case WEEKLY -> nextWeekly();
+                case MONTHLY, YEARLY -> nextMonthly();
+            };
+            if (next == DONE || next > untilDay) {
+                index = Long.MAX_VALUE;
+                return DONE;
+            }
+            return next;
+        }
+
+        private void initDaily() {
+            long k = (fromDay - start + interval - 1) / interval;
+            day = start + k * interval;
+            index = k;
+        }
+
+        private long nextDaily() {
+            long result = day;
+            day += interval;
+            index++;
+            return result;
+        }
+
+        private void initWeekly(DayOfWeek startDayOfWeek) {
+            startDow = startDayOfWeek.getValue() - 1;
+            mask = weekdayMask == 0 ? 1 << startDow : weekdayMask;
+            weekBase = start - startDow;
+            int perPeriod = Integer.bitCount(mask);
+            int firstPeriod = Integer.bitCount(mask & (-1 << startDow));
+
+            long weeks = Math.floorDiv(fromDay - weekBase, 7);
+            period = weeks / interval;
+            dow = (int) (fromDay - weekBase - weeks * 7);
+            if (weeks % interval != 0) {
+                period++;
+                dow = 0;
+            }
+            if (period == 0) {
+                dow = Math.max(dow, startDow);
+                index = Integer.bitCount(mask & (-1 << startDow) & ((1 << dow) - 1));
+            } else {
+                index = firstPeriod + (period - 1) * perPeriod + Integer.bitCount(mask & ((1 << dow) - 1));
+            }
+        }
+
+        private long nextWeekly() {
+            while (true) {
+                while (dow < 7) {
+                    int d = dow++;
+                    if ((mask & (1 << d)) != 0) {
+                        index++;
+                        return weekBase + period * interval * 7L + d;
+                    }
+                }
+                period++;
+                dow = 0;
+                if (weekBase + period * interval * 7L > untilDay) {
+                    return DONE;
+                }
+            }
+        }
+
+        // 빠진 달이 COUNT 에 영향을 주므로 시작월부터 정수 연산으로만 건너뛴다.
+        private void initMonthly(LocalDate seriesStart) {
+            step = frequency == Frequency.YEARLY ? interval * 12 : interval;
+            dayOfMonth = monthDay != 0 ? monthDay : seriesStart.getDayOfMonth();
+            year = seriesStart.getYear();
+            month = seriesStart.getMonthValue();
+            index = 0;
+            if (dayOfMonth < seriesStart.getDayOfMonth()) {
+                advanceMonth();
+            }
+        }
+
+        private long nextMonthly() {
+            // 끝없는 규칙이 이상한 BYMONTHDAY 로 영원히 돌지 않도록 400년(그레고리력 주기)에서 멈춘다.
+            for (int guard = 0; guard < 4800; guard++) {
+                if (dayOfMonth <= lengthOfMonth(year, month)) {
+                    long candidate = LocalDate.of(year, month, dayOfMonth).toEpochDay();
+                    if (candidate > untilDay) {
+                        return DONE;
+                    }
+                    advanceMonth();
+                    index++;
+                    if (count > 0 && index > count) {
+                        return DONE;
+                    }
+                    if (candidate >= fromDay) {
+                        return candidate;
+                    }
+                    guard = 0;
+                } else {
+                    advanceMonth();
+                }
+            }
+            return DONE;
+        }
+
+        private void advanceMonth() {
+            int zeroBased = month - 1 + step;
+            year += zeroBased / 12;
+            month = zeroBased % 12 + 1;
+        }
+
+        private static int lengthOfMonth(int year, int month) {
+            return switch (month) {
+                case 2 -> Year.isLeap(year) ? 29 : 28;
+                case 4, 6, 9, 11 -> 30;
+                default -> 31;
+            };
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.foongdoll.backend.modules.planner.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.modules.planner.application.PlannerMonthCache;
+import com.foongdoll.backend.modules.planner.application.PlannerReminderScheduler;
+import com.foongdoll.backend.modules.planner.application.PlannerStatsRebuilder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/planner")
+@RequiredArgsConstructor
+public class PlannerAdminController {
+
+    private final PlannerMonthCache monthCache;
+    private final PlannerReminderScheduler reminderScheduler;
+    private final PlannerStatsRebuilder statsRebuilder;
+
+    @GetMapping("/cache")
+    public ApiResponse<PlannerMonthCache.Stats> cacheStats() {
+        return ApiResponse.ok(monthCache.stats(), MDC.get("traceId"));
+    }
+
+    @GetMapping("/reminders")
+    public ApiResponse<PlannerReminderScheduler.Stats> reminderStats() {
+        return ApiResponse.ok(reminderScheduler.stats(), MDC.get("traceId"));
+    }
+
+    @GetMapping("/stats")
+    public ApiResponse<Map<String, Object>> statsStatus() {
+        return ApiResponse.ok(Map.of("rebuildRunning", statsRebuilder.isRunning()), MDC.get("traceId"));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ApiResponse<Void> rebuildStats() {
+        statsRebuilder.rebuildAsync();
+        return ApiResponse.ok(MDC.get("traceId"));
+    }
+}
@@ -1,13 +1,12 @@
 package com.foongdoll.backend.modules.planner.presentation;
 
 import com.foongdoll.backend.common.api.ApiResponse;
-import com.foongdoll.backend.common.error.DailyonException;
-import com.foongdoll.backend.common.error.ErrorCode;
 import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.planner.application.PlannerConflictService;
 import com.foongdoll.backend.modules.planner.application.PlannerEventService;
+import com.foongdoll.backend.modules.planner.application.PlannerMonthCache;
 import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.MDC;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,34 +19,58 @@ import java.util.List;
 public class PlannerEventController {
 
     private final PlannerEventService plannerEventService;
+    private final PlannerMonthCache plannerMonthCache;
+    private final PlannerConflictService plannerConflictService;
 
     @GetMapping
     public ApiResponse<List<PlannerDtos.PlannerEventResponse>> list(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
-        if (endDate.isBefore(startDate)) {
-            throw new DailyonException(ErrorCode.VALIDATION_ERROR, "날짜 범위가 올바르지 않습니다.");
-        }
         Long userId = SecurityUtils.getCurrentUserId();
-        var events = plannerEventService.getRange(userId, startDate, endDate).stream()
-                .map(event -> PlannerDtos.PlannerEventResponse.from(event, userId))
-                .toList();
-        return ApiResponse.ok(events, SecurityUtils.traceId());
+        return ApiResponse.ok(plannerMonthCache.getRange(userId, startDate, endDate), SecurityUtils.traceId());
     }
 
     @GetMapping("/{eventId}")
     public ApiResponse<PlannerDtos.PlannerEventResponse> detail(@PathVariable Long eventId) {
         Long userId = SecurityUtils.getCurrentUserId();
         var event = plannerEventService.getAccessible(userId, eventId);
-        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, userId), SecurityUtils.traceId());
+        var participants = plannerEventService.getParticipantPreview(eventId);
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, userId), SecurityUtils.traceId());
+    }
+
+    @GetMapping("/{eventId}/reminders")
+    public ApiResponse<List<Integer>> reminders(@PathVariable Long eventId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ApiResponse.ok(plannerEventService.getReminders(userId, eventId), SecurityUtils.traceId());
+    }
+
+    @GetMapping("/{eventId}/participants")
+    public ApiResponse<PlannerDtos.ParticipantPage> participants(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Long afterUserId,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ApiResponse.ok(plannerEventService.getParticipantPage(userId, eventId, afterUserId, size),
+                SecurityUtils.traceId());
+    }
+
+    /**
+     * 저장 전 겹침 확인. 새 일정은 eventId 를 비우고, 수정이나 여러 일정 끌어 옮기기는 옮길 일정 id 와 새 날짜를 보낸다.
+     */
+    @PostMapping("/conflicts")
+    public ApiResponse<List<PlannerDtos.ConflictResult>> conflicts(@RequestBody PlannerDtos.ConflictCheckRequest request) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ApiResponse.ok(plannerConflictService.check(userId, request.events()), SecurityUtils.traceId());
     }
 
     @PostMapping
     public ApiResponse<PlannerDtos.PlannerEventResponse> create(@RequestBody PlannerDtos.PlannerEventRequest request) {
         Long userId = SecurityUtils.getCurrentUserId();
         var event = plannerEventService.create(userId, request);
-        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, userId), SecurityUtils.traceId());
+        var participants = plannerEventService.getParticipantPreview(event.getId());
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, userId), SecurityUtils.traceId());
     }
 
     @PutMapping("/{eventId}")
@@ -57,7 +80,8 @@ public class PlannerEventController {
     ) {
         Long userId = SecurityUtils.getCurrentUserId();
         var event = plannerEventService.update(userId, eventId, request);
-        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, userId), SecurityUtils.traceId());
+        var participants = plannerEventService.getParticipantPreview(eventId);
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, userId), SecurityUtils.traceId());
     }
 
     @DeleteMapping("/{eventId}")
@@ -67,6 +91,38 @@ public class PlannerEventController {
         return ApiResponse.ok(SecurityUtils.traceId());
     }
 
+    @PutMapping("/{eventId}/occurrences/{occurrenceDate}")
+    public ApiResponse<PlannerDtos.PlannerEventResponse> rescheduleOccurrence(
+            @PathVariable Long eventId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate,
+            @RequestBody PlannerDtos.OccurrenceRequest request
+    ) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        var occurrence = plannerEventService.rescheduleOccurrence(userId, eventId, occurrenceDate, request);
+        var participants = plannerEventService.getParticipantPreview(eventId);
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(occurrence, participants, userId), SecurityUtils.traceId());
+    }
+
+    @DeleteMapping("/{eventId}/occurrences/{occurrenceDate}")
+    public ApiResponse<Void> cancelOccurrence(
+            @PathVariable Long eventId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate
+    ) {
+        plannerEventService.cancelOccurrence(SecurityUtils.getCurrentUserId(), eventId, occurrenceDate);
+        return ApiResponse.ok(SecurityUtils.traceId());
+    }
+
+    @PostMapping("/{eventId}/complete")
+    public ApiResponse<PlannerDtos.PlannerEventResponse> complete(
+            @PathVariable Long eventId,
+            @RequestBody PlannerDtos.CompletionRequest request
+    ) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        var event = plannerEventService.complete(userId, eventId, request.completed());
+        var participants = plannerEventService.getParticipantPreview(eventId);
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, userId), SecurityUtils.traceId());
+    }
+
     @PostMapping("/{eventId}/share")
     public ApiResponse<PlannerDtos.PlannerEventResponse> toggleShare(
             @PathVariable Long eventId,
@@ -74,7 +130,8 @@ public class PlannerEventController {
     ) {
         Long userId = SecurityUtils.getCurrentUserId();
         var event = plannerEventService.toggleShare(userId, eventId, request.shared());
-        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, userId), SecurityUtils.traceId());
+        var participants = plannerEventService.getParticipantPreview(eventId);
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, userId), SecurityUtils.traceId());
     }
 
 }
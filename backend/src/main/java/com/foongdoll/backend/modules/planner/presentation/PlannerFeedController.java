@@ -0,0 +1,34 @@
+package com.foongdoll.backend.modules.planner.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.planner.application.PlannerFeedService;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/planner/feed")
+@RequiredArgsConstructor
+public class PlannerFeedController {
+
+    private final PlannerFeedService feedService;
+
+    @GetMapping
+    public ApiResponse<PlannerDtos.FeedResponse> current() {
+        String token = feedService.getToken(SecurityUtils.getCurrentUserId());
+        return ApiResponse.ok(PlannerDtos.FeedResponse.of(token), SecurityUtils.traceId());
+    }
+
+    /**
+     * 구독 주소를 (재)발급한다. 이전 주소로 구독 중인 앱은 더 이상 받지 못한다.
+     */
+    @PostMapping
+    public ApiResponse<PlannerDtos.FeedResponse> rotate() {
+        String token = feedService.rotateToken(SecurityUtils.getCurrentUserId());
+        return ApiResponse.ok(PlannerDtos.FeedResponse.of(token), SecurityUtils.traceId());
+    }
+}
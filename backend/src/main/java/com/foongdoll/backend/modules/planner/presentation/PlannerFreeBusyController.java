@@ -0,0 +1,46 @@
+package com.foongdoll.backend.modules.planner.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.planner.application.PlannerFreeBusyService;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/planner/free-busy")
+@RequiredArgsConstructor
+public class PlannerFreeBusyController {
+
+    private final PlannerFreeBusyService freeBusyService;
+
+    /**
+     * userIds 를 비우면 본인 일정만 본다. userIds 에는 본인과, 본인과 일정을 함께하는 사용자만 넣을 수 있다.
+     * 응답에는 일정 내용 없이 구간만 담긴다.
+     */
+    @GetMapping
+    public ApiResponse<PlannerDtos.FreeBusyResponse> freeBusy(
+            @RequestParam(required = false) List<Long> userIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayEnd,
+            @RequestParam(defaultValue = "30") int minMinutes
+    ) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        List<Long> users = userIds == null || userIds.isEmpty()
+                ? List.of(userId)
+                : userIds.stream().filter(Objects::nonNull).distinct().toList();
+        return ApiResponse.ok(freeBusyService.query(userId, users, startDate, endDate, dayStart, dayEnd, minMinutes),
+                SecurityUtils.traceId());
+    }
+}
@@ -2,24 +2,60 @@ package com.foongdoll.backend.modules.planner.presentation;
 
 import com.foongdoll.backend.common.api.ApiResponse;
 import com.foongdoll.backend.modules.planner.application.PlannerEventService;
+import com.foongdoll.backend.modules.planner.application.PlannerFeedService;
 import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/planner/public")
 @RequiredArgsConstructor
 public class PlannerPublicController {
 
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
     private final PlannerEventService plannerEventService;
+    private final PlannerFeedService plannerFeedService;
 
     @GetMapping("/events/{shareCode}")
     public ApiResponse<PlannerDtos.PlannerEventResponse> viewShared(@PathVariable String shareCode) {
         var event = plannerEventService.findPublic(shareCode);
-        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, null), MDC.get("traceId"));
+        var participants = plannerEventService.getParticipantPreview(event.getId());
+        return ApiResponse.ok(PlannerDtos.PlannerEventResponse.from(event, participants, null), MDC.get("traceId"));
+    }
+
+    /**
+     * 캘린더 앱 구독 주소. ETag 는 사용자의 마지막 변경 순번이라 바뀐 것이 없으면 304 만 돌려준다.
+     * syncToken(응답의 X-Sync-Token)을 주면 그 이후 바뀐 일정만 담는다.
+     */
+    @GetMapping("/feed/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> feed(
+            @PathVariable String token,
+            @RequestParam(required = false) Long syncToken,
+            WebRequest request
+    ) {
+        Long userId = plannerFeedService.resolveUser(token);
+        long sequence = plannerFeedService.sequence(userId);
+        String etag = "\"" + sequence + (syncToken == null ? "" : "-" + syncToken) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        StreamingResponseBody body = out -> plannerFeedService.write(userId, syncToken, sequence, out);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header("X-Sync-Token", Long.toString(sequence))
+                .body(body);
     }
 }
@@ -0,0 +1,33 @@
+package com.foongdoll.backend.modules.planner.presentation;
+
+import com.foongdoll.backend.common.api.ApiResponse;
+import com.foongdoll.backend.common.util.SecurityUtils;
+import com.foongdoll.backend.modules.planner.application.PlannerStatsService;
+import com.foongdoll.backend.modules.planner.domain.PlannerStat;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/planner/stats")
+@RequiredArgsConstructor
+public class PlannerStatsController {
+
+    private final PlannerStatsService statsService;
+
+    @GetMapping
+    public ApiResponse<PlannerDtos.StatsReport> report(
+            @RequestParam(defaultValue = "DAY") PlannerStat.Period period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ApiResponse.ok(statsService.report(userId, period, startDate, endDate), SecurityUtils.traceId());
+    }
+}
@@ -2,11 +2,13 @@ package com.foongdoll.backend.modules.planner.presentation.dto;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.foongdoll.backend.modules.planner.application.PlannerOccurrence;
 import com.foongdoll.backend.modules.planner.domain.PlannerEvent;
-import com.foongdoll.backend.modules.planner.domain.PlannerEventParticipant;
+import com.foongdoll.backend.modules.planner.domain.PlannerEventRow;
 import com.foongdoll.backend.modules.user.domain.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Objects;
@@ -30,7 +32,18 @@ public final class PlannerDtos {
             List<String> tags,
             List<Long> participantIds,
             List<String> guestNames,
-            Boolean shared
+            Boolean shared,
+            String recurrence,
+            List<Integer> reminders
+    ) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record OccurrenceRequest(
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalTime startTime,
+            LocalTime endTime
     ) {
     }
 
@@ -45,6 +58,22 @@ public final class PlannerDtos {
         }
     }
 
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record ParticipantPage(
+            List<ParticipantSummary> participants,
+            Long nextCursor,
+            boolean hasNext
+    ) {
+    }
+
+    /**
+     * 일정 응답에 싣는 참여자 앞쪽 일부와 전체 인원. 나머지는 /participants 페이지로 받는다.
+     */
+    public record ParticipantPreview(List<ParticipantSummary> participants, int count) {
+
+        public static final ParticipantPreview EMPTY = new ParticipantPreview(List.of(), 0);
+    }
+
     @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
     public record PlannerEventResponse(
             Long id,
@@ -59,40 +88,154 @@ public final class PlannerDtos {
             String location,
             List<String> tags,
             List<ParticipantSummary> participants,
+            int participantCount,
             List<String> guestNames,
             boolean shared,
             String shareCode,
             String ownerName,
-            boolean editable
+            boolean editable,
+            String recurrence,
+            LocalDate occurrenceDate,
+            boolean completed
     ) {
-        public static PlannerEventResponse from(PlannerEvent event, Long currentUserId) {
-            List<ParticipantSummary> participantSummaries = event.getParticipants().stream()
-                    .map(PlannerEventParticipant::getUser)
-                    .filter(Objects::nonNull)
-                    .map(ParticipantSummary::from)
-                    .toList();
+        public static PlannerEventResponse from(PlannerEvent event, ParticipantPreview participants,
+                                                Long currentUserId) {
+            return from(PlannerOccurrence.single(event), participants, currentUserId);
+        }
+
+        public static PlannerEventResponse from(PlannerOccurrence occurrence, ParticipantPreview participants,
+                                                Long currentUserId) {
+            PlannerEvent event = occurrence.event();
             return new PlannerEventResponse(
                     event.getId(),
                     event.getTitle(),
                     event.getDescription(),
-                    event.getStartDate(),
-                    event.getEndDate(),
-                    event.getStartTime(),
-                    event.getEndTime(),
+                    occurrence.startDate(),
+                    occurrence.endDate(),
+                    occurrence.startTime(),
+                    occurrence.endTime(),
                     event.getRemarks(),
                     event.getSupplies(),
                     event.getLocationName(),
                     event.getTags().stream().toList(),
-                    participantSummaries,
+                    participants.participants(),
+                    participants.count(),
                     event.getGuestNames(),
                     event.isShared(),
                     event.isShared() ? event.getShareCode() : null,
                     event.getOwner().getNickname(),
-                    currentUserId != null && Objects.equals(event.getOwner().getId(), currentUserId)
+                    currentUserId != null && Objects.equals(event.getOwner().getId(), currentUserId),
+                    event.getRecurrenceRule(),
+                    occurrence.occurrenceDate(),
+                    event.isCompleted()
+            );
+        }
+
+        public static PlannerEventResponse of(
+                PlannerEventRow row,
+                LocalDate occurrenceDate,
+                LocalDate startDate,
+                LocalDate endDate,
+                LocalTime startTime,
+                LocalTime endTime,
+                List<String> tags,
+                ParticipantPreview participants,
+                List<String> guestNames,
+                Long currentUserId
+        ) {
+            return new PlannerEventResponse(
+                    row.id(),
+                    row.title(),
+                    row.description(),
+                    startDate,
+                    endDate,
+                    startTime,
+                    endTime,
+                    row.remarks(),
+                    row.supplies(),
+                    row.locationName(),
+                    tags,
+                    participants.participants(),
+                    participants.count(),
+                    guestNames,
+                    row.shared(),
+                    row.shared() ? row.shareCode() : null,
+                    row.ownerName(),
+                    currentUserId != null && Objects.equals(row.ownerId(), currentUserId),
+                    row.recurrenceRule(),
+                    occurrenceDate,
+                    row.completedAt() != null
             );
         }
     }
 
     public record ShareToggleRequest(boolean shared) {
     }
+
+    public record CompletionRequest(boolean completed) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record StatsTag(String tag, long eventCount, long completedCount, long scheduledMinutes) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record StatsBucket(
+            LocalDate periodStart,
+            long eventCount,
+            long completedCount,
+            double completionRate,
+            long scheduledMinutes,
+            List<StatsTag> tags
+    ) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record StatsReport(String period, LocalDate from, LocalDate to, List<StatsBucket> buckets) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record FeedResponse(String token, String path) {
+        public static FeedResponse of(String token) {
+            return new FeedResponse(token, token == null ? null : "/api/planner/public/feed/" + token + ".ics");
+        }
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record TimeBlock(LocalDateTime start, LocalDateTime end) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record FreeBusyResponse(
+            List<Long> userIds,
+            LocalDateTime from,
+            LocalDateTime to,
+            List<TimeBlock> busy,
+            List<TimeBlock> free
+    ) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record ConflictCandidate(
+            Long eventId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalTime startTime,
+            LocalTime endTime,
+            String recurrence
+    ) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record ConflictCheckRequest(List<ConflictCandidate> events) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public record ConflictResult(
+            int index,
+            Long eventId,
+            List<Long> conflictingEventIds,
+            boolean truncated
+    ) {
+    }
 }
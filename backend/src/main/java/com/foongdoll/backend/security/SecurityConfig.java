@@ -1,4 +1,5 @@
 package com.foongdoll.backend.security;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -43,6 +44,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture, StreamingResponseBody)의 ASYNC 재디스패치.
+                        // 최초 요청에서 이미 인가를 통과했고, JWT 필터는 재디스패치에서 다시 돌지 않는다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Swagger & Docs
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         // Health/Actuator
@@ -0,0 +1,121 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void recallMatchesBruteForceOnFixedSet() {
+        Random random = new Random(7);
+        Map<Long, float[]> vectors = new HashMap<>();
+        HnswIndex index = new HnswIndex(DIMENSION);
+        for (long id = 1; id <= 1_000; id++) {
+            float[] vector = randomVector(random);
+            vectors.put(id, vector);
+            index.put(id, vector);
+        }
+
+        int k = 10;
+        int found = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Long> expected = new HashSet<>(bruteForce(vectors, query, k));
+            for (HnswIndex.Hit hit : index.search(query, k, 64)) {
+                if (expected.contains(hit.noteId())) found++;
+            }
+        }
+
+        double recall = (double) found / (queries * k);
+        assertThat(recall).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void exactVectorIsTopHit() {
+        HashingEmbeddingProvider provider = new HashingEmbeddingProvider();
+        HnswIndex index = new HnswIndex(provider.dimension());
+        String[] texts = {"주간 회의록", "장보기 목록 우유 계란", "여행 준비물 여권", "독서 노트 데미안", "운동 계획 스쿼트"};
+        for (int i = 0; i < texts.length; i++) {
+            index.put(i + 1L, provider.embed(texts[i]));
+        }
+
+        List<HnswIndex.Hit> hits = index.search(provider.embed("장보기 목록 우유 계란"), 1, 16);
+
+        assertThat(hits).extracting(HnswIndex.Hit::noteId).containsExactly(2L);
+    }
+
+    @Test
+    void removedNotesAreNeverReturned() {
+        Random random = new Random(11);
+        HnswIndex index = new HnswIndex(DIMENSION);
+        Map<Long, float[]> vectors = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            float[] vector = randomVector(random);
+            vectors.put(id, vector);
+            index.put(id, vector);
+        }
+        for (long id = 1; id <= 200; id += 2) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        for (long id = 1; id <= 200; id += 2) {
+            List<HnswIndex.Hit> hits = index.search(vectors.get(id), 10, 64);
+            assertThat(hits).hasSize(10);
+            for (HnswIndex.Hit hit : hits) {
+                assertThat(hit.noteId() % 2).isEqualTo(0L);
+            }
+        }
+    }
+
+    @Test
+    void updateReplacesPreviousVector() {
+        Random random = new Random(13);
+        HnswIndex index = new HnswIndex(DIMENSION);
+        for (long id = 1; id <= 200; id++) {
+            index.put(id, randomVector(random));
+        }
+        float[] moved = randomVector(random);
+
+        index.put(5L, moved);
+
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.search(moved, 1, 32)).extracting(HnswIndex.Hit::noteId).containsExactly(5L);
+        assertThat(index.liveVectors().get(5L)).isEqualTo(moved);
+        List<Long> ids = new ArrayList<>();
+        for (HnswIndex.Hit hit : index.search(moved, 200, 256)) {
+            ids.add(hit.noteId());
+        }
+        assertThat(ids.stream().filter(id -> id == 5L).count()).isEqualTo(1L);
+    }
+
+    private static List<Long> bruteForce(Map<Long, float[]> vectors, float[] query, int k) {
+        return vectors.entrySet().stream()
+                .sorted(Comparator.comparingDouble(entry -> -HnswIndex.dot(query, entry.getValue())))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        HashingEmbeddingProvider.normalize(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,123 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineDiffTest {
+
+    @Test
+    void identicalTextsAreOneEqualRun() {
+        List<String> lines = LineDiff.lines("a\nb\nc");
+
+        List<LineDiff.Edit> edits = LineDiff.diff(lines, lines);
+
+        assertThat(edits).extracting(LineDiff.Edit::op).containsExactly(LineDiff.Op.EQUAL);
+        assertThat(LineDiff.encodePatch(edits)).isEqualTo("=3");
+    }
+
+    @Test
+    void singleLineChangeKeepsSurroundingLines() {
+        List<LineDiff.Edit> edits = LineDiff.diff(LineDiff.lines("a\nb\nc"), LineDiff.lines("a\nB\nc"));
+
+        assertThat(edits).extracting(LineDiff.Edit::op)
+                .containsExactly(LineDiff.Op.EQUAL, LineDiff.Op.DELETE, LineDiff.Op.INSERT, LineDiff.Op.EQUAL);
+        assertThat(LineDiff.encodePatch(edits)).isEqualTo("=1\n-1\n+1\nB\n=1");
+    }
+
+    @Test
+    void patchRoundTripsEdgeCases() {
+        String[][] cases = {
+                {"", ""},
+                {"", "a\nb"},
+                {"a\nb", ""},
+                {"a\nb", "x\na\nb"},
+                {"a\nb", "a\nb\nx"},
+                {"a\nb\n", "a\nb"},
+                {"a\n\nb", "a\nb\n\n"},
+                {"+1\n=2\n-3", "=2\n+1"},
+                {"same\nsame\nsame", "same\nother\nsame\nsame"},
+        };
+        for (String[] pair : cases) {
+            assertRoundTrip(pair[0], pair[1]);
+        }
+    }
+
+    @Test
+    void patchRoundTripsRandomEdits() {
+        Random random = new Random(42);
+        for (int round = 0; round < 300; round++) {
+            List<String> base = randomLines(random, random.nextInt(60));
+            List<String> target = new ArrayList<>(base);
+            int edits = random.nextInt(10);
+            for (int i = 0; i < edits; i++) {
+                int at = target.isEmpty() ? 0 : random.nextInt(target.size());
+                switch (random.nextInt(3)) {
+                    case 0 -> target.add(at, "new-" + random.nextInt(5));
+                    case 1 -> {
+                        if (!target.isEmpty()) target.remove(at);
+                    }
+                    default -> {
+                        if (!target.isEmpty()) target.set(at, "changed-" + random.nextInt(5));
+                    }
+                }
+            }
+            assertRoundTrip(String.join("\n", base), String.join("\n", target));
+        }
+    }
+
+    @Test
+    void editDistanceWithinLimitStaysMinimal() {
+        // 기존 줄 사이마다 한 줄씩 250줄을 끼워 넣는다(편집 거리 250, 한도 안).
+        List<String> base = new ArrayList<>();
+        List<String> target = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            base.add("line-" + i);
+            target.add("line-" + i);
+            target.add("inserted-" + i);
+        }
+
+        List<LineDiff.Edit> edits = LineDiff.diff(base, target);
+
+        assertThat(edits).extracting(LineDiff.Edit::op).doesNotContain(LineDiff.Op.DELETE);
+        assertThat(LineDiff.applyPatch(base, LineDiff.encodePatch(edits))).isEqualTo(target);
+    }
+
+    @Test
+    void editDistanceOverLimitFallsBackToFullReplace() {
+        List<String> base = new ArrayList<>();
+        List<String> target = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            base.add("old-" + i);
+            target.add("new-" + i);
+        }
+        base.add(0, "header");
+        target.add(0, "header");
+
+        List<LineDiff.Edit> edits = LineDiff.diff(base, target);
+
+        assertThat(edits).extracting(LineDiff.Edit::op)
+                .containsExactly(LineDiff.Op.EQUAL, LineDiff.Op.DELETE, LineDiff.Op.INSERT);
+        assertThat(edits.get(1).lines()).hasSize(600);
+        assertThat(edits.get(2).lines()).hasSize(600);
+        assertThat(LineDiff.applyPatch(base, LineDiff.encodePatch(edits))).isEqualTo(target);
+    }
+
+    private static void assertRoundTrip(String before, String after) {
+        List<String> base = LineDiff.lines(before);
+        String patch = LineDiff.encodePatch(LineDiff.diff(base, LineDiff.lines(after)));
+        assertThat(String.join("\n", LineDiff.applyPatch(base, patch))).isEqualTo(after);
+    }
+
+    private static List<String> randomLines(Random random, int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add("line-" + random.nextInt(8));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,124 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteVectorStoreTest {
+
+    private final HashingEmbeddingProvider provider = new HashingEmbeddingProvider();
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempDirectory("note-vectors").resolve("1.vec");
+    }
+
+    @Test
+    void appendedVectorsSurviveReload() throws IOException {
+        float[] first = provider.embed("주간 회의록");
+        float[] second = provider.embed("장보기 목록");
+        NoteVectorStore store = open();
+        assertThat(store.isFresh()).isTrue();
+        store.append(1L, first);
+        store.append(2L, second);
+        store.append(3L, provider.embed("여행 준비물"));
+        store.appendDelete(3L);
+        store.close();
+
+        NoteVectorStore reopened = new NoteVectorStore(path, provider.dimension(), provider.id());
+        Map<Long, float[]> vectors = reopened.load();
+        reopened.close();
+
+        assertThat(reopened.isFresh()).isFalse();
+        assertThat(reopened.records()).isEqualTo(4L);
+        assertThat(vectors.keySet()).containsExactly(1L, 2L);
+        assertThat(vectors.get(1L)).isEqualTo(first);
+        assertThat(vectors.get(2L)).isEqualTo(second);
+    }
+
+    @Test
+    void laterRecordWinsOnReload() throws IOException {
+        float[] updated = provider.embed("수정된 본문");
+        NoteVectorStore store = open();
+        store.append(1L, provider.embed("처음 본문"));
+        store.append(1L, updated);
+        store.close();
+
+        NoteVectorStore reopened = new NoteVectorStore(path, provider.dimension(), provider.id());
+        Map<Long, float[]> vectors = reopened.load();
+        reopened.close();
+
+        assertThat(vectors.keySet()).containsExactly(1L);
+        assertThat(vectors.get(1L)).isEqualTo(updated);
+    }
+
+    @Test
+    void truncatedTailIsDroppedAndAppendsContinue() throws IOException {
+        NoteVectorStore store = open();
+        store.append(1L, provider.embed("주간 회의록"));
+        store.append(2L, provider.embed("장보기 목록"));
+        store.close();
+        long complete = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            // 쓰다 만 레코드: noteId 와 벡터 일부만 기록된 상태.
+            channel.write(ByteBuffer.allocate(Long.BYTES + Integer.BYTES + 100).putLong(3L).flip(), complete);
+        }
+
+        NoteVectorStore reopened = new NoteVectorStore(path, provider.dimension(), provider.id());
+        Map<Long, float[]> vectors = reopened.load();
+        assertThat(vectors.keySet()).containsExactly(1L, 2L);
+        assertThat(Files.size(path)).isEqualTo(complete);
+        assertThat(reopened.records()).isEqualTo(2L);
+
+        float[] third = provider.embed("여행 준비물");
+        reopened.append(3L, third);
+        reopened.close();
+        NoteVectorStore again = new NoteVectorStore(path, provider.dimension(), provider.id());
+        Map<Long, float[]> reloaded = again.load();
+        again.close();
+
+        assertThat(reloaded.keySet()).containsExactly(1L, 2L, 3L);
+        assertThat(reloaded.get(3L)).isEqualTo(third);
+    }
+
+    @Test
+    void providerChangeResetsFile() throws IOException {
+        NoteVectorStore store = open();
+        store.append(1L, provider.embed("주간 회의록"));
+        store.close();
+
+        NoteVectorStore other = new NoteVectorStore(path, provider.dimension(), "other-model");
+        Map<Long, float[]> vectors = other.load();
+        other.close();
+
+        assertThat(other.isFresh()).isTrue();
+        assertThat(vectors.isEmpty()).isTrue();
+        assertThat(Files.size(path)).isEqualTo(12L);
+    }
+
+    @Test
+    void embeddingIsDeterministicAndNormalized() {
+        float[] first = provider.embed("Dailyon 노트 검색");
+        float[] second = new HashingEmbeddingProvider().embed("Dailyon 노트 검색");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(HnswIndex.dot(first, first)).isBetween(0.999f, 1.001f);
+        assertThat(HnswIndex.dot(first, provider.embed("dailyon 노트"))).isGreaterThan(HnswIndex.dot(first, provider.embed("장보기 목록")));
+    }
+
+    private NoteVectorStore open() throws IOException {
+        NoteVectorStore store = new NoteVectorStore(path, provider.dimension(), provider.id());
+        store.load();
+        return store;
+    }
+}
@@ -0,0 +1,91 @@
+package com.foongdoll.backend.modules.note.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    private static final long BASE = 0x1234_5678_9ABC_DEF0L;
+
+    @Test
+    void bandsSplitFingerprintLowBitsFirst() {
+        assertThat(SimHash.band(BASE, 0)).isEqualTo(0xDEF0);
+        assertThat(SimHash.band(BASE, 1)).isEqualTo(0x9ABC);
+        assertThat(SimHash.band(BASE, 2)).isEqualTo(0x5678);
+        assertThat(SimHash.band(BASE, 3)).isEqualTo(0x1234);
+        assertThat(SimHash.band(-1L, 3)).isEqualTo(0xFFFF);
+    }
+
+    @Test
+    void fingerprintsWithinThresholdShareABand() {
+        // 서로 다른 세 밴드에서 한 비트씩: 거리 3 이어도 남은 한 밴드는 같다.
+        long near = BASE ^ (1L | 1L << 16 | 1L << 32);
+
+        assertThat(SimHash.distance(BASE, near)).isEqualTo(3);
+        assertThat(SimHash.band(near, 3)).isEqualTo(SimHash.band(BASE, 3));
+    }
+
+    @Test
+    void nearDuplicateTextsAreClose() {
+        String text = """
+                주간 회의록
+                - 신규 기능 일정: 다음 주 수요일까지 개발 완료, 목요일 배포
+                - 배포 절차: 스테이징 검증 후 운영 반영, 롤백 계획 문서화
+                - 장애 대응 담당자: 이번 주 김 담당, 다음 주 박 담당
+                - 다음 분기 목표: 응답 시간 개선과 모바일 화면 정리
+                - 채용 계획: 백엔드 한 명, 디자이너 한 명
+                - 스터디 주제: 데이터베이스 인덱스 설계
+                - 예산 집행 현황: 서버 비용 예산 대비 80% 사용
+                """;
+        long original = SimHash.of(text);
+
+        assertThat(SimHash.of(text)).isEqualTo(original);
+        assertThat(SimHash.distance(original, SimHash.of(text.replace("박 담당", "이 담당"))))
+                .isLessThanOrEqualTo(NoteFingerprintService.MAX_DISTANCE);
+        assertThat(SimHash.distance(original, SimHash.of(text + "- 기타: 없음")))
+                .isLessThanOrEqualTo(NoteFingerprintService.MAX_DISTANCE);
+        assertThat(SimHash.distance(original, SimHash.of("주말 장보기 목록: 우유, 계란, 사과, 두부, 대파, 쌀")))
+                .isGreaterThan(NoteFingerprintService.MAX_DISTANCE);
+        assertThat(SimHash.of("  ")).isEqualTo(0L);
+    }
+
+    @Test
+    void nearDuplicatesClusterAndDistinctDoNot() {
+        long near = BASE ^ 0b111L;
+        long spread = BASE ^ (1L | 1L << 16 | 1L << 32 | 1L << 48);
+        long sameBandsFar = BASE ^ 0b1111L;
+
+        List<List<Integer>> groups = NoteFingerprintService.group(new long[]{BASE, near, spread, sameBandsFar, ~BASE});
+
+        // spread 는 모든 밴드가 달라 후보가 되지 않고, sameBandsFar 는 밴드는 같지만 거리 4 라 묶이지 않는다.
+        // sameBandsFar 와 near 의 거리는 1 이므로 near 를 거쳐 같은 묶음이 된다.
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0)).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    void thresholdIsInclusive() {
+        long three = BASE ^ 0b111L;
+        long four = BASE ^ 0b1111_0000L;
+
+        assertThat(NoteFingerprintService.group(new long[]{BASE, three})).hasSize(1);
+        assertThat(NoteFingerprintService.group(new long[]{BASE, four})).isEmpty();
+    }
+
+    @Test
+    void unionFindJoinsChainsAndExactDuplicates() {
+        long step = BASE ^ 0b111L;
+        long chained = step ^ (0b111L << 16);
+        long separate = ~BASE;
+
+        List<List<Integer>> groups = NoteFingerprintService.group(new long[]{separate, BASE, step, separate, chained});
+
+        assertThat(SimHash.distance(BASE, chained)).isEqualTo(6);
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(0)).containsExactly(0, 3);
+        assertThat(groups.get(1)).containsExactly(1, 2, 4);
+    }
+}
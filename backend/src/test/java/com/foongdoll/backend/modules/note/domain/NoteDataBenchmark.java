@@ -0,0 +1,117 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foongdoll.backend.common.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Note.data 지연 파싱 전후의 할당량 비교. 두 쪽 모두 같은 방식으로 Note 엔티티를 만들고,
+ * eager* 는 여기에 예전 @PostLoad 파싱 + getData() 복사를 더한 기준선이다.
+ * <pre>./gradlew jmh --args="NoteDataBenchmark -prof gc"</pre>
+ * gc.alloc.rate.norm(B/op)을 보면 된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteDataBenchmark {
+
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @Param({"empty", "typical", "large"})
+    public String payload;
+
+    private String json;
+    private Constructor<Note> constructor;
+    private Field dataJson;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        json = switch (payload) {
+            case "empty" -> "{}";
+            case "typical" -> """
+                    {"priority":"high","due":"2025-03-14","rating":4,"done":false,\
+                    "link":"https://example.com/spec","checklist":["draft","review","publish"]}""";
+            default -> {
+                Map<String, Object> data = new LinkedHashMap<>();
+                for (int i = 0; i < 40; i++) {
+                    data.put("field" + i, i % 3 == 0 ? "value-" + i : i);
+                }
+                yield JsonUtils.toJson(data);
+            }
+        };
+        constructor = Note.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        dataJson = Note.class.getDeclaredField("dataJson");
+        dataJson.setAccessible(true);
+    }
+
+    /**
+     * 목록/삭제 경로: 엔티티만 올리고 data 는 보지 않는다.
+     */
+    @Benchmark
+    public void listEager(Blackhole blackhole) throws ReflectiveOperationException {
+        Note note = hydrate();
+        blackhole.consume(note);
+        blackhole.consume(legacyParse(json));
+    }
+
+    @Benchmark
+    public void listLazy(Blackhole blackhole) throws ReflectiveOperationException {
+        blackhole.consume(hydrate());
+    }
+
+    /**
+     * 상세 경로: 서비스와 응답 변환에서 getData() 를 두 번 부른다.
+     */
+    @Benchmark
+    public void detailEager(Blackhole blackhole) throws ReflectiveOperationException {
+        blackhole.consume(hydrate());
+        Map<String, Object> loaded = legacyParse(json);
+        blackhole.consume(JsonUtils.immutableCopy(loaded));
+        blackhole.consume(JsonUtils.immutableCopy(loaded));
+    }
+
+    @Benchmark
+    public void detailLazy(Blackhole blackhole) throws ReflectiveOperationException {
+        Note note = hydrate();
+        blackhole.consume(note.getData());
+        blackhole.consume(note.getData());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> legacyParse(String json) {
+        try {
+            return new LinkedHashMap<>(LEGACY_MAPPER.readValue(json, LinkedHashMap.class));
+        } catch (Exception e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    // Hibernate 처럼 기본 생성자로 만든 뒤 컬럼 값만 채운다.
+    private Note hydrate() throws ReflectiveOperationException {
+        Note note = constructor.newInstance();
+        dataJson.set(note, json);
+        return note;
+    }
+}
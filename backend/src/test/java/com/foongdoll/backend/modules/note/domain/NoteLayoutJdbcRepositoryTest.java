@@ -0,0 +1,115 @@
+package com.foongdoll.backend.modules.note.domain;
+
+import com.foongdoll.backend.modules.note.application.NoteService;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import com.foongdoll.backend.modules.user.domain.User;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import com.foongdoll.backend.security.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class NoteLayoutJdbcRepositoryTest {
+
+    @Autowired
+    private NoteLayoutJdbcRepository layoutRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private NoteCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser();
+        NoteCategory category = categoryRepository.save(NoteCategory.builder().owner(author).name("기본").build());
+        first = createNote(category, "첫째");
+        second = createNote(category, "둘째");
+        entityManager.flush();
+    }
+
+    @Test
+    void positionOnlyChunkKeepsLayout() {
+        int updated = layoutRepository.updateLayouts(author.getId(), List.of(
+                new NoteLayoutChange(first, 2.0, null),
+                new NoteLayoutChange(second, 1.0, null)));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(row(first)).containsEntry("position_index", 2.0).containsEntry("layout_w", 4);
+        assertThat(row(second)).containsEntry("position_index", 1.0).containsEntry("layout_w", 4);
+    }
+
+    @Test
+    void mixedChunkUpdatesLayoutOnlyWhereGiven() {
+        int updated = layoutRepository.updateLayouts(author.getId(), List.of(
+                new NoteLayoutChange(first, 3.0, new NoteLayout(5, 6, 7, 8)),
+                new NoteLayoutChange(second, 4.0, null)));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(row(first)).containsEntry("position_index", 3.0)
+                .containsEntry("layout_x", 5).containsEntry("layout_y", 6)
+                .containsEntry("layout_w", 7).containsEntry("layout_h", 8);
+        assertThat(row(second)).containsEntry("position_index", 4.0)
+                .containsEntry("layout_x", 0).containsEntry("layout_w", 4);
+    }
+
+    @Test
+    void otherAuthorsNotesAreSkipped() {
+        User stranger = saveUser();
+
+        int updated = layoutRepository.updateLayouts(stranger.getId(), List.of(new NoteLayoutChange(first, 9.0, null)));
+
+        assertThat(updated).isZero();
+    }
+
+    private Map<String, Object> row(Long noteId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT position_index, layout_x, layout_y, layout_w, layout_h
+                FROM notes WHERE note_id = ?
+                """, noteId);
+    }
+
+    private Long createNote(NoteCategory category, String title) {
+        return noteService.create(author.getId(), new NoteDtos.NoteUpsertRequest(
+                category.getId(), title, "본문", null, false, List.of(), Map.of(), null)).id();
+    }
+
+    private User saveUser() {
+        String unique = "layout-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@dailyon.test")
+                .password("{noop}password")
+                .nickname(unique)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.foongdoll.backend.modules.note.presentation;
+
+import com.foongdoll.backend.modules.note.application.NoteService;
+import com.foongdoll.backend.modules.note.domain.NoteCategory;
+import com.foongdoll.backend.modules.note.domain.NoteCategoryRepository;
+import com.foongdoll.backend.modules.note.presentation.dto.NoteDtos;
+import com.foongdoll.backend.modules.user.domain.User;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import com.foongdoll.backend.security.JwtTokenProvider;
+import com.foongdoll.backend.security.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class NoteControllerAsyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private NoteCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    void renderedHtmlIsWrittenOnAsyncDispatch() throws Exception {
+        User user = saveUser();
+        NoteCategory category = categoryRepository.save(NoteCategory.builder().owner(user).name("기본").build());
+        Long noteId = noteService.create(user.getId(), new NoteDtos.NoteUpsertRequest(
+                category.getId(), "제목", "# 안녕", null, false, List.of(), Map.of(), null)).id();
+        String token = tokenProvider.generateAccessToken(user.getId(), user.getUsername(), EnumSet.of(Role.USER));
+
+        MvcResult started = mockMvc.perform(get("/api/notes/{noteId}/html", noteId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.noteId").value(noteId));
+    }
+
+    private User saveUser() {
+        String unique = "async-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@dailyon.test")
+                .password("{noop}password")
+                .nickname(unique)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,153 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import com.foongdoll.backend.modules.user.domain.User;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import com.foongdoll.backend.security.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class PlannerConflictServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2031, 3, 3);
+
+    @Autowired
+    private PlannerConflictService conflictService;
+
+    @Autowired
+    private PlannerEventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser();
+    }
+
+    @Test
+    void singleCandidateOverlapsOnlyWithinInterval() {
+        Long meeting = create(DAY, 10, 11, null);
+        flush();
+
+        PlannerDtos.ConflictResult overlapping = checkOne(candidate(null, DAY, 10, 12, null));
+        PlannerDtos.ConflictResult adjacent = checkOne(candidate(null, DAY, 11, 12, null));
+
+        assertThat(overlapping.conflictingEventIds()).containsExactly(meeting);
+        assertThat(overlapping.truncated()).isFalse();
+        assertThat(adjacent.conflictingEventIds()).isEmpty();
+    }
+
+    @Test
+    void recurringCandidateFindsLaterOccurrenceAndSkipsCancelledOnes() {
+        Long later = create(DAY.plusWeeks(3), 9, 10, null);
+        Long series = create(DAY, 14, 15, "FREQ=WEEKLY");
+        eventService.cancelOccurrence(owner.getId(), series, DAY.plusWeeks(2));
+        flush();
+
+        PlannerDtos.ConflictResult weekly = checkOne(candidate(null, DAY.plusDays(7), 9, 10, "FREQ=WEEKLY;COUNT=4"));
+        PlannerDtos.ConflictResult onCancelled = checkOne(candidate(null, DAY.plusWeeks(2), 14, 15, null));
+        PlannerDtos.ConflictResult onOccurrence = checkOne(candidate(null, DAY.plusWeeks(1), 14, 15, null));
+
+        assertThat(weekly.conflictingEventIds()).containsExactly(later);
+        assertThat(onCancelled.conflictingEventIds()).isEmpty();
+        assertThat(onOccurrence.conflictingEventIds()).containsExactly(series);
+    }
+
+    @Test
+    void eventsMovedTogetherDoNotConflictWithEachOther() {
+        Long first = create(DAY, 10, 11, null);
+        Long second = create(DAY, 11, 12, null);
+        Long fixed = create(DAY, 12, 13, null);
+        flush();
+
+        List<PlannerDtos.ConflictResult> results = conflictService.check(owner.getId(), List.of(
+                candidate(first, DAY, 11, 12, null),
+                candidate(second, DAY, 12, 13, null)));
+
+        assertThat(results.get(0).conflictingEventIds()).isEmpty();
+        assertThat(results.get(1).conflictingEventIds()).containsExactly(fixed);
+    }
+
+    @Test
+    void truncatedOnlyWhenMoreConflictsThanReturned() {
+        for (int i = 0; i < 20; i++) {
+            create(DAY, 10, 11, null);
+        }
+        flush();
+
+        PlannerDtos.ConflictResult exact = checkOne(candidate(null, DAY, 10, 11, null));
+        create(DAY, 10, 11, null);
+        flush();
+        PlannerDtos.ConflictResult over = checkOne(candidate(null, DAY, 10, 11, null));
+
+        assertThat(exact.conflictingEventIds()).hasSize(20);
+        assertThat(exact.truncated()).isFalse();
+        assertThat(over.conflictingEventIds()).hasSize(20);
+        assertThat(over.truncated()).isTrue();
+    }
+
+    @Test
+    void oversizedCandidatesAreRejected() {
+        PlannerDtos.ConflictCandidate longEvent = new PlannerDtos.ConflictCandidate(null, DAY, DAY.plusYears(2), null, null, null);
+        PlannerDtos.ConflictCandidate farAway = candidate(null, DAY.plusYears(10), 10, 11, null);
+
+        assertThatThrownBy(() -> conflictService.check(owner.getId(), List.of(longEvent)))
+                .isInstanceOf(DailyonException.class);
+        assertThatThrownBy(() -> conflictService.check(owner.getId(), List.of(candidate(null, DAY, 10, 11, null), farAway)))
+                .isInstanceOf(DailyonException.class);
+    }
+
+    private PlannerDtos.ConflictResult checkOne(PlannerDtos.ConflictCandidate candidate) {
+        return conflictService.check(owner.getId(), List.of(candidate)).get(0);
+    }
+
+    private static PlannerDtos.ConflictCandidate candidate(Long eventId, LocalDate date, int fromHour, int toHour, String recurrence) {
+        return new PlannerDtos.ConflictCandidate(eventId, date, date, LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0), recurrence);
+    }
+
+    private Long create(LocalDate date, int fromHour, int toHour, String recurrence) {
+        return eventService.create(owner.getId(), new PlannerDtos.PlannerEventRequest(
+                "event", null, date, date, LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0), null, null, null,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, recurrence, null)).getId();
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User saveUser() {
+        String unique = "conflict-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@dailyon.test")
+                .password("{noop}password")
+                .nickname(unique)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,143 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.common.error.DailyonException;
+import com.foongdoll.backend.common.error.ErrorCode;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import com.foongdoll.backend.modules.user.domain.User;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import com.foongdoll.backend.security.Role;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlannerEventQueryServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2031, 3, 2);
+
+    @Autowired
+    private PlannerEventService eventService;
+
+    @Autowired
+    private PlannerEventQueryService queryService;
+
+    @Autowired
+    private PlannerMonthCache monthCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private User participant;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        owner = saveUser("owner");
+        participant = saveUser("participant");
+    }
+
+    @Test
+    void rangeQueryCountDoesNotGrowWithEvents() {
+        createEvents(3, null);
+        long few = countStatements(3);
+
+        createEvents(60, null);
+        long many = countStatements(63);
+
+        assertThat(few).isEqualTo(4);
+        assertThat(many).isEqualTo(few);
+    }
+
+    @Test
+    void recurringSeriesAddsSingleOverrideQuery() {
+        createEvents(2, null);
+        createEvents(3, "FREQ=DAILY;COUNT=5");
+
+        // 단일 2건 + 반복 3건 x 범위 안 발생 1건
+        assertThat(countStatements(5)).isEqualTo(5);
+    }
+
+    @Test
+    void openEndedSeriesRangeIsCapped() {
+        createEvents(1, "FREQ=DAILY");
+        entityManager.flush();
+        LocalDate last = DAY.plusDays(PlannerEventQueryService.MAX_DAYS - 1L);
+
+        assertThat(monthCache.getRange(owner.getId(), DAY, last)).hasSize(PlannerEventQueryService.MAX_DAYS);
+        assertThatThrownBy(() -> monthCache.getRange(owner.getId(), DAY, last.plusDays(1)))
+                .isInstanceOfSatisfying(DailyonException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR));
+        assertThatThrownBy(() -> monthCache.getRange(owner.getId(), DAY, LocalDate.of(9999, 12, 31)))
+                .isInstanceOf(DailyonException.class);
+    }
+
+    @Test
+    void invertedRangeIsRejected() {
+        assertThatThrownBy(() -> monthCache.getRange(owner.getId(), DAY, DAY.minusDays(1)))
+                .isInstanceOfSatisfying(DailyonException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR));
+        assertThatThrownBy(() -> queryService.getRange(owner.getId(), DAY, DAY.minusDays(1)))
+                .isInstanceOf(DailyonException.class);
+    }
+
+    private long countStatements(int expectedEvents) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<PlannerDtos.PlannerEventResponse> events = queryService.getRange(owner.getId(), DAY, DAY);
+
+        assertThat(events).hasSize(expectedEvents);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.tags()).containsExactlyInAnyOrder("work", "daily");
+            assertThat(event.guestNames()).containsExactly("kim", "lee");
+            assertThat(event.participants()).extracting(PlannerDtos.ParticipantSummary::id)
+                    .containsExactly(participant.getId());
+        });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createEvents(int count, String recurrence) {
+        for (int i = 0; i < count; i++) {
+            LocalDate start = recurrence == null ? DAY : DAY.minusDays(2);
+            eventService.create(owner.getId(), new PlannerDtos.PlannerEventRequest(
+                    "event-" + i, null, start, start, null, null, null, null, null,
+                    List.of("work", "daily"), List.of(participant.getId()), List.of("kim", "lee"), false, recurrence, null));
+        }
+    }
+
+    private User saveUser(String prefix) {
+        String unique = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@dailyon.test")
+                .password("{noop}password")
+                .nickname(unique)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlannerReminderSchedulerTest {
+
+    private static final LocalDate START = LocalDate.of(2031, 1, 1);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+    private static final RecurrenceRule DAILY = RecurrenceRule.parse("FREQ=DAILY");
+
+    @Test
+    void plainSeriesRemindsBeforeNextOccurrence() {
+        PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(DAILY, START, TEN, 30, Map.of(),
+                LocalDateTime.of(2031, 1, 2, 9, 31));
+
+        assertThat(next).isEqualTo(new PlannerReminderScheduler.Next(LocalDate.of(2031, 1, 3), LocalDateTime.of(2031, 1, 3, 9, 30)));
+    }
+
+    @Test
+    void cancelledOccurrenceIsSkipped() {
+        LocalDate second = START.plusDays(1);
+        Map<LocalDate, PlannerOccurrenceOverride> overrides = Map.of(second, cancelled(second));
+
+        PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(DAILY, START, TEN, 30, overrides,
+                LocalDateTime.of(2031, 1, 1, 10, 0));
+
+        assertThat(next.occurrenceDate()).isEqualTo(START.plusDays(2));
+        assertThat(next.remindAt()).isEqualTo(LocalDateTime.of(2031, 1, 3, 9, 30));
+    }
+
+    @Test
+    void movedOccurrenceRemindsAtItsNewTime() {
+        LocalDate second = START.plusDays(1);
+        Map<LocalDate, PlannerOccurrenceOverride> overrides = Map.of(second, moved(second, second, LocalTime.of(7, 0)));
+
+        PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(DAILY, START, TEN, 30, overrides,
+                LocalDateTime.of(2031, 1, 1, 10, 0));
+
+        // 원래 발생일을 그대로 들고 있어야 발송 시 예외를 다시 찾을 수 있다.
+        assertThat(next).isEqualTo(new PlannerReminderScheduler.Next(second, LocalDateTime.of(2031, 1, 2, 6, 30)));
+    }
+
+    @Test
+    void occurrenceMovedLaterDoesNotHideEarlierOnes() {
+        LocalDate second = START.plusDays(1);
+        Map<LocalDate, PlannerOccurrenceOverride> overrides = Map.of(second, moved(second, START.plusDays(5), LocalTime.of(8, 0)));
+        LocalDateTime afterFirst = LocalDateTime.of(2031, 1, 1, 9, 31);
+
+        PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(DAILY, START, TEN, 30, overrides, afterFirst);
+        PlannerReminderScheduler.Next later = PlannerReminderScheduler.next(DAILY, START, TEN, 30, overrides,
+                LocalDateTime.of(2031, 1, 5, 9, 31));
+
+        assertThat(next.occurrenceDate()).isEqualTo(START.plusDays(2));
+        assertThat(later).isEqualTo(new PlannerReminderScheduler.Next(second, LocalDateTime.of(2031, 1, 6, 7, 30)));
+    }
+
+    @Test
+    void finiteSeriesEndsWhenRemainingOccurrencesAreCancelled() {
+        RecurrenceRule twice = RecurrenceRule.parse("FREQ=DAILY;COUNT=2");
+        LocalDate second = START.plusDays(1);
+
+        PlannerReminderScheduler.Next next = PlannerReminderScheduler.next(twice, START, TEN, 30,
+                Map.of(second, cancelled(second)), LocalDateTime.of(2031, 1, 1, 10, 0));
+
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void overridesAreGroupedByEventAndOriginalDate() {
+        LocalDate second = START.plusDays(1);
+
+        Map<Long, Map<LocalDate, PlannerOccurrenceOverride>> grouped = PlannerReminderScheduler.groupOverrides(List.of(
+                new PlannerOccurrenceOverride(1L, START, true, null, null, null, null),
+                new PlannerOccurrenceOverride(1L, second, false, second, second, TEN, null),
+                new PlannerOccurrenceOverride(2L, START, true, null, null, null, null)));
+
+        assertThat(grouped.keySet()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(grouped.get(1L).keySet()).containsExactlyInAnyOrder(START, second);
+    }
+
+    private static PlannerOccurrenceOverride cancelled(LocalDate occurrence) {
+        return new PlannerOccurrenceOverride(1L, occurrence, true, null, null, null, null);
+    }
+
+    private static PlannerOccurrenceOverride moved(LocalDate occurrence, LocalDate date, LocalTime time) {
+        return new PlannerOccurrenceOverride(1L, occurrence, false, date, date, time, null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerStat;
+import com.foongdoll.backend.modules.planner.presentation.dto.PlannerDtos;
+import com.foongdoll.backend.modules.user.domain.User;
+import com.foongdoll.backend.modules.user.domain.UserRepository;
+import com.foongdoll.backend.security.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PlannerStatsReportTest {
+
+    private static final LocalDate DAY = LocalDate.of(2031, 3, 5);
+
+    @Autowired
+    private PlannerStatsService statsService;
+
+    @Autowired
+    private PlannerEventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User participant;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser();
+        participant = saveUser();
+    }
+
+    @Test
+    void ownerAndParticipantSeeTheSameRollup() {
+        create(DAY, "FREQ=DAILY;COUNT=2", List.of("work"), List.of(participant.getId()));
+        drain();
+
+        PlannerDtos.StatsReport mine = report(owner, DAY, DAY.plusDays(1));
+        PlannerDtos.StatsReport theirs = report(participant, DAY, DAY.plusDays(1));
+
+        assertThat(mine.buckets()).hasSize(2);
+        assertThat(mine.buckets().get(0).eventCount()).isEqualTo(1);
+        assertThat(mine.buckets().get(0).scheduledMinutes()).isEqualTo(60);
+        assertThat(mine.buckets().get(0).tags()).containsExactly(new PlannerDtos.StatsTag("work", 1, 0, 60));
+        assertThat(theirs.buckets()).isEqualTo(mine.buckets());
+    }
+
+    @Test
+    void eventsAreSummedPerUser() {
+        create(DAY, null, List.of("work"), List.of());
+        create(DAY, null, List.of("home"), List.of(participant.getId()));
+        drain();
+
+        PlannerDtos.StatsBucket mine = report(owner, DAY, DAY).buckets().get(0);
+        PlannerDtos.StatsBucket theirs = report(participant, DAY, DAY).buckets().get(0);
+
+        assertThat(mine.eventCount()).isEqualTo(2);
+        assertThat(mine.scheduledMinutes()).isEqualTo(120);
+        assertThat(mine.tags()).containsExactly(
+                new PlannerDtos.StatsTag("home", 1, 0, 60),
+                new PlannerDtos.StatsTag("work", 1, 0, 60));
+        assertThat(theirs.eventCount()).isEqualTo(1);
+        assertThat(theirs.tags()).containsExactly(new PlannerDtos.StatsTag("home", 1, 0, 60));
+    }
+
+    @Test
+    void removedParticipantAndDeletedEventLeaveTheRollup() {
+        Long eventId = create(DAY, null, List.of("work"), List.of(participant.getId()));
+        drain();
+
+        eventService.update(owner.getId(), eventId, request(DAY, null, List.of("work"), List.of()));
+        drain();
+
+        assertThat(report(participant, DAY, DAY).buckets()).isEmpty();
+        assertThat(report(owner, DAY, DAY).buckets()).hasSize(1);
+
+        eventService.delete(owner.getId(), eventId);
+        drain();
+
+        assertThat(report(owner, DAY, DAY).buckets()).isEmpty();
+    }
+
+    @Test
+    void oldOpenEndedSeriesShowsUpToday() {
+        LocalDate today = LocalDate.now();
+        create(today.minusYears(3), "FREQ=DAILY", List.of(), List.of());
+        drain();
+
+        List<PlannerDtos.StatsBucket> buckets = report(owner, today, today).buckets();
+
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).eventCount()).isEqualTo(1);
+    }
+
+    private void drain() {
+        entityManager.flush();
+        entityManager.clear();
+        while (statsService.refresh(100) > 0) {
+            // 대기열이 빌 때까지
+        }
+    }
+
+    private PlannerDtos.StatsReport report(User user, LocalDate from, LocalDate to) {
+        return statsService.report(user.getId(), PlannerStat.Period.DAY, from, to);
+    }
+
+    private Long create(LocalDate date, String recurrence, List<String> tags, List<Long> participantIds) {
+        return eventService.create(owner.getId(), request(date, recurrence, tags, participantIds)).getId();
+    }
+
+    private static PlannerDtos.PlannerEventRequest request(LocalDate date, String recurrence, List<String> tags,
+                                                           List<Long> participantIds) {
+        return new PlannerDtos.PlannerEventRequest(
+                "event", null, date, date, LocalTime.of(9, 0), LocalTime.of(10, 0), null, null, null,
+                new ArrayList<>(tags), new ArrayList<>(participantIds), new ArrayList<>(), false, recurrence, null);
+    }
+
+    private User saveUser() {
+        String unique = "stats-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@dailyon.test")
+                .password("{noop}password")
+                .nickname(unique)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+}
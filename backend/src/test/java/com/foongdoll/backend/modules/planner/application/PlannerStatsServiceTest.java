@@ -0,0 +1,151 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import com.foongdoll.backend.modules.planner.domain.PlannerOccurrenceOverride;
+import com.foongdoll.backend.modules.planner.domain.PlannerStat;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.Contribution;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.EventScan;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.Key;
+import com.foongdoll.backend.modules.planner.domain.PlannerStatsJdbcRepository.UserDelta;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlannerStatsServiceTest {
+
+    // 2031-01-01 은 수요일이고, 그 주 월요일은 2030-12-30 이다.
+    private static final LocalDate WEDNESDAY = LocalDate.of(2031, 1, 1);
+    private static final LocalDate MONDAY = LocalDate.of(2030, 12, 30);
+    private static final LocalDate TODAY = LocalDate.of(2031, 6, 1);
+
+    @Test
+    void singleEventAddsDayAndWeekBucketsPerTag() {
+        EventScan event = new EventScan(1L, WEDNESDAY, WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(11, 30), null, true);
+
+        Map<Key, long[]> totals = accumulate(event, Set.of("work"), Map.of());
+
+        assertThat(totals.keySet()).containsExactlyInAnyOrder(
+                new Key(1L, PlannerStat.Period.DAY, WEDNESDAY, PlannerStat.TOTAL),
+                new Key(1L, PlannerStat.Period.DAY, WEDNESDAY, "work"),
+                new Key(1L, PlannerStat.Period.WEEK, MONDAY, PlannerStat.TOTAL),
+                new Key(1L, PlannerStat.Period.WEEK, MONDAY, "work"));
+        assertThat(totals.get(new Key(1L, PlannerStat.Period.WEEK, MONDAY, "work"))).isEqualTo(new long[]{1, 1, 90});
+    }
+
+    @Test
+    void allDayAndOpenEndedTimesUseFixedMinutes() {
+        Map<Key, long[]> allDay = accumulate(new EventScan(1L, WEDNESDAY, WEDNESDAY.plusDays(1), null, null, null, false), Set.of(), Map.of());
+        Map<Key, long[]> noEnd = accumulate(new EventScan(2L, WEDNESDAY, WEDNESDAY, LocalTime.of(9, 0), null, null, false), Set.of(), Map.of());
+
+        assertThat(allDay.get(new Key(1L, PlannerStat.Period.DAY, WEDNESDAY, PlannerStat.TOTAL))).isEqualTo(new long[]{1, 0, 0});
+        assertThat(noEnd.get(new Key(2L, PlannerStat.Period.DAY, WEDNESDAY, PlannerStat.TOTAL))).isEqualTo(new long[]{1, 0, 60});
+    }
+
+    @Test
+    void oldOpenEndedSeriesCountsAroundToday() {
+        EventScan series = new EventScan(1L, LocalDate.of(2020, 1, 6), LocalDate.of(2020, 1, 6),
+                LocalTime.of(9, 0), LocalTime.of(10, 0), "FREQ=DAILY", false);
+
+        Map<Key, long[]> totals = accumulate(series, Set.of(), Map.of());
+
+        long days = totals.keySet().stream().filter(key -> key.period() == PlannerStat.Period.DAY).count();
+        assertThat(days).isEqualTo(2L * PlannerStatsService.HORIZON_DAYS + 1);
+        assertThat(totals.containsKey(new Key(1L, PlannerStat.Period.DAY, TODAY, PlannerStat.TOTAL))).isTrue();
+        assertThat(totals.containsKey(new Key(1L, PlannerStat.Period.DAY,
+                TODAY.minusDays(PlannerStatsService.HORIZON_DAYS + 1L), PlannerStat.TOTAL))).isFalse();
+        assertThat(totals.containsKey(new Key(1L, PlannerStat.Period.DAY,
+                TODAY.plusDays(PlannerStatsService.HORIZON_DAYS + 1L), PlannerStat.TOTAL))).isFalse();
+    }
+
+    @Test
+    void seriesEndedBeforeWindowContributesNothing() {
+        EventScan series = new EventScan(1L, LocalDate.of(2020, 1, 6), LocalDate.of(2020, 1, 6),
+                LocalTime.of(9, 0), LocalTime.of(10, 0), "FREQ=DAILY;COUNT=5", false);
+
+        assertThat(accumulate(series, Set.of(), Map.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void overridesMoveAndCancelOccurrences() {
+        LocalDate first = TODAY;
+        LocalDate second = TODAY.plusDays(7);
+        LocalDate moved = TODAY.plusDays(9);
+        EventScan series = new EventScan(1L, first, first, LocalTime.of(9, 0), LocalTime.of(10, 0), "FREQ=WEEKLY;COUNT=3", true);
+        Map<LocalDate, PlannerOccurrenceOverride> overrides = Map.of(
+                first, new PlannerOccurrenceOverride(1L, first, true, null, null, null, null),
+                second, new PlannerOccurrenceOverride(1L, second, false, moved, moved, LocalTime.of(9, 0), LocalTime.of(9, 30)));
+
+        Map<Key, long[]> totals = accumulate(series, Set.of(), overrides);
+
+        assertThat(totals.containsKey(new Key(1L, PlannerStat.Period.DAY, first, PlannerStat.TOTAL))).isFalse();
+        assertThat(totals.containsKey(new Key(1L, PlannerStat.Period.DAY, second, PlannerStat.TOTAL))).isFalse();
+        // 반복 일정의 완료 표시는 발생별로 세지 않는다.
+        assertThat(totals.get(new Key(1L, PlannerStat.Period.DAY, moved, PlannerStat.TOTAL))).isEqualTo(new long[]{1, 0, 30});
+        assertThat(totals.get(new Key(1L, PlannerStat.Period.DAY, TODAY.plusDays(14), PlannerStat.TOTAL))).isEqualTo(new long[]{1, 0, 60});
+    }
+
+    @Test
+    void userDeltasAddOnlyWhatChangedForRemainingViewers() {
+        List<Contribution> previous = List.of(
+                contribution(1L, PlannerStat.TOTAL, 1, 0, 60),
+                contribution(1L, "work", 1, 0, 60));
+        List<Contribution> next = List.of(
+                contribution(1L, PlannerStat.TOTAL, 1, 1, 90),
+                contribution(1L, "home", 1, 1, 90));
+
+        List<UserDelta> deltas = PlannerStatsService.userDeltas(previous, Map.of(1L, Set.of(10L, 20L)),
+                next, Map.of(1L, Set.of(10L, 30L)));
+
+        assertThat(deltas).containsExactly(
+                delta(10L, PlannerStat.TOTAL, 0, 1, 30),
+                delta(10L, "home", 1, 1, 90),
+                delta(10L, "work", -1, 0, -60),
+                delta(20L, PlannerStat.TOTAL, -1, 0, -60),
+                delta(20L, "work", -1, 0, -60),
+                delta(30L, PlannerStat.TOTAL, 1, 1, 90),
+                delta(30L, "home", 1, 1, 90));
+    }
+
+    @Test
+    void userDeltasSkipUnchangedRowsAndSumAcrossEvents() {
+        List<Contribution> rows = List.of(contribution(1L, PlannerStat.TOTAL, 1, 0, 60));
+
+        assertThat(PlannerStatsService.userDeltas(rows, Map.of(1L, Set.of(10L)), rows, Map.of(1L, Set.of(10L))))
+                .isEmpty();
+        assertThat(PlannerStatsService.userDeltas(List.of(), Map.of(),
+                List.of(contribution(1L, PlannerStat.TOTAL, 1, 0, 60), contribution(2L, PlannerStat.TOTAL, 2, 1, 30)),
+                Map.of(1L, Set.of(10L), 2L, Set.of(10L))))
+                .containsExactly(delta(10L, PlannerStat.TOTAL, 3, 1, 90));
+    }
+
+    @Test
+    void deletedEventIsSubtractedFromEveryoneItWasAppliedTo() {
+        List<Contribution> previous = List.of(contribution(1L, PlannerStat.TOTAL, 2, 1, 120));
+
+        List<UserDelta> deltas = PlannerStatsService.userDeltas(previous, Map.of(1L, Set.of(10L, 20L)), List.of(), Map.of());
+
+        assertThat(deltas).containsExactly(
+                delta(10L, PlannerStat.TOTAL, -2, -1, -120),
+                delta(20L, PlannerStat.TOTAL, -2, -1, -120));
+    }
+
+    private static Contribution contribution(Long eventId, String tag, long events, long completed, long minutes) {
+        return new Contribution(new Key(eventId, PlannerStat.Period.DAY, WEDNESDAY, tag), events, completed, minutes);
+    }
+
+    private static UserDelta delta(Long userId, String tag, long events, long completed, long minutes) {
+        return new UserDelta(userId, PlannerStat.Period.DAY, WEDNESDAY, tag, events, completed, minutes);
+    }
+
+    private static Map<Key, long[]> accumulate(EventScan event, Set<String> tags, Map<LocalDate, PlannerOccurrenceOverride> overrides) {
+        Map<Key, long[]> totals = new HashMap<>();
+        PlannerStatsService.accumulate(totals, event, tags, overrides, TODAY);
+        return totals;
+    }
+}
@@ -0,0 +1,129 @@
+package com.foongdoll.backend.modules.planner.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    // tick 10ms, 슬롯 4개, 2단 → 한 바퀴는 16 tick(160ms)이다.
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 4;
+    private static final int LEVELS = 2;
+
+    @Test
+    void pastDeadlineIsRejected() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, LEVELS, 1_000);
+
+        assertThat(wheel.add(1_000, "now")).isFalse();
+        assertThat(wheel.add(990, "past")).isFalse();
+        assertThat(wheel.add(1_010, "next")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void levelZeroEntryFiresOnItsTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, LEVELS, 1_000);
+        wheel.add(1_030, "a");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_029, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(1_030, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void upperLevelEntryCascadesAndFiresOnItsTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, LEVELS, 1_000);
+        for (long deadline = 1_050; deadline <= 1_150; deadline += 10) {
+            wheel.add(deadline, deadline);
+        }
+
+        assertThat(fireTickByTick(wheel, 1_000, 1_200)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void overflowEntryFiresOnItsTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, LEVELS, 1_000);
+        // 한 바퀴(160ms)를 넘는 만기는 overflow 에 들어갔다가 내려온다.
+        wheel.add(1_170, 1_170L);
+        wheel.add(1_400, 1_400L);
+        wheel.add(2_010, 2_010L);
+
+        assertThat(fireTickByTick(wheel, 1_000, 2_100)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void largeAdvanceFiresEverythingDueInOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, LEVELS, 1_000);
+        wheel.add(1_500, 1_500L);
+        wheel.add(1_020, 1_020L);
+        wheel.add(1_170, 1_170L);
+        wheel.add(3_000, 3_000L);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(1_600, fired::add);
+
+        assertThat(fired).containsExactly(1_020L, 1_170L, 1_500L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void randomDeadlinesFireExactlyOnTheirTick() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            int wheelSize = 2 + random.nextInt(6);
+            int levels = 1 + random.nextInt(3);
+            long start = random.nextInt(10_000);
+            int span = (int) Math.pow(wheelSize, levels);
+            TimingWheel<Long> wheel = new TimingWheel<>(1, wheelSize, levels, start);
+
+            List<Long> late = new ArrayList<>();
+            long now = start;
+            for (int step = 0; step < 300; step++) {
+                if (random.nextInt(3) == 0) {
+                    long deadline = now + 1 + random.nextInt(span * 3);
+                    wheel.add(deadline, deadline);
+                }
+                long previous = now;
+                now += 1 + random.nextInt(span);
+                long current = now;
+                wheel.advance(now, deadline -> {
+                    if (deadline <= previous || deadline > current) {
+                        late.add(deadline);
+                    }
+                });
+            }
+            wheel.advance(now + span * 4L, deadline -> {
+            });
+
+            assertThat(late).isEmpty();
+            assertThat(wheel.size()).isEqualTo(0);
+        }
+    }
+
+    /**
+     * tick 마다 휠을 돌리며 제 tick 에 발화하지 않은 항목을 모은다.
+     */
+    private static List<Long> fireTickByTick(TimingWheel<Long> wheel, long from, long to) {
+        List<Long> wrong = new ArrayList<>();
+        for (long now = from + TICK; now <= to; now += TICK) {
+            long current = now;
+            wheel.advance(now, deadline -> {
+                if (deadline != current) {
+                    wrong.add(deadline);
+                }
+            });
+        }
+        return wrong;
+    }
+}
@@ -0,0 +1,126 @@
+package com.foongdoll.backend.modules.planner.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceRuleTest {
+
+    // 2031-01-01 은 수요일이다.
+    private static final LocalDate WEDNESDAY = LocalDate.of(2031, 1, 1);
+
+    @Test
+    void weeklyCursorFromMidSeriesKeepsCountPosition() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=7");
+
+        List<LocalDate> all = occurrences(rule, WEDNESDAY, WEDNESDAY);
+
+        assertThat(all).containsExactly(
+                LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 3),
+                LocalDate.of(2031, 1, 6), LocalDate.of(2031, 1, 8), LocalDate.of(2031, 1, 10),
+                LocalDate.of(2031, 1, 13), LocalDate.of(2031, 1, 15));
+        // 시작 주의 월요일(시작일 이전)은 세지 않아야 뒤에서 시작한 커서도 같은 곳에서 끝난다.
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(occurrences(rule, WEDNESDAY, all.get(i))).isEqualTo(all.subList(i, all.size()));
+        }
+        assertThat(occurrences(rule, WEDNESDAY, LocalDate.of(2031, 1, 16))).isEmpty();
+    }
+
+    @Test
+    void weeklyCursorInSkippedWeekStartsAtNextActivePeriod() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=5");
+
+        List<LocalDate> all = occurrences(rule, WEDNESDAY, WEDNESDAY);
+        List<LocalDate> fromSkippedWeek = occurrences(rule, WEDNESDAY, LocalDate.of(2031, 1, 7));
+
+        assertThat(all).containsExactly(
+                LocalDate.of(2031, 1, 2),
+                LocalDate.of(2031, 1, 13), LocalDate.of(2031, 1, 16),
+                LocalDate.of(2031, 1, 27), LocalDate.of(2031, 1, 30));
+        assertThat(fromSkippedWeek).isEqualTo(all.subList(1, all.size()));
+    }
+
+    @Test
+    void weeklyWithoutByDayUsesStartWeekday() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;COUNT=3");
+
+        assertThat(occurrences(rule, WEDNESDAY, LocalDate.of(2030, 12, 1))).containsExactly(
+                LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 8), LocalDate.of(2031, 1, 15));
+    }
+
+    @Test
+    void monthlyDay31SkipsShortMonthsWithoutCountingThem() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31;COUNT=4");
+        LocalDate start = LocalDate.of(2031, 1, 31);
+
+        assertThat(occurrences(rule, start, start)).containsExactly(
+                LocalDate.of(2031, 1, 31), LocalDate.of(2031, 3, 31),
+                LocalDate.of(2031, 5, 31), LocalDate.of(2031, 7, 31));
+        assertThat(occurrences(rule, start, LocalDate.of(2031, 4, 1))).containsExactly(
+                LocalDate.of(2031, 5, 31), LocalDate.of(2031, 7, 31));
+        assertThat(rule.lastOccurrence(start)).isEqualTo(LocalDate.of(2031, 7, 31));
+        assertThat(rule.occursOn(start, LocalDate.of(2031, 4, 30))).isFalse();
+    }
+
+    @Test
+    void monthlyByMonthDayBeforeStartDayBeginsNextMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=10;COUNT=2");
+        LocalDate start = LocalDate.of(2031, 1, 15);
+
+        assertThat(occurrences(rule, start, start)).containsExactly(
+                LocalDate.of(2031, 2, 10), LocalDate.of(2031, 3, 10));
+    }
+
+    @Test
+    void monthlyIntervalStepsFromStartMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=4;COUNT=3");
+        LocalDate start = LocalDate.of(2031, 10, 30);
+
+        // 2032년 2월은 30일이 없어 건너뛰고 COUNT 에도 들어가지 않는다.
+        assertThat(occurrences(rule, start, start)).containsExactly(
+                LocalDate.of(2031, 10, 30), LocalDate.of(2032, 6, 30), LocalDate.of(2032, 10, 30));
+    }
+
+    @Test
+    void yearlyFeb29OnlyOccursInLeapYears() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;COUNT=3");
+        LocalDate start = LocalDate.of(2028, 2, 29);
+
+        assertThat(occurrences(rule, start, start)).containsExactly(
+                LocalDate.of(2028, 2, 29), LocalDate.of(2032, 2, 29), LocalDate.of(2036, 2, 29));
+        assertThat(occurrences(rule, start, LocalDate.of(2029, 1, 1))).containsExactly(
+                LocalDate.of(2032, 2, 29), LocalDate.of(2036, 2, 29));
+        assertThat(rule.occursOn(start, LocalDate.of(2029, 2, 28))).isFalse();
+        assertThat(rule.lastOccurrence(start)).isEqualTo(LocalDate.of(2036, 2, 29));
+    }
+
+    @Test
+    void yearlyFeb29SkipsCenturyNonLeapYear() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=4;UNTIL=21050101");
+        LocalDate start = LocalDate.of(2096, 2, 29);
+
+        assertThat(occurrences(rule, start, start)).containsExactly(
+                LocalDate.of(2096, 2, 29), LocalDate.of(2104, 2, 29));
+    }
+
+    @Test
+    void untilIsInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;UNTIL=20310107");
+
+        assertThat(occurrences(rule, WEDNESDAY, LocalDate.of(2031, 1, 2))).containsExactly(
+                LocalDate.of(2031, 1, 4), LocalDate.of(2031, 1, 7));
+    }
+
+    private static List<LocalDate> occurrences(RecurrenceRule rule, LocalDate start, LocalDate from) {
+        RecurrenceRule.Cursor cursor = rule.cursor(start, from);
+        List<LocalDate> days = new ArrayList<>();
+        for (long day = cursor.next(); day != RecurrenceRule.Cursor.DONE && days.size() < 100; day = cursor.next()) {
+            days.add(LocalDate.ofEpochDay(day));
+        }
+        return days;
+    }
+}
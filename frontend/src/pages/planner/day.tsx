@@ -237,6 +237,8 @@ export default function PlannerDayPage() {
                           ...event.participants.map((user) => user.nickname ?? user.email),
                           ...event.guestNames,
                         ].join(", ")}
+                        {event.participantCount > event.participants.length &&
+                          ` 외 ${event.participantCount - event.participants.length}명`}
                       </div>
                     )}
 
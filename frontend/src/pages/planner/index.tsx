@@ -17,6 +17,7 @@ import {
 import {
   createPlannerEvent,
   deletePlannerEvent,
+  fetchAllPlannerParticipants,
   fetchPlannerEvents,
   togglePlannerEventShare,
   updatePlannerEvent,
@@ -768,6 +769,26 @@ function PlannerEventModal({ state, onClose, onSubmit, onDelete, onToggleShare,
     event?.participants ?? []
   );
   const [guestNames, setGuestNames] = useState<string[]>(event?.guestNames ?? []);
+  // 응답에는 참여자 앞쪽 일부만 오므로, 저장 시 나머지가 빠지지 않게 수정 전에 전체를 받아 둔다.
+  const participantsTruncated = Boolean(event && event.participantCount > event.participants.length);
+  const [participantsLoading, setParticipantsLoading] = useState(participantsTruncated);
+
+  useEffect(() => {
+    if (!event || !participantsTruncated) return;
+    let cancelled = false;
+    fetchAllPlannerParticipants(event.id)
+      .then((list) => {
+        if (cancelled) return;
+        setSelectedParticipants(list);
+        setParticipantsLoading(false);
+      })
+      .catch(() => {
+        if (!cancelled) toast.error("참여자 목록을 불러오지 못했습니다.");
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, [event, participantsTruncated]);
 
   useEffect(() => {
     if (singleDay) {
@@ -1169,7 +1190,7 @@ function PlannerEventModal({ state, onClose, onSubmit, onDelete, onToggleShare,
             <button
               onClick={() => submit(event?.id)}
               className="inline-flex items-center gap-2 rounded-xl bg-sky-500 px-4 py-2 text-sm font-semibold text-slate-950 transition hover:bg-sky-400 disabled:opacity-50"
-              disabled={loading}
+              disabled={loading || participantsLoading}
             >
               <Clock className="h-4 w-4" />
               {isEdit ? "저장" : "등록"}
@@ -24,7 +24,8 @@ export default function PlannerSharePage() {
       ...event.participants.map((p) => p.nickname ?? p.email),
       ...event.guestNames,
     ];
-    return names.join(", ");
+    const hidden = event.participantCount - event.participants.length;
+    return hidden > 0 ? `${names.join(", ")} 외 ${hidden}명` : names.join(", ");
   }, [event]);
 
   if (!code) {
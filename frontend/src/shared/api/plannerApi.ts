@@ -1,6 +1,11 @@
 import { request } from "../lib/axios";
 import type { ApiResponse } from "./types";
-import type { PlannerEvent, PlannerEventRequest } from "../types/planner";
+import type {
+  PlannerEvent,
+  PlannerEventRequest,
+  PlannerParticipant,
+  PlannerParticipantPage,
+} from "../types/planner";
 
 export type PlannerEventListParams = {
   startDate: string;
@@ -17,6 +22,29 @@ export async function fetchPlannerEvent(id: number): Promise<PlannerEvent> {
   return res.data;
 }
 
+export async function fetchPlannerParticipants(
+  id: number,
+  afterUserId?: number | null,
+  size = 200
+): Promise<PlannerParticipantPage> {
+  const res = await request.get<ApiResponse<PlannerParticipantPage>>(`/planner/events/${id}/participants`, {
+    afterUserId: afterUserId ?? undefined,
+    size,
+  });
+  return res.data;
+}
+
+export async function fetchAllPlannerParticipants(id: number): Promise<PlannerParticipant[]> {
+  const all: PlannerParticipant[] = [];
+  let cursor: number | null = null;
+  do {
+    const page = await fetchPlannerParticipants(id, cursor);
+    all.push(...page.participants);
+    cursor = page.hasNext ? page.nextCursor : null;
+  } while (cursor !== null);
+  return all;
+}
+
 export async function createPlannerEvent(payload: PlannerEventRequest): Promise<PlannerEvent> {
   const res = await request.post<ApiResponse<PlannerEvent>>("/planner/events", payload);
   return res.data;
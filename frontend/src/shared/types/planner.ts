@@ -4,6 +4,12 @@ export type PlannerParticipant = {
   email: string;
 };
 
+export type PlannerParticipantPage = {
+  participants: PlannerParticipant[];
+  nextCursor: number | null;
+  hasNext: boolean;
+};
+
 export type PlannerEvent = {
   id: number;
   title: string;
@@ -16,7 +22,9 @@ export type PlannerEvent = {
   supplies?: string | null;
   location?: string | null;
   tags: string[];
+  /** 앞쪽 일부만 담긴다. 전체는 participantCount, 나머지는 fetchAllPlannerParticipants 로 받는다. */
   participants: PlannerParticipant[];
+  participantCount: number;
   guestNames: string[];
   shared: boolean;
   shareCode?: string | null;